@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorBulkhead;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy executor bulkhead exporter.
+ */
+public final class ProxyExecutorBulkheadExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_executor_bulkhead",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Saturation of executor bulkhead of each data source. active_count, max_size, queued_count, queue_remaining_capacity and rejected_count are reported",
+            Arrays.asList("data_source", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ExecutorBulkhead each : BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getBulkheads().values()) {
+            result.addMetric(Arrays.asList(each.getName(), "active_count"), each.getActiveCount());
+            result.addMetric(Arrays.asList(each.getName(), "max_size"), each.getMaxSize());
+            result.addMetric(Arrays.asList(each.getName(), "queued_count"), each.getQueuedCount());
+            result.addMetric(Arrays.asList(each.getName(), "queue_remaining_capacity"), each.getQueueRemainingCapacity());
+            result.addMetric(Arrays.asList(each.getName(), "rejected_count"), each.getRejectedCount());
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.ProxyContextRestorer;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ProxyExecutionPlanCacheExporterTest extends ProxyContextRestorer {
+    
+    @After
+    public void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_execution_plan_cache", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Collections.singletonList("name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    public void assertExportWithoutContextManager() {
+        ProxyContext.init(null);
+        assertFalse(new ProxyExecutionPlanCacheExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    public void assertExportWithContextManager() {
+        ExecutionPlanCache executionPlanCache = mock(ExecutionPlanCache.class);
+        when(executionPlanCache.getHitCount()).thenReturn(8L);
+        when(executionPlanCache.getMissCount()).thenReturn(2L);
+        when(executionPlanCache.getEvictionCount()).thenReturn(1L);
+        when(executionPlanCache.getSize()).thenReturn(1L);
+        ContextManager contextManager = mock(ContextManager.class);
+        when(contextManager.getExecutionPlanCache()).thenReturn(executionPlanCache);
+        ProxyContext.init(contextManager);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyExecutionPlanCacheExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is("hit_count=8, miss_count=2, eviction_count=1, size=1"));
+    }
+}
@@ -58,6 +58,26 @@ public interface DatabasePacketCodecEngine<T extends DatabasePacket<?>> {
      */
     void encode(ChannelHandlerContext context, T message, ByteBuf out);
     
+    /**
+     * Encode into batch, which will be written with other packets in batch as a whole.
+     *
+     * @param context channel handler context
+     * @param message message of database packet
+     * @param batch batch to be appended
+     */
+    default void encodeInBatch(final ChannelHandlerContext context, final T message, final ByteBuf batch) {
+        encode(context, message, batch);
+    }
+    
+    /**
+     * Prepare batch before written.
+     *
+     * @param context channel handler context
+     * @param batch batch of encoded packets
+     */
+    default void prepareBatch(final ChannelHandlerContext context, final ByteBuf batch) {
+    }
+    
     /**
      * Create packet payload.
      *
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.db.protocol.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
 
 import java.util.List;
 
@@ -48,12 +50,29 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket<?>> {
         databasePacketCodecEngine.decode(context, in, out);
     }
     
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext context, final DatabasePacket<?> message, final boolean preferDirect) throws Exception {
+        return message instanceof DatabasePacketBatch ? Unpooled.EMPTY_BUFFER : super.allocateBuffer(context, message, preferDirect);
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     protected void encode(final ChannelHandlerContext context, final DatabasePacket<?> message, final ByteBuf out) {
+        if (message instanceof DatabasePacketBatch) {
+            writeBatch(context, ((DatabasePacketBatch) message).content());
+            return;
+        }
         databasePacketCodecEngine.encode(context, message, out);
         if (log.isDebugEnabled()) {
             log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
     }
+    
+    private void writeBatch(final ChannelHandlerContext context, final ByteBuf batch) {
+        databasePacketCodecEngine.prepareBatch(context, batch);
+        if (log.isDebugEnabled()) {
+            log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(batch));
+        }
+        context.write(batch.retain());
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+
+/**
+ * Database packet batch.
+ *
+ * <p>Packets in batch have been encoded into one buffer, which is written to channel as a whole without encoding again.</p>
+ */
+public final class DatabasePacketBatch extends DefaultByteBufHolder implements DatabasePacket<PacketPayload> {
+    
+    public DatabasePacketBatch(final ByteBuf batch) {
+        super(batch);
+    }
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        payload.getByteBuf().writeBytes(content(), content().readerIndex(), content().readableBytes());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.text;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Text value encoder.
+ *
+ * <p>Text of integral numbers and date times is written into byte buffer digit by digit, without intermediate string or bytes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueEncoder {
+    
+    public static final int DATE_TIME_LENGTH = 19;
+    
+    private static final int MIN_YEAR = 1;
+    
+    private static final int MAX_YEAR = 9999;
+    
+    /**
+     * Judge whether value is integral number.
+     *
+     * @param value value
+     * @return is integral number or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get text length of long value.
+     *
+     * @param value long value
+     * @return text length
+     */
+    public static int getLength(final long value) {
+        int result = value < 0L ? 2 : 1;
+        long remaining = value < 0L ? value : -value;
+        while (remaining <= -10L) {
+            remaining /= 10L;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write text of long value.
+     *
+     * @param byteBuf byte buffer
+     * @param value long value
+     */
+    public static void writeLong(final ByteBuf byteBuf, final long value) {
+        int length = getLength(value);
+        byteBuf.ensureWritable(length);
+        int index = byteBuf.writerIndex() + length;
+        long remaining = value < 0L ? value : -value;
+        do {
+            byteBuf.setByte(--index, '0' - (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (0L != remaining);
+        if (value < 0L) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(byteBuf.writerIndex() + length);
+    }
+    
+    /**
+     * Judge whether date time can be written by {@link #writeDateTime(ByteBuf, LocalDateTime)}.
+     *
+     * @param value date time
+     * @return can be written or not
+     */
+    public static boolean isWritableDateTime(final LocalDateTime value) {
+        return value.getYear() >= MIN_YEAR && value.getYear() <= MAX_YEAR;
+    }
+    
+    /**
+     * Write text of date time in format of {@code yyyy-MM-dd HH:mm:ss}.
+     *
+     * @param byteBuf byte buffer
+     * @param value date time
+     */
+    public static void writeDateTime(final ByteBuf byteBuf, final LocalDateTime value) {
+        writeTwoDigits(byteBuf, value.getYear() / 100);
+        writeTwoDigits(byteBuf, value.getYear() % 100);
+        byteBuf.writeByte('-');
+        writeTwoDigits(byteBuf, value.getMonthValue());
+        byteBuf.writeByte('-');
+        writeTwoDigits(byteBuf, value.getDayOfMonth());
+        byteBuf.writeByte(' ');
+        writeTwoDigits(byteBuf, value.getHour());
+        byteBuf.writeByte(':');
+        writeTwoDigits(byteBuf, value.getMinute());
+        byteBuf.writeByte(':');
+        writeTwoDigits(byteBuf, value.getSecond());
+    }
+    
+    private static void writeTwoDigits(final ByteBuf byteBuf, final int value) {
+        byteBuf.writeByte('0' + value / 10);
+        byteBuf.writeByte('0' + value % 10);
+    }
+}
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.db.protocol.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -28,6 +30,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -75,4 +79,13 @@ public final class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    public void assertEncodeBatch() {
+        ByteBuf batch = Unpooled.buffer();
+        packetCodec.encode(context, new DatabasePacketBatch(batch), byteBuf);
+        verify(databasePacketCodecEngine).prepareBatch(context, batch);
+        verify(context).write(batch);
+        assertThat(batch.refCnt(), is(2));
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class TextValueEncoderTest {
+    
+    @Test
+    public void assertIsIntegral() {
+        assertTrue(TextValueEncoder.isIntegral(1));
+        assertTrue(TextValueEncoder.isIntegral(1L));
+        assertTrue(TextValueEncoder.isIntegral((short) 1));
+        assertTrue(TextValueEncoder.isIntegral((byte) 1));
+        assertFalse(TextValueEncoder.isIntegral(1D));
+        assertFalse(TextValueEncoder.isIntegral("1"));
+    }
+    
+    @Test
+    public void assertWriteLong() {
+        for (long each : new long[]{0L, 7L, -7L, 10L, -10L, 1234567890L, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            ByteBuf byteBuf = Unpooled.buffer(1);
+            byteBuf.writeByte('x');
+            TextValueEncoder.writeLong(byteBuf, each);
+            assertThat(TextValueEncoder.getLength(each), is(String.valueOf(each).length()));
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("x" + each));
+        }
+    }
+    
+    @Test
+    public void assertWriteDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(987, 6, 5, 4, 3, 2, 100);
+        assertTrue(TextValueEncoder.isWritableDateTime(dateTime));
+        ByteBuf byteBuf = Unpooled.buffer();
+        TextValueEncoder.writeDateTime(byteBuf, dateTime);
+        assertThat(byteBuf.readableBytes(), is(TextValueEncoder.DATE_TIME_LENGTH));
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("0987-06-05 04:03:02"));
+    }
+    
+    @Test
+    public void assertIsNotWritableDateTime() {
+        assertFalse(TextValueEncoder.isWritableDateTime(LocalDateTime.of(10000, 1, 1, 0, 0)));
+        assertFalse(TextValueEncoder.isWritableDateTime(LocalDateTime.of(0, 1, 1, 0, 0)));
+    }
+}
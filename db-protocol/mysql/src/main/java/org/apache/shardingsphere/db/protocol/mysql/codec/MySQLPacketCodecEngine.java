@@ -89,6 +89,18 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
+        try {
+            writePacket(context, message, out);
+        } finally {
+            if (out.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH < MAX_PACKET_LENGTH) {
+                updateMessageHeader(out, context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().getAndIncrement());
+            } else {
+                writeMultiPackets(context, out);
+            }
+        }
+    }
+    
+    private void writePacket(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -98,12 +110,6 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             out.resetWriterIndex();
             SQLException unknownSQLException = new UnknownSQLException(ex).toSQLException();
             new MySQLErrPacket(unknownSQLException.getErrorCode(), unknownSQLException.getSQLState(), unknownSQLException.getMessage()).write(payload);
-        } finally {
-            if (out.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH < MAX_PACKET_LENGTH) {
-                updateMessageHeader(out, context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().getAndIncrement());
-            } else {
-                writeMultiPackets(context, out);
-            }
         }
     }
     
@@ -133,6 +139,51 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
         context.write(result);
     }
     
+    /**
+     * Encode into batch.
+     *
+     * <p>Sequence ID is left to be assigned by {@link #prepareBatch(ChannelHandlerContext, ByteBuf)}, since batch may be encoded out of event loop.</p>
+     *
+     * @param context channel handler context
+     * @param message message of database packet
+     * @param batch batch to be appended
+     */
+    @Override
+    public void encodeInBatch(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf batch) {
+        int headerIndex = batch.writerIndex();
+        writePacket(context, message, batch);
+        int payloadLength = batch.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH;
+        if (payloadLength < MAX_PACKET_LENGTH) {
+            batch.setMediumLE(headerIndex, payloadLength);
+        } else {
+            splitMultiPackets(batch, headerIndex);
+        }
+    }
+    
+    private void splitMultiPackets(final ByteBuf batch, final int headerIndex) {
+        ByteBuf payload = batch.copy(headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH, batch.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
+        batch.writerIndex(headerIndex);
+        try {
+            int packetLength;
+            do {
+                packetLength = Math.min(payload.readableBytes(), MAX_PACKET_LENGTH);
+                batch.writeMediumLE(packetLength).writeByte(0).writeBytes(payload, packetLength);
+            } while (MAX_PACKET_LENGTH == packetLength);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    @Override
+    public void prepareBatch(final ChannelHandlerContext context, final ByteBuf batch) {
+        AtomicInteger sequenceId = context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get();
+        int headerIndex = batch.readerIndex();
+        while (headerIndex < batch.writerIndex()) {
+            batch.setByte(headerIndex + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+            headerIndex += PAYLOAD_LENGTH + SEQUENCE_LENGTH + batch.getUnsignedMediumLE(headerIndex);
+        }
+    }
+    
     @Override
     public MySQLPacketPayload createPacketPayload(final ByteBuf message, final Charset charset) {
         return new MySQLPacketPayload(message, charset);
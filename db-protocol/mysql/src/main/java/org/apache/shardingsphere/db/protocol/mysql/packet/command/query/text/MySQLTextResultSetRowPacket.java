@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueEncoder;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
@@ -59,18 +60,47 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             } else {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
+                } else if (TextValueEncoder.isIntegral(each)) {
+                    writeIntegral(payload, ((Number) each).longValue());
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    writeTimestampWithoutNanos(payload, (Timestamp) each);
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
                     payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
                 } else if (each instanceof LocalDateTime) {
-                    payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
+                    writeLocalDateTime(payload, (LocalDateTime) each);
                 } else {
                     payload.writeStringLenenc(each.toString());
                 }
             }
         }
     }
+    
+    private void writeIntegral(final MySQLPacketPayload payload, final long value) {
+        payload.writeIntLenenc(TextValueEncoder.getLength(value));
+        TextValueEncoder.writeLong(payload.getByteBuf(), value);
+    }
+    
+    private void writeTimestampWithoutNanos(final MySQLPacketPayload payload, final Timestamp value) {
+        LocalDateTime localDateTime = value.toLocalDateTime();
+        if (TextValueEncoder.isWritableDateTime(localDateTime)) {
+            writeDateTime(payload, localDateTime);
+        } else {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        }
+    }
+    
+    private void writeLocalDateTime(final MySQLPacketPayload payload, final LocalDateTime value) {
+        if (TextValueEncoder.isWritableDateTime(value)) {
+            writeDateTime(payload, value);
+        } else {
+            payload.writeStringLenenc(DT_FMT.format(value));
+        }
+    }
+    
+    private void writeDateTime(final MySQLPacketPayload payload, final LocalDateTime value) {
+        payload.writeIntLenenc(TextValueEncoder.DATE_TIME_LENGTH);
+        TextValueEncoder.writeDateTime(payload.getByteBuf(), value);
+    }
 }
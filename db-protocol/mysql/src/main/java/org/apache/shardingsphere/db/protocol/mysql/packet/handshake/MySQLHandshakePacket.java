@@ -40,14 +40,14 @@ public final class MySQLHandshakePacket implements MySQLPacket {
     
     private final int connectionId;
     
-    private final int capabilityFlagsLower;
-    
     private final int characterSet;
     
     private final MySQLStatusFlag statusFlag;
     
     private final MySQLAuthPluginData authPluginData;
     
+    private int capabilityFlagsLower;
+    
     private int capabilityFlagsUpper;
     
     private String authPluginName;
@@ -105,6 +105,13 @@ public final class MySQLHandshakePacket implements MySQLPacket {
         capabilityFlagsUpper |= MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue() >> 16;
     }
     
+    /**
+     * Enable local infile, so that client is able to send local file for load data local infile.
+     */
+    public void enableLocalInfile() {
+        capabilityFlagsLower |= MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue();
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeInt1(protocolVersion);
@@ -47,6 +47,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -181,6 +182,45 @@ public final class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    public void assertEncodeInBatch() {
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf batch = Unpooled.buffer();
+        engine.encodeInBatch(context, mockPacket(1), batch);
+        engine.encodeInBatch(context, mockPacket(2), batch);
+        assertThat(batch.readableBytes(), is(11));
+        assertThat(batch.getUnsignedMediumLE(0), is(1));
+        assertThat(batch.getUnsignedMediumLE(5), is(2));
+        assertThat(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().get(), is(0));
+    }
+    
+    @Test
+    public void assertEncodeInBatchPacketMoreThan16MB() {
+        ByteBuf batch = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encodeInBatch(context, mockPacket(0xFFFFFF), batch);
+        assertThat(batch.readableBytes(), is(4 + 0xFFFFFF + 4));
+        assertThat(batch.getUnsignedMediumLE(0), is(0xFFFFFF));
+        assertThat(batch.getUnsignedMediumLE(4 + 0xFFFFFF), is(0));
+    }
+    
+    private MySQLPacket mockPacket(final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(payloadLength)).when(result).write(any(MySQLPacketPayload.class));
+        return result;
+    }
+    
+    @Test
+    public void assertPrepareBatch() {
+        ByteBuf batch = Unpooled.buffer();
+        batch.writeMediumLE(1).writeByte(0).writeByte(0);
+        batch.writeMediumLE(2).writeByte(0).writeShort(0);
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(3);
+        new MySQLPacketCodecEngine().prepareBatch(context, batch);
+        assertThat(batch.getUnsignedByte(3), is((short) 3));
+        assertThat(batch.getUnsignedByte(8), is((short) 4));
+        assertThat(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().get(), is(5));
+    }
+    
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
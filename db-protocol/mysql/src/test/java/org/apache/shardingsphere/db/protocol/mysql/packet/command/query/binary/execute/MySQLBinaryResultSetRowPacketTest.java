@@ -45,4 +45,14 @@ public final class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    public void assertWriteWithColumnTypes() {
+        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(
+                Arrays.asList(MySQLBinaryColumnType.MYSQL_TYPE_STRING, MySQLBinaryColumnType.MYSQL_TYPE_STRING), Arrays.asList("value", null));
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeStringLenenc("value");
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,12 +25,15 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,36 +55,46 @@ public final class MySQLTextResultSetRowPacketTest {
     public void assertWrite() {
         long now = System.currentTimeMillis();
         Timestamp timestamp = new Timestamp(now);
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        if (0 == timestamp.getNanos()) {
-            verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
-        } else {
-            verify(payload).writeStringLenenc(timestamp.toString());
-        }
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, 1L, timestamp)).write(actualPayload);
+        assertThat(actualPayload.readInt1(), is(0xfb));
+        assertThat(actualPayload.readStringLenenc(), is("value"));
+        assertThat(actualPayload.readStringLenenc(), is("1"));
+        assertThat(actualPayload.readStringLenenc(), is(""));
+        assertThat(actualPayload.readStringLenenc(), is("1"));
+        assertThat(actualPayload.readStringLenenc(), is(0 == timestamp.getNanos() ? timestamp.toString().split("\\.")[0] : timestamp.toString()));
+    }
+    
+    @Test
+    public void assertWriteIntegral() {
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(Arrays.asList(0, -12, (short) 345, (byte) 6, Long.MIN_VALUE)).write(actualPayload);
+        assertThat(actualPayload.readStringLenenc(), is("0"));
+        assertThat(actualPayload.readStringLenenc(), is("-12"));
+        assertThat(actualPayload.readStringLenenc(), is("345"));
+        assertThat(actualPayload.readStringLenenc(), is("6"));
+        assertThat(actualPayload.readStringLenenc(), is(String.valueOf(Long.MIN_VALUE)));
     }
     
     @Test
     public void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
         Timestamp timestamp = new Timestamp(now);
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp)).write(actualPayload);
+        assertThat(actualPayload.readInt1(), is(0xfb));
+        assertThat(actualPayload.readStringLenenc(), is("value"));
+        assertThat(actualPayload.readStringLenenc(), is("1"));
+        assertThat(actualPayload.readStringLenenc(), is(""));
+        assertThat(actualPayload.readStringLenenc(), is(timestamp.toString().split("\\.")[0]));
     }
     
     @Test
     public void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
         LocalDateTime time = LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Collections.singletonList(time));
-        actual.write(payload);
-        verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+        MySQLPacketPayload actualPayload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(Collections.singletonList(time)).write(actualPayload);
+        assertThat(actualPayload.readStringLenenc(), is(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(time)));
     }
 }
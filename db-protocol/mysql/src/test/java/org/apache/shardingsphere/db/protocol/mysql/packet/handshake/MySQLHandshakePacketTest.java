@@ -119,4 +119,11 @@ public final class MySQLHandshakePacketTest {
         verify(payload).writeStringNul(new String(authPluginData.getAuthPluginDataPart2()));
         verify(payload).writeStringNul(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName());
     }
+    
+    @Test
+    public void assertEnableLocalInfile() {
+        MySQLHandshakePacket actual = new MySQLHandshakePacket(1000, new MySQLAuthPluginData(part1, part2));
+        actual.enableLocalInfile();
+        assertThat(actual.getCapabilityFlagsLower(), is(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower() | MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue()));
+    }
 }
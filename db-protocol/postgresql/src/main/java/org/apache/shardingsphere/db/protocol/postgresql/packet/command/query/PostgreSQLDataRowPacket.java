@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
@@ -26,7 +27,9 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.text.TextValueEncoder;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.Collection;
@@ -71,6 +74,13 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
             payload.writeBytes((byte[]) each);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
+        } else if (TextValueEncoder.isIntegral(each)) {
+            long value = ((Number) each).longValue();
+            payload.writeInt4(TextValueEncoder.getLength(value));
+            TextValueEncoder.writeLong(payload.getByteBuf(), value);
+        } else if (each instanceof String && StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            payload.writeInt4(ByteBufUtil.utf8Bytes((String) each));
+            ByteBufUtil.writeUtf8(payload.getByteBuf(), (String) each);
         } else {
             byte[] columnData = each.toString().getBytes(payload.getCharset());
             payload.writeInt4(columnData.length);
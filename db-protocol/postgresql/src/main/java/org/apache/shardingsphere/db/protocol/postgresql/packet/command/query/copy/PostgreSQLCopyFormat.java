@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copy format for PostgreSQL, which is text or CSV.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PostgreSQLCopyFormat {
+    
+    public static final PostgreSQLCopyFormat TEXT = new PostgreSQLCopyFormat(false, '\t', "\\N", '"', '"', false);
+    
+    private static final char LINE_FEED = '\n';
+    
+    private static final char CARRIAGE_RETURN = '\r';
+    
+    private static final char BACKSLASH = '\\';
+    
+    private final boolean csv;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final boolean header;
+    
+    /**
+     * Create new instance of copy format.
+     *
+     * @param options copy options with upper case option names, format must be text or CSV
+     * @return created instance
+     */
+    public static PostgreSQLCopyFormat newInstance(final Map<String, String> options) {
+        boolean csv = "csv".equalsIgnoreCase(options.get("FORMAT"));
+        char delimiter = getChar(options.get("DELIMITER"), csv ? ',' : '\t');
+        String nullString = options.getOrDefault("NULL", csv ? "" : "\\N");
+        char quote = getChar(options.get("QUOTE"), '"');
+        char escape = getChar(options.get("ESCAPE"), quote);
+        return new PostgreSQLCopyFormat(csv, delimiter, nullString, quote, escape, Boolean.parseBoolean(options.get("HEADER")) || "on".equalsIgnoreCase(options.get("HEADER")));
+    }
+    
+    private static char getChar(final String value, final char defaultValue) {
+        return null == value || value.isEmpty() ? defaultValue : value.charAt(0);
+    }
+    
+    /**
+     * Encode row.
+     *
+     * @param values values of row
+     * @param out byte buffer to write
+     * @param charset charset of text
+     */
+    public void encodeRow(final List<?> values, final ByteBuf out, final Charset charset) {
+        int index = 0;
+        for (Object each : values) {
+            if (index++ > 0) {
+                out.writeByte(delimiter);
+            }
+            if (null == each) {
+                out.writeCharSequence(nullString, charset);
+            } else if (csv) {
+                writeCSVValue(toText(each), out, charset);
+            } else {
+                writeTextValue(toText(each), out, charset);
+            }
+        }
+        out.writeByte(LINE_FEED);
+    }
+    
+    private String toText(final Object value) {
+        if (value instanceof byte[]) {
+            return "\\x" + ByteBufUtil.hexDump((byte[]) value);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "t" : "f";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        return value.toString();
+    }
+    
+    private void writeTextValue(final String value, final ByteBuf out, final Charset charset) {
+        if (!isTextEscapeRequired(value)) {
+            out.writeCharSequence(value, charset);
+            return;
+        }
+        StringBuilder result = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (BACKSLASH == each) {
+                result.append(BACKSLASH).append(BACKSLASH);
+            } else if (LINE_FEED == each) {
+                result.append(BACKSLASH).append('n');
+            } else if (CARRIAGE_RETURN == each) {
+                result.append(BACKSLASH).append('r');
+            } else if ('\t' == each) {
+                result.append(BACKSLASH).append('t');
+            } else if (delimiter == each) {
+                result.append(BACKSLASH).append(each);
+            } else {
+                result.append(each);
+            }
+        }
+        out.writeCharSequence(result, charset);
+    }
+    
+    private boolean isTextEscapeRequired(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (BACKSLASH == each || LINE_FEED == each || CARRIAGE_RETURN == each || '\t' == each || delimiter == each) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void writeCSVValue(final String value, final ByteBuf out, final Charset charset) {
+        if (!isCSVQuoteRequired(value)) {
+            out.writeCharSequence(value, charset);
+            return;
+        }
+        StringBuilder result = new StringBuilder(value.length() + 8).append(quote);
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (quote == each || escape == each) {
+                result.append(escape);
+            }
+            result.append(each);
+        }
+        out.writeCharSequence(result.append(quote), charset);
+    }
+    
+    private boolean isCSVQuoteRequired(final String value) {
+        if (value.isEmpty() || value.equals(nullString)) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (delimiter == each || quote == each || escape == each || LINE_FEED == each || CARRIAGE_RETURN == each) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Copy row decoder for PostgreSQL.
+ *
+ * <p>Copy data is streamed in messages whose boundaries are not aligned with rows, so bytes of incomplete row are kept until the end of the row arrives.
+ * Only one row is buffered whatever the size of copy data is.
+ * Escapes of text format are resolved on bytes before decoding with charset, so that octal and hexadecimal escapes can represent bytes of multi-byte characters.</p>
+ */
+public final class PostgreSQLCopyRowDecoder {
+    
+    private static final byte LINE_FEED = '\n';
+    
+    private static final byte CARRIAGE_RETURN = '\r';
+    
+    private static final byte BACKSLASH = '\\';
+    
+    private static final byte END_OF_DATA_MARKER = '.';
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final Charset charset;
+    
+    private final byte[] nullStringBytes;
+    
+    private final ByteBuf rowBuffer = Unpooled.buffer();
+    
+    private boolean escaped;
+    
+    private boolean quoted;
+    
+    private boolean headerSkipped;
+    
+    private boolean endOfData;
+    
+    public PostgreSQLCopyRowDecoder(final PostgreSQLCopyFormat format, final Charset charset) {
+        this.format = format;
+        this.charset = charset;
+        nullStringBytes = format.getNullString().getBytes(charset);
+        headerSkipped = !format.isHeader();
+    }
+    
+    /**
+     * Decode complete rows of copy data.
+     *
+     * @param in copy data
+     * @return values of decoded rows, null value represents SQL null
+     */
+    public Collection<List<String>> decode(final ByteBuf in) {
+        Collection<List<String>> result = new LinkedList<>();
+        while (in.isReadable() && !endOfData) {
+            byte each = in.readByte();
+            if (isEndOfRow(each)) {
+                decodeRow().ifPresent(result::add);
+            } else {
+                rowBuffer.writeByte(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isEndOfRow(final byte value) {
+        if (format.isCsv()) {
+            if (quoted && escaped) {
+                escaped = false;
+            } else if (quoted && format.getEscape() != format.getQuote() && format.getEscape() == value) {
+                escaped = true;
+            } else if (format.getQuote() == value) {
+                quoted = !quoted;
+            }
+            return !quoted && LINE_FEED == value;
+        }
+        if (escaped) {
+            escaped = false;
+            return false;
+        }
+        escaped = BACKSLASH == value;
+        return LINE_FEED == value;
+    }
+    
+    /**
+     * Decode the last row which is not terminated by line feed.
+     *
+     * @return values of the last row, null value represents SQL null
+     */
+    public Collection<List<String>> finish() {
+        Collection<List<String>> result = new LinkedList<>();
+        if (rowBuffer.isReadable() && !endOfData) {
+            decodeRow().ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private Optional<List<String>> decodeRow() {
+        int start = rowBuffer.readerIndex();
+        int length = rowBuffer.readableBytes();
+        if (length > 0 && CARRIAGE_RETURN == rowBuffer.getByte(rowBuffer.writerIndex() - 1)) {
+            length--;
+        }
+        try {
+            if (isEndOfData(start, length)) {
+                endOfData = true;
+                return Optional.empty();
+            }
+            if (!headerSkipped) {
+                headerSkipped = true;
+                return Optional.empty();
+            }
+            return Optional.of(format.isCsv() ? splitCSVRow(rowBuffer.toString(start, length, charset)) : splitTextRow(start, start + length));
+        } finally {
+            rowBuffer.clear();
+            escaped = false;
+            quoted = false;
+        }
+    }
+    
+    private boolean isEndOfData(final int start, final int length) {
+        return 2 == length && BACKSLASH == rowBuffer.getByte(start) && END_OF_DATA_MARKER == rowBuffer.getByte(start + 1);
+    }
+    
+    private List<String> splitTextRow(final int start, final int end) {
+        List<String> result = new ArrayList<>();
+        int valueStart = start;
+        boolean escapedByte = false;
+        for (int i = start; i < end; i++) {
+            byte each = rowBuffer.getByte(i);
+            if (escapedByte) {
+                escapedByte = false;
+            } else if (BACKSLASH == each) {
+                escapedByte = true;
+            } else if (format.getDelimiter() == each) {
+                result.add(getTextValue(valueStart, i));
+                valueStart = i + 1;
+            }
+        }
+        result.add(getTextValue(valueStart, end));
+        return result;
+    }
+    
+    private String getTextValue(final int start, final int end) {
+        if (isNullString(start, end)) {
+            return null;
+        }
+        if (rowBuffer.indexOf(start, end, BACKSLASH) < 0) {
+            return rowBuffer.toString(start, end - start, charset);
+        }
+        byte[] result = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte each = rowBuffer.getByte(i);
+            if (BACKSLASH != each || i + 1 == end) {
+                result[length++] = each;
+                continue;
+            }
+            byte escapedByte = rowBuffer.getByte(++i);
+            if (isOctalDigit(escapedByte)) {
+                int value = 0;
+                int digitEnd = Math.min(i + 3, end);
+                for (; i < digitEnd && isOctalDigit(rowBuffer.getByte(i)); i++) {
+                    value = value * 8 + rowBuffer.getByte(i) - '0';
+                }
+                result[length++] = (byte) value;
+                i--;
+            } else if ('x' == escapedByte && i + 1 < end && isHexDigit(rowBuffer.getByte(i + 1))) {
+                int value = 0;
+                int digitEnd = Math.min(i + 3, end);
+                for (i++; i < digitEnd && isHexDigit(rowBuffer.getByte(i)); i++) {
+                    value = value * 16 + Character.digit((char) rowBuffer.getByte(i), 16);
+                }
+                result[length++] = (byte) value;
+                i--;
+            } else {
+                result[length++] = getEscapedByte(escapedByte);
+            }
+        }
+        return new String(result, 0, length, charset);
+    }
+    
+    private boolean isNullString(final int start, final int end) {
+        if (end - start != nullStringBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < nullStringBytes.length; i++) {
+            if (nullStringBytes[i] != rowBuffer.getByte(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isOctalDigit(final byte value) {
+        return value >= '0' && value <= '7';
+    }
+    
+    private boolean isHexDigit(final byte value) {
+        return value >= '0' && value <= '9' || value >= 'a' && value <= 'f' || value >= 'A' && value <= 'F';
+    }
+    
+    private byte getEscapedByte(final byte escapedByte) {
+        switch (escapedByte) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return 0x0B;
+            default:
+                return escapedByte;
+        }
+    }
+    
+    private List<String> splitCSVRow(final String row) {
+        List<String> result = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quotedValue = false;
+        for (int i = 0; i < row.length(); i++) {
+            char each = row.charAt(i);
+            if (inQuotes) {
+                if (format.getEscape() == each && i + 1 < row.length() && (format.getQuote() == row.charAt(i + 1) || format.getEscape() == row.charAt(i + 1))) {
+                    value.append(row.charAt(++i));
+                } else if (format.getQuote() == each) {
+                    inQuotes = false;
+                } else {
+                    value.append(each);
+                }
+            } else if (format.getQuote() == each) {
+                inQuotes = true;
+                quotedValue = true;
+            } else if (format.getDelimiter() == each) {
+                result.add(getCSVValue(value.toString(), quotedValue));
+                value.setLength(0);
+                quotedValue = false;
+            } else {
+                value.append(each);
+            }
+        }
+        result.add(getCSVValue(value.toString(), quotedValue));
+        return result;
+    }
+    
+    private String getCSVValue(final String value, final boolean quotedValue) {
+        return !quotedValue && value.equals(format.getNullString()) ? null : value;
+    }
+    
+    /**
+     * Release buffered bytes.
+     */
+    public void release() {
+        rowBuffer.release();
+    }
+}
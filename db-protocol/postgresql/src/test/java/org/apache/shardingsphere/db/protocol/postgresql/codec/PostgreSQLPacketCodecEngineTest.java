@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -95,7 +96,7 @@ public final class PostgreSQLPacketCodecEngineTest {
     public void assertEncodePostgreSQLIdentifierPacket() {
         PostgreSQLIdentifierPacket packet = mock(PostgreSQLIdentifierPacket.class);
         when(packet.getIdentifier()).thenReturn(PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST);
-        when(byteBuf.readableBytes()).thenReturn(9);
+        when(byteBuf.writerIndex()).thenReturn(0, 9);
         new PostgreSQLPacketCodecEngine().encode(context, packet, byteBuf);
         verify(byteBuf).writeByte(PostgreSQLMessagePacketType.AUTHENTICATION_REQUEST.getValue());
         verify(byteBuf).writeInt(0);
@@ -109,13 +110,26 @@ public final class PostgreSQLPacketCodecEngineTest {
         RuntimeException ex = mock(RuntimeException.class);
         when(ex.getMessage()).thenReturn("Error");
         doThrow(ex).when(packet).write(any(PostgreSQLPacketPayload.class));
-        when(byteBuf.readableBytes()).thenReturn(9);
+        when(byteBuf.writerIndex()).thenReturn(0, 9);
         new PostgreSQLPacketCodecEngine().encode(context, packet, byteBuf);
         verify(byteBuf).resetWriterIndex();
         verify(byteBuf).writeByte(PostgreSQLMessagePacketType.ERROR_RESPONSE.getValue());
         verify(byteBuf).setInt(1, 8);
     }
     
+    @Test
+    public void assertEncodeInBatch() {
+        PostgreSQLIdentifierPacket packet = mock(PostgreSQLIdentifierPacket.class);
+        when(packet.getIdentifier()).thenReturn(PostgreSQLMessagePacketType.DATA_ROW);
+        ByteBuf batch = Unpooled.buffer();
+        PostgreSQLPacketCodecEngine engine = new PostgreSQLPacketCodecEngine();
+        engine.encodeInBatch(context, packet, batch);
+        engine.encodeInBatch(context, packet, batch);
+        assertThat(batch.readableBytes(), is(10));
+        assertThat(batch.getByte(5), is((byte) PostgreSQLMessagePacketType.DATA_ROW.getValue()));
+        assertThat(batch.getInt(6), is(4));
+    }
+    
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new PostgreSQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -82,10 +83,20 @@ public final class PostgreSQLDataRowPacketTest {
     public void assertWriteWithString() {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList("value"));
         assertThat(actual.getData(), is(Collections.singletonList("value")));
-        actual.write(payload);
-        byte[] valueBytes = "value".getBytes(StandardCharsets.UTF_8);
-        verify(payload).writeInt4(valueBytes.length);
-        verify(payload).writeBytes(valueBytes);
+        PostgreSQLPacketPayload actualPayload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.write(actualPayload);
+        assertThat(actualPayload.readInt2(), is(1));
+        assertThat(actualPayload.readInt4(), is(5));
+        assertThat(actualPayload.getByteBuf().readCharSequence(5, StandardCharsets.UTF_8).toString(), is("value"));
+    }
+    
+    @Test
+    public void assertWriteWithIntegral() {
+        PostgreSQLPacketPayload actualPayload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new PostgreSQLDataRowPacket(Collections.singletonList(-123L)).write(actualPayload);
+        assertThat(actualPayload.readInt2(), is(1));
+        assertThat(actualPayload.readInt4(), is(4));
+        assertThat(actualPayload.getByteBuf().readCharSequence(4, StandardCharsets.UTF_8).toString(), is("-123"));
     }
     
     @Test(expected = RuntimeException.class)
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyFormatTest {
+    
+    @Test
+    public void assertNewInstanceWithDefaultOptions() {
+        PostgreSQLCopyFormat actual = PostgreSQLCopyFormat.newInstance(Collections.emptyMap());
+        assertFalse(actual.isCsv());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+    }
+    
+    @Test
+    public void assertNewInstanceWithCSVOptions() {
+        Map<String, String> options = new HashMap<>(3, 1);
+        options.put("FORMAT", "csv");
+        options.put("HEADER", "true");
+        options.put("QUOTE", "'");
+        PostgreSQLCopyFormat actual = PostgreSQLCopyFormat.newInstance(options);
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is(','));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\''));
+        assertTrue(actual.isHeader());
+    }
+    
+    @Test
+    public void assertEncodeTextRow() {
+        ByteBuf out = Unpooled.buffer();
+        PostgreSQLCopyFormat.TEXT.encodeRow(Arrays.asList(1, null, "a\tb\\c\nd", true, new BigDecimal("1E+2"), new byte[]{1, 10}), out, StandardCharsets.UTF_8);
+        assertThat(out.toString(StandardCharsets.UTF_8), is("1\t\\N\ta\\tb\\\\c\\nd\tt\t100\t\\\\x010a\n"));
+    }
+    
+    @Test
+    public void assertEncodeCSVRow() {
+        ByteBuf out = Unpooled.buffer();
+        PostgreSQLCopyFormat.newInstance(Collections.singletonMap("FORMAT", "csv")).encodeRow(Arrays.asList(1, null, "", "a,b", "say \"hi\"", "x"), out, StandardCharsets.UTF_8);
+        assertThat(out.toString(StandardCharsets.UTF_8), is("1,,\"\",\"a,b\",\"say \"\"hi\"\"\",x\n"));
+    }
+}
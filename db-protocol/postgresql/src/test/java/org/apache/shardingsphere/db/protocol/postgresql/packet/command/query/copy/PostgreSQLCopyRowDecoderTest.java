@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy;
+
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyRowDecoderTest {
+    
+    @Test
+    public void assertDecodeTextRowsAcrossChunks() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.TEXT, StandardCharsets.UTF_8);
+        Collection<List<String>> actual = decoder.decode(Unpooled.copiedBuffer("1\tfoo\n2\tb", StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(Arrays.asList("1", "foo")));
+        actual = decoder.decode(Unpooled.copiedBuffer("ar\r\n3\t\\N\n", StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(2));
+        Iterator<List<String>> iterator = actual.iterator();
+        assertThat(iterator.next(), is(Arrays.asList("2", "bar")));
+        assertThat(iterator.next(), is(Arrays.asList("3", null)));
+        assertTrue(decoder.finish().isEmpty());
+        decoder.release();
+    }
+    
+    @Test
+    public void assertDecodeTextEscapedValues() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.TEXT, StandardCharsets.UTF_8);
+        Collection<List<String>> actual = decoder.decode(Unpooled.copiedBuffer("a\\tb\\\\c\\\nd\t\\101\\x42\n", StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(Arrays.asList("a\tb\\c\nd", "AB")));
+        decoder.release();
+    }
+    
+    @Test
+    public void assertDecodeTextEscapedMultiByteValues() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.TEXT, StandardCharsets.UTF_8);
+        Collection<List<String>> actual = decoder.decode(Unpooled.copiedBuffer("\\344\\270\\255\t\\xe6\\x96\\x87\t\u5b57\\t\n", StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(Arrays.asList("\u4e2d", "\u6587", "\u5b57\t")));
+        decoder.release();
+    }
+    
+    @Test
+    public void assertDecodeEndOfData() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.TEXT, StandardCharsets.UTF_8);
+        Collection<List<String>> actual = decoder.decode(Unpooled.copiedBuffer("1\n\\.\n2\n", StandardCharsets.UTF_8));
+        assertThat(actual, is(Collections.singletonList(Collections.singletonList("1"))));
+        assertTrue(decoder.finish().isEmpty());
+        decoder.release();
+    }
+    
+    @Test
+    public void assertDecodeCSVRowsWithHeader() {
+        Map<String, String> options = new HashMap<>(2, 1);
+        options.put("FORMAT", "csv");
+        options.put("HEADER", "true");
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.newInstance(options), StandardCharsets.UTF_8);
+        Collection<List<String>> actual = decoder.decode(Unpooled.copiedBuffer("id,name\n1,\"a,\n\"\"b\"\"\"\n2,", StandardCharsets.UTF_8));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(Arrays.asList("1", "a,\n\"b\"")));
+        actual = decoder.finish();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(Arrays.asList("2", null)));
+        decoder.release();
+    }
+    
+    @Test
+    public void assertDecodeCSVQuotedEmptyValue() {
+        PostgreSQLCopyRowDecoder decoder = new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.newInstance(Collections.singletonMap("FORMAT", "csv")), StandardCharsets.UTF_8);
+        Collection<List<String>> actual = decoder.decode(Unpooled.copiedBuffer("\"\",\n", StandardCharsets.UTF_8));
+        assertThat(actual.iterator().next(), is(Arrays.asList("", null)));
+        decoder.release();
+    }
+}
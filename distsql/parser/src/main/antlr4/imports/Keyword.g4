@@ -339,6 +339,14 @@ USAGE_COUNT
     : U S A G E UL_ C O U N T
     ;
 
+EXECUTION
+    : E X E C U T I O N
+    ;
+
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
 REGISTER
     : R E G I S T E R
     ;
@@ -71,6 +71,10 @@ showComputeNodeMode
     : SHOW COMPUTE NODE MODE
     ;
 
+showExecutionStatistics
+    : SHOW EXECUTION STATISTICS
+    ;
+
 labelComputeNode
     : (LABEL | RELABEL) COMPUTE NODE instanceId WITH label (COMMA_ label)*
     ;
@@ -34,6 +34,7 @@ execute
     | showComputeNodes
     | showComputeNodeInfo
     | showComputeNodeMode
+    | showExecutionStatistics
     | labelComputeNode
     | unlabelComputeNode
     | countSingleTable
@@ -19,6 +19,10 @@ package org.apache.shardingsphere.sharding.spi;
 
 import org.apache.shardingsphere.infra.algorithm.ShardingSphereAlgorithm;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 /**
  * Key generate algorithm.
  */
@@ -31,6 +35,16 @@ public interface KeyGenerateAlgorithm extends ShardingSphereAlgorithm {
      */
     Comparable<?> generateKey();
     
+    /**
+     * Generate keys.
+     * 
+     * @param count count of keys to be generated
+     * @return generated keys in generated order
+     */
+    default Collection<? extends Comparable<?>> generateKeys(final int count) {
+        return IntStream.range(0, count).mapToObj(each -> generateKey()).collect(Collectors.toList());
+    }
+    
     /**
      * Judge whether support auto increment or not.
      * 
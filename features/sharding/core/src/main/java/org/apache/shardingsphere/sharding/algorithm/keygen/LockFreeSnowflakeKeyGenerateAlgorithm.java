@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.KeyGenerateAlgorithmInitializationException;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.SnowflakeClockMoveBackException;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free snowflake key generate algorithm.
+ *
+ * <p>Layout of key is same as {@link SnowflakeKeyGenerateAlgorithm}. Timestamp offset and sequence of last generated key are packed into one atomic long,
+ * so that keys are reserved by compare and set without monitor, and keys of multiple rows are reserved as a continuous range in one step.</p>
+ */
+public final class LockFreeSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    private static final int DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong(-1L);
+    
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private volatile int sequenceOffset = -1;
+    
+    private volatile InstanceContext instanceContext;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(props);
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        this.instanceContext = instanceContext;
+        if (null != instanceContext) {
+            instanceContext.generateWorkerId(props);
+        }
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK, () -> new KeyGenerateAlgorithmInitializationException(getType(), "Illegal max vibration offset."));
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties props) {
+        return Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+    }
+    
+    @Override
+    public Long generateKey() {
+        return toKey(reserve(1), getWorkerId());
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final int count) {
+        Collection<Long> result = new ArrayList<>(count);
+        long workerId = getWorkerId();
+        int remainingCount = count;
+        while (remainingCount > 0) {
+            int reservedCount = (int) Math.min(remainingCount, SEQUENCE_MASK + 1);
+            long firstTimestampAndSequence = reserve(reservedCount);
+            for (int i = 0; i < reservedCount; i++) {
+                result.add(toKey(firstTimestampAndSequence + i, workerId));
+            }
+            remainingCount -= reservedCount;
+        }
+        return result;
+    }
+    
+    private long reserve(final int count) {
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long lastMilliseconds = last >> SEQUENCE_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+            if (lastMilliseconds > currentMilliseconds) {
+                waitTolerateTimeDifference(lastMilliseconds, currentMilliseconds);
+                continue;
+            }
+            long result;
+            if (lastMilliseconds == currentMilliseconds) {
+                if ((last & SEQUENCE_MASK) + count > SEQUENCE_MASK) {
+                    waitUntilNextTime(lastMilliseconds);
+                    continue;
+                }
+                result = last + 1L;
+            } else {
+                result = currentMilliseconds << SEQUENCE_BITS | vibrateSequenceOffset(count);
+            }
+            if (lastTimestampAndSequence.compareAndSet(last, result + count - 1L)) {
+                return result;
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitTolerateTimeDifference(final long lastMilliseconds, final long currentMilliseconds) {
+        long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
+        ShardingSpherePreconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds,
+                () -> new SnowflakeClockMoveBackException(lastMilliseconds + SnowflakeKeyGenerateAlgorithm.EPOCH, currentMilliseconds + SnowflakeKeyGenerateAlgorithm.EPOCH));
+        Thread.sleep(timeDifferenceMilliseconds);
+    }
+    
+    private void waitUntilNextTime(final long lastMilliseconds) {
+        long currentMilliseconds = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+        while (currentMilliseconds <= lastMilliseconds) {
+            currentMilliseconds = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+        }
+    }
+    
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    private long vibrateSequenceOffset(final int count) {
+        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+        return sequenceOffset + count - 1 > SEQUENCE_MASK ? 0L : sequenceOffset;
+    }
+    
+    private long toKey(final long timestampAndSequence, final long workerId) {
+        return (timestampAndSequence >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS | workerId << WORKER_ID_LEFT_SHIFT_BITS | timestampAndSequence & SEQUENCE_MASK;
+    }
+    
+    private int getWorkerId() {
+        return null == instanceContext ? DEFAULT_WORKER_ID : instanceContext.getWorkerId();
+    }
+    
+    @Override
+    public String getType() {
+        return "LOCK_FREE_SNOWFLAKE";
+    }
+}
@@ -22,15 +22,19 @@ import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.hint.SQLHintExtractor;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergeOption;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -49,6 +53,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.Pos
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -59,6 +64,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, new ConfigurationProperties(new Properties()));
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -125,9 +136,33 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
+        boolean approximateCountDistinct = isApproximateCountDistinct(selectStatementContext);
         return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, approximateCountDistinct)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema, createGroupByMemoryMergeOption(queryResults, selectStatementContext, approximateCountDistinct));
+    }
+    
+    private GroupByMemoryMergeOption createGroupByMemoryMergeOption(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final boolean approximateCountDistinct) {
+        return new GroupByMemoryMergeOption(props.<Long>getValue(ConfigurationPropertyKey.MEMORY_MERGE_SPILL_THRESHOLD_BYTES), getRowLimit(queryResults, selectStatementContext),
+                approximateCountDistinct, props.<Long>getValue(ConfigurationPropertyKey.MEMORY_MERGE_PARALLEL_THRESHOLD_ROWS), props.<Integer>getValue(ConfigurationPropertyKey.MEMORY_MERGE_PARALLELISM));
+    }
+    
+    private boolean isApproximateCountDistinct(final SelectStatementContext selectStatementContext) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.APPROXIMATE_COUNT_DISTINCT_ENABLED) || new SQLHintExtractor(selectStatementContext.getSqlStatement()).isHintApproximateCountDistinct();
+    }
+    
+    private long getRowLimit(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) {
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!paginationContext.isHasPagination() || 1 == queryResults.size() || !paginationContext.getActualRowCount().isPresent() || !isPaginationDecoratorSupported()) {
+            return 0L;
+        }
+        return paginationContext.getActualOffset() + paginationContext.getActualRowCount().get();
+    }
+    
+    private boolean isPaginationDecoratorSupported() {
+        String trunkDatabaseName = DatabaseTypeEngine.getTrunkDatabaseType(protocolType.getType()).getType();
+        return "MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName) || "openGauss".equals(trunkDatabaseName)
+                || "Oracle".equals(trunkDatabaseName) || "SQLServer".equals(trunkDatabaseName);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Option of group by memory merge.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class GroupByMemoryMergeOption {
+    
+    /**
+     * Option which merges all rows in memory serially without row limit.
+     */
+    public static final GroupByMemoryMergeOption DEFAULT = new GroupByMemoryMergeOption(0L, 0L, false, 0L, 0);
+    
+    private final long spillThresholdBytes;
+    
+    private final long rowLimit;
+    
+    private final boolean approximateAggregation;
+    
+    private final long parallelThresholdRows;
+    
+    private final int parallelism;
+}
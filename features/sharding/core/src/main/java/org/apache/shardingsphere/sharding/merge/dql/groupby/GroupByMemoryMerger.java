@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.MemoryMergeForkJoinPool;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.sort.ExternalRowSorter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.sort.RowSorter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.sort.TopNRowSorter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MemoryRowSizeEstimator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpilledQueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationState;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationStateMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Group by memory merger.
+ * 
+ * <p>Rows are merged within the spill threshold of option, rows of group by values beyond the threshold are spilled into hash partitions and merged partition by partition.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByMemoryMerger {
+    
+    private static final int SPILL_PARTITION_BITS = 4;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final GroupByMemoryMergeOption option;
+    
+    /**
+     * Merge query results.
+     *
+     * @param queryResults query results
+     * @return merged rows, which release spill files once iterated to the end or closed
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException {
+        if (option.getSpillThresholdBytes() <= 0L) {
+            return mergeInMemory(queryResults).iterator();
+        }
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next());
+        RowSorter sorter = createRowSorter(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        try {
+            mergeWithinBudget(queryResults, sorter, 0);
+        } catch (final SQLException | RuntimeException ex) {
+            sorter.close();
+            throw ex;
+        }
+        return sorter.isEmpty() ? getMemoryResultSetRows(Collections.emptyMap(), valueCaseSensitive).iterator() : sorter.sorted();
+    }
+    
+    private RowSorter createRowSorter(final GroupByRowComparator comparator) {
+        return isTopN() ? new TopNRowSorter(comparator, (int) option.getRowLimit()) : new ExternalRowSorter(comparator, option.getSpillThresholdBytes());
+    }
+    
+    private boolean isTopN() {
+        return option.getRowLimit() > 0L && option.getRowLimit() < Integer.MAX_VALUE;
+    }
+    
+    private void mergeWithinBudget(final List<QueryResult> queryResults, final RowSorter sorter, final int depth) throws SQLException {
+        AggregationStateMerger aggregationStateMerger = new AggregationStateMerger(selectStatementContext.getProjectionsContext().getAggregationProjections(), option.isApproximateAggregation());
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, AggregationState> aggregationMap = new HashMap<>(1024);
+        SpillFile[] partitions = null;
+        try {
+            long estimatedBytes = 0L;
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                    AggregationState aggregationState = aggregationMap.get(groupByValue);
+                    if (null == aggregationState) {
+                        if (depth < MAX_SPILL_DEPTH && estimatedBytes > option.getSpillThresholdBytes()) {
+                            partitions = null == partitions ? createSpillPartitions() : partitions;
+                            partitions[getSpillPartitionIndex(groupByValue, depth)].append(new MemoryQueryResultRow(each).getData());
+                            continue;
+                        }
+                        aggregationState = initForFirstGroupByValue(aggregationStateMerger, each, groupByValue, dataMap, aggregationMap);
+                        estimatedBytes += MemoryRowSizeEstimator.estimate(dataMap.get(groupByValue).getData())
+                                + MemoryRowSizeEstimator.estimate(groupByValue.getGroupValues().toArray()) + aggregationState.getEstimatedBytes();
+                    }
+                    aggregationStateMerger.merge(aggregationState, each);
+                }
+            }
+            setAggregationValueToMemoryRow(aggregationStateMerger, dataMap, aggregationMap);
+            dataMap.values().forEach(sorter::add);
+            dataMap.clear();
+            aggregationMap.clear();
+            if (null != partitions) {
+                mergeSpillPartitions(queryResults.get(0).getMetaData(), partitions, sorter, depth);
+            }
+        } finally {
+            closeSpillPartitions(partitions);
+        }
+    }
+    
+    private SpillFile[] createSpillPartitions() {
+        SpillFile[] result = new SpillFile[1 << SPILL_PARTITION_BITS];
+        try {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new SpillFile();
+            }
+        } catch (final RuntimeException ex) {
+            closeSpillPartitions(result);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private int getSpillPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode() * 0x9E3779B9;
+        return hash >>> (Integer.SIZE - SPILL_PARTITION_BITS * (depth + 1)) & ((1 << SPILL_PARTITION_BITS) - 1);
+    }
+    
+    private void mergeSpillPartitions(final QueryResultMetaData metaData, final SpillFile[] partitions, final RowSorter sorter, final int depth) throws SQLException {
+        for (SpillFile each : partitions) {
+            if (each.getRowCount() > 0) {
+                mergeWithinBudget(Collections.singletonList(new SpilledQueryResult(metaData, each.iterator())), sorter, depth + 1);
+            }
+            each.close();
+        }
+    }
+    
+    private void closeSpillPartitions(final SpillFile[] partitions) {
+        if (null == partitions) {
+            return;
+        }
+        for (SpillFile each : partitions) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    /**
+     * Merge query results in memory.
+     *
+     * @param queryResults query results
+     * @return merged rows
+     * @throws SQLException SQL exception
+     */
+    public List<MemoryQueryResultRow> mergeInMemory(final List<QueryResult> queryResults) throws SQLException {
+        AggregationStateMerger aggregationStateMerger = new AggregationStateMerger(selectStatementContext.getProjectionsContext().getAggregationProjections(), option.isApproximateAggregation());
+        GroupByPartialResult partialResult;
+        if (isParallelMerge(queryResults, aggregationStateMerger)) {
+            partialResult = MemoryMergeForkJoinPool.getPool(option.getParallelism()).invoke(new GroupByMergeTask(queryResults, selectStatementContext.getGroupByContext().getItems(), aggregationStateMerger));
+        } else {
+            partialResult = new GroupByPartialResult();
+            for (QueryResult each : queryResults) {
+                partialResult.merge(each, selectStatementContext.getGroupByContext().getItems(), aggregationStateMerger);
+            }
+        }
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = partialResult.getDataMap();
+        setAggregationValueToMemoryRow(aggregationStateMerger, dataMap, partialResult.getAggregationMap());
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next());
+        return getMemoryResultSetRows(dataMap, valueCaseSensitive);
+    }
+    
+    private boolean isParallelMerge(final List<QueryResult> queryResults, final AggregationStateMerger aggregationStateMerger) {
+        if (option.getParallelThresholdRows() <= 0L || queryResults.size() < 2 || !aggregationStateMerger.isCombinable()) {
+            return false;
+        }
+        long rowCount = 0L;
+        for (QueryResult each : queryResults) {
+            if (!(each instanceof AbstractMemoryQueryResult)) {
+                return false;
+            }
+            rowCount += ((AbstractMemoryQueryResult) each).getRowCount();
+        }
+        return rowCount >= option.getParallelThresholdRows();
+    }
+    
+    private AggregationState initForFirstGroupByValue(final AggregationStateMerger aggregationStateMerger, final QueryResult queryResult, final GroupByValue groupByValue,
+                                                      final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationState> aggregationMap) throws SQLException {
+        dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        AggregationState result = aggregationStateMerger.createState();
+        aggregationMap.put(groupByValue, result);
+        return result;
+    }
+    
+    private void setAggregationValueToMemoryRow(final AggregationStateMerger aggregationStateMerger,
+                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationState> aggregationMap) {
+        List<AggregationProjection> aggregationProjections = aggregationStateMerger.getAggregationProjections();
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            AggregationState aggregationState = aggregationMap.get(entry.getKey());
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                entry.getValue().setCell(aggregationProjections.get(i).getIndex(), aggregationStateMerger.getResult(aggregationState, i));
+            }
+        }
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSphereTable table = schema.getTable(tableName);
+            Map<String, ShardingSphereColumn> columns = table.getColumns();
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
+        if (dataMap.isEmpty()) {
+            Object[] data = generateReturnData();
+            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+        }
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        if (isTopN() && dataMap.size() > option.getRowLimit()) {
+            RowSorter sorter = new TopNRowSorter(comparator, (int) option.getRowLimit());
+            dataMap.values().forEach(sorter::add);
+            return Lists.newArrayList(sorter.sorted());
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        result.sort(comparator);
+        return result;
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationStateMerger;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Group by merge task.
+ * 
+ * <p>Each query result is aggregated into its own partial result on fork join worker, partial results are combined by tree reduction.</p>
+ */
+public final class GroupByMergeTask extends RecursiveTask<GroupByPartialResult> {
+    
+    private static final long serialVersionUID = -5394367093412640571L;
+    
+    private final transient List<QueryResult> queryResults;
+    
+    private final transient Collection<OrderByItem> groupByItems;
+    
+    private final transient AggregationStateMerger aggregationStateMerger;
+    
+    private final int from;
+    
+    private final int to;
+    
+    public GroupByMergeTask(final List<QueryResult> queryResults, final Collection<OrderByItem> groupByItems, final AggregationStateMerger aggregationStateMerger) {
+        this(queryResults, groupByItems, aggregationStateMerger, 0, queryResults.size());
+    }
+    
+    private GroupByMergeTask(final List<QueryResult> queryResults, final Collection<OrderByItem> groupByItems, final AggregationStateMerger aggregationStateMerger, final int from, final int to) {
+        this.queryResults = queryResults;
+        this.groupByItems = groupByItems;
+        this.aggregationStateMerger = aggregationStateMerger;
+        this.from = from;
+        this.to = to;
+    }
+    
+    @Override
+    protected GroupByPartialResult compute() {
+        if (to - from <= 1) {
+            return merge();
+        }
+        int middle = (from + to) >>> 1;
+        GroupByMergeTask left = new GroupByMergeTask(queryResults, groupByItems, aggregationStateMerger, from, middle);
+        left.fork();
+        GroupByPartialResult right = new GroupByMergeTask(queryResults, groupByItems, aggregationStateMerger, middle, to).compute();
+        GroupByPartialResult result = left.join();
+        result.combine(right, aggregationStateMerger);
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private GroupByPartialResult merge() {
+        GroupByPartialResult result = new GroupByPartialResult();
+        for (int i = from; i < to; i++) {
+            result.merge(queryResults.get(i), groupByItems, aggregationStateMerger);
+        }
+        return result;
+    }
+}
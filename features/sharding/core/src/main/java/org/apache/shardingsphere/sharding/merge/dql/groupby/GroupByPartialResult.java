@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationState;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationStateMerger;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Partial result of group by, which holds first row and aggregation state of each group.
+ */
+@Getter
+public final class GroupByPartialResult {
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, AggregationState> aggregationMap = new HashMap<>(1024);
+    
+    /**
+     * Merge all rows of query result.
+     *
+     * @param queryResult query result
+     * @param groupByItems group by items
+     * @param aggregationStateMerger aggregation state merger
+     * @throws SQLException SQL exception
+     */
+    public void merge(final QueryResult queryResult, final Collection<OrderByItem> groupByItems, final AggregationStateMerger aggregationStateMerger) throws SQLException {
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+            AggregationState aggregationState = aggregationMap.get(groupByValue);
+            if (null == aggregationState) {
+                dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+                aggregationState = aggregationStateMerger.createState();
+                aggregationMap.put(groupByValue, aggregationState);
+            }
+            aggregationStateMerger.merge(aggregationState, queryResult);
+        }
+    }
+    
+    /**
+     * Combine other partial result into current one.
+     * 
+     * <p>Rows of current partial result are kept for groups existed in both, so that combined rows are same as merging query results sequentially.</p>
+     *
+     * @param other other partial result
+     * @param aggregationStateMerger aggregation state merger
+     */
+    public void combine(final GroupByPartialResult other, final AggregationStateMerger aggregationStateMerger) {
+        for (Entry<GroupByValue, AggregationState> entry : other.aggregationMap.entrySet()) {
+            AggregationState aggregationState = aggregationMap.get(entry.getKey());
+            if (null == aggregationState) {
+                dataMap.put(entry.getKey(), other.dataMap.get(entry.getKey()));
+                aggregationMap.put(entry.getKey(), entry.getValue());
+            } else {
+                aggregationStateMerger.combine(aggregationState, entry.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Aggregation state of one group.
+ * 
+ * <p>All aggregation values of a group live in flat arrays indexed by slot, integral values are accumulated in primitive long
+ * and promoted to {@link BigDecimal} or {@link BigInteger} only when overflowed. Non integral values are always accumulated by {@link BigDecimal} to keep the result exact.</p>
+ */
+public final class AggregationState {
+    
+    private static final byte EMPTY = 0;
+    
+    private static final byte LONG = 1;
+    
+    private static final byte OBJECT = 2;
+    
+    private final long[] values;
+    
+    private final byte[] kinds;
+    
+    private Object[] objects;
+    
+    public AggregationState(final int slotCount) {
+        values = new long[slotCount];
+        kinds = new byte[slotCount];
+    }
+    
+    /**
+     * Merge long value into accumulation.
+     *
+     * @param slot slot
+     * @param value value to be merged
+     */
+    public void merge(final int slot, final long value) {
+        switch (kinds[slot]) {
+            case EMPTY:
+                values[slot] = value;
+                kinds[slot] = LONG;
+                return;
+            case LONG:
+                long result = values[slot] + value;
+                if (((values[slot] ^ result) & (value ^ result)) < 0L) {
+                    setObject(slot, BigDecimal.valueOf(values[slot]).add(BigDecimal.valueOf(value)));
+                    return;
+                }
+                values[slot] = result;
+                return;
+            default:
+                objects[slot] = ((BigDecimal) objects[slot]).add(BigDecimal.valueOf(value));
+        }
+    }
+    
+    /**
+     * Merge double value into accumulation.
+     * 
+     * <p>Double value is accumulated by its decimal representation, the same as the string value returned by database.</p>
+     *
+     * @param slot slot
+     * @param value value to be merged
+     */
+    public void merge(final int slot, final double value) {
+        merge(slot, BigDecimal.valueOf(value));
+    }
+    
+    /**
+     * Merge decimal value into accumulation.
+     *
+     * @param slot slot
+     * @param value value to be merged
+     */
+    public void merge(final int slot, final BigDecimal value) {
+        switch (kinds[slot]) {
+            case EMPTY:
+                setObject(slot, value);
+                return;
+            case LONG:
+                setObject(slot, BigDecimal.valueOf(values[slot]).add(value));
+                return;
+            default:
+                objects[slot] = ((BigDecimal) objects[slot]).add(value);
+        }
+    }
+    
+    /**
+     * Merge accumulation of other state into accumulation.
+     *
+     * @param slot slot
+     * @param other other state
+     */
+    public void mergeAccumulation(final int slot, final AggregationState other) {
+        switch (other.kinds[slot]) {
+            case EMPTY:
+                return;
+            case LONG:
+                merge(slot, other.values[slot]);
+                return;
+            default:
+                merge(slot, (BigDecimal) other.objects[slot]);
+        }
+    }
+    
+    /**
+     * Merge long value by bit xor.
+     *
+     * @param slot slot
+     * @param value value to be merged
+     */
+    public void mergeBitXor(final int slot, final long value) {
+        switch (kinds[slot]) {
+            case EMPTY:
+                values[slot] = value;
+                kinds[slot] = LONG;
+                return;
+            case LONG:
+                values[slot] ^= value;
+                return;
+            default:
+                objects[slot] = ((BigInteger) objects[slot]).xor(BigInteger.valueOf(value));
+        }
+    }
+    
+    /**
+     * Merge big integer value by bit xor.
+     *
+     * @param slot slot
+     * @param value value to be merged
+     */
+    public void mergeBitXor(final int slot, final BigInteger value) {
+        switch (kinds[slot]) {
+            case EMPTY:
+                setObject(slot, value);
+                return;
+            case LONG:
+                setObject(slot, BigInteger.valueOf(values[slot]).xor(value));
+                return;
+            default:
+                objects[slot] = ((BigInteger) objects[slot]).xor(value);
+        }
+    }
+    
+    /**
+     * Merge bit xor result of other state by bit xor.
+     *
+     * @param slot slot
+     * @param other other state
+     */
+    public void mergeBitXor(final int slot, final AggregationState other) {
+        switch (other.kinds[slot]) {
+            case EMPTY:
+                return;
+            case LONG:
+                mergeBitXor(slot, other.values[slot]);
+                return;
+            default:
+                mergeBitXor(slot, (BigInteger) other.objects[slot]);
+        }
+    }
+    
+    /**
+     * Merge comparable value by keeping the minimum or the maximum one.
+     *
+     * @param slot slot
+     * @param value value to be merged
+     * @param asc true to keep the minimum value, false to keep the maximum value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void mergeComparable(final int slot, final Comparable<?> value, final boolean asc) {
+        if (EMPTY == kinds[slot]) {
+            setObject(slot, value);
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(objects[slot]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            objects[slot] = value;
+        }
+    }
+    
+    /**
+     * Get object held by slot.
+     *
+     * @param slot slot
+     * @return held object, null if slot is empty or not an object
+     */
+    public Object getObject(final int slot) {
+        return OBJECT == kinds[slot] ? objects[slot] : null;
+    }
+    
+    /**
+     * Set object to slot.
+     *
+     * @param slot slot
+     * @param value object to be held
+     */
+    public void setObject(final int slot, final Object value) {
+        if (null == objects) {
+            objects = new Object[kinds.length];
+        }
+        objects[slot] = value;
+        kinds[slot] = OBJECT;
+    }
+    
+    /**
+     * Judge whether slot is empty.
+     *
+     * @param slot slot
+     * @return slot is empty or not
+     */
+    public boolean isEmpty(final int slot) {
+        return EMPTY == kinds[slot];
+    }
+    
+    /**
+     * Get accumulation result.
+     *
+     * @param slot slot
+     * @return accumulation result, null if nothing accumulated
+     */
+    public BigDecimal getDecimal(final int slot) {
+        switch (kinds[slot]) {
+            case EMPTY:
+                return null;
+            case LONG:
+                return BigDecimal.valueOf(values[slot]);
+            default:
+                return (BigDecimal) objects[slot];
+        }
+    }
+    
+    /**
+     * Get bit xor result.
+     *
+     * @param slot slot
+     * @return bit xor result, null if nothing merged
+     */
+    public BigInteger getBigInteger(final int slot) {
+        switch (kinds[slot]) {
+            case EMPTY:
+                return null;
+            case LONG:
+                return BigInteger.valueOf(values[slot]);
+            default:
+                return (BigInteger) objects[slot];
+        }
+    }
+    
+    /**
+     * Get estimated retained bytes.
+     *
+     * @return estimated bytes
+     */
+    public long getEstimatedBytes() {
+        return 64L + 9L * kinds.length + (null == objects ? 0L : 16L + 8L * objects.length);
+    }
+}
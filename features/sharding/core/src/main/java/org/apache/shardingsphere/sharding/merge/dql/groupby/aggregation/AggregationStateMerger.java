@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Aggregation state merger.
+ * 
+ * <p>Aggregation projections are resolved to slots of {@link AggregationState} once per query, values of each row are merged into the state by primitive type.</p>
+ * <p>Count distinct is merged by {@link HyperLogLog} sketch when approximate count distinct is enabled.</p>
+ */
+public final class AggregationStateMerger {
+    
+    private static final int SLOTS_PER_PROJECTION = 2;
+    
+    @Getter
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final AggregationType[] types;
+    
+    private final boolean[] distincts;
+    
+    private final int[][] valueIndexes;
+    
+    private final boolean approximateCountDistinct;
+    
+    public AggregationStateMerger(final Collection<AggregationProjection> aggregationProjections) {
+        this(aggregationProjections, false);
+    }
+    
+    public AggregationStateMerger(final Collection<AggregationProjection> aggregationProjections, final boolean approximateCountDistinct) {
+        this.approximateCountDistinct = approximateCountDistinct;
+        this.aggregationProjections = new ArrayList<>(aggregationProjections);
+        int size = this.aggregationProjections.size();
+        types = new AggregationType[size];
+        distincts = new boolean[size];
+        valueIndexes = new int[size][];
+        for (int i = 0; i < size; i++) {
+            AggregationProjection each = this.aggregationProjections.get(i);
+            types[i] = each.getType();
+            distincts[i] = each instanceof AggregationDistinctProjection && isDistinctSensitive(types[i]);
+            valueIndexes[i] = getValueIndexes(each);
+        }
+    }
+    
+    private boolean isDistinctSensitive(final AggregationType type) {
+        return AggregationType.SUM == type || AggregationType.COUNT == type || AggregationType.AVG == type;
+    }
+    
+    private int[] getValueIndexes(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return new int[]{aggregationProjection.getIndex()};
+        }
+        return aggregationProjection.getDerivedAggregationProjections().stream().mapToInt(AggregationProjection::getIndex).toArray();
+    }
+    
+    /**
+     * Create aggregation state for new group.
+     *
+     * @return aggregation state
+     */
+    public AggregationState createState() {
+        AggregationState result = new AggregationState(types.length * SLOTS_PER_PROJECTION);
+        for (int i = 0; i < types.length; i++) {
+            if (distincts[i]) {
+                result.setObject(i * SLOTS_PER_PROJECTION, AggregationUnitFactory.create(types[i], approximateCountDistinct));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Merge aggregation values of current row into state.
+     *
+     * @param state aggregation state
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void merge(final AggregationState state, final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < types.length; i++) {
+            int slot = i * SLOTS_PER_PROJECTION;
+            if (distincts[i]) {
+                mergeDistinct((AggregationUnit) state.getObject(slot), queryResult, valueIndexes[i]);
+                continue;
+            }
+            Comparable<?> value = getAggregationValue(queryResult, valueIndexes[i][0]);
+            switch (types[i]) {
+                case MAX:
+                case MIN:
+                    if (null != value) {
+                        state.mergeComparable(slot, value, AggregationType.MIN == types[i]);
+                    }
+                    break;
+                case SUM:
+                case COUNT:
+                    if (null != value) {
+                        mergeAccumulation(state, slot, value);
+                    }
+                    break;
+                case AVG:
+                    Comparable<?> sum = getAggregationValue(queryResult, valueIndexes[i][1]);
+                    if (null != value && null != sum) {
+                        mergeAccumulation(state, slot, value);
+                        mergeAccumulation(state, slot + 1, sum);
+                    }
+                    break;
+                case BIT_XOR:
+                    if (null != value) {
+                        mergeBitXor(state, slot, value);
+                    }
+                    break;
+                default:
+                    throw new UnsupportedSQLOperationException(types[i].name());
+            }
+        }
+    }
+    
+    /**
+     * Judge whether states can be combined or not.
+     * 
+     * <p>States of distinct aggregation hold distinct values in aggregation unit, which can not be combined.</p>
+     *
+     * @return states can be combined or not
+     */
+    public boolean isCombinable() {
+        for (boolean each : distincts) {
+            if (each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Combine source state into target state.
+     *
+     * @param target target state
+     * @param source source state
+     */
+    public void combine(final AggregationState target, final AggregationState source) {
+        for (int i = 0; i < types.length; i++) {
+            int slot = i * SLOTS_PER_PROJECTION;
+            switch (types[i]) {
+                case MAX:
+                case MIN:
+                    if (!source.isEmpty(slot)) {
+                        target.mergeComparable(slot, (Comparable<?>) source.getObject(slot), AggregationType.MIN == types[i]);
+                    }
+                    break;
+                case SUM:
+                case COUNT:
+                    target.mergeAccumulation(slot, source);
+                    break;
+                case AVG:
+                    target.mergeAccumulation(slot, source);
+                    target.mergeAccumulation(slot + 1, source);
+                    break;
+                case BIT_XOR:
+                    target.mergeBitXor(slot, source);
+                    break;
+                default:
+                    throw new UnsupportedSQLOperationException(types[i].name());
+            }
+        }
+    }
+    
+    private void mergeDistinct(final AggregationUnit aggregationUnit, final QueryResult queryResult, final int[] indexes) throws SQLException {
+        List<Comparable<?>> values = new ArrayList<>(indexes.length);
+        for (int each : indexes) {
+            values.add(getAggregationValue(queryResult, each));
+        }
+        aggregationUnit.merge(values);
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final int index) throws SQLException {
+        Object result = queryResult.getValue(index, Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation"));
+        return (Comparable<?>) result;
+    }
+    
+    private void mergeAccumulation(final AggregationState state, final int slot, final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            state.merge(slot, ((Number) value).longValue());
+        } else if (value instanceof Double) {
+            state.merge(slot, (double) (Double) value);
+        } else if (value instanceof BigDecimal) {
+            state.merge(slot, (BigDecimal) value);
+        } else {
+            state.merge(slot, new BigDecimal(value.toString()));
+        }
+    }
+    
+    private void mergeBitXor(final AggregationState state, final int slot, final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            state.mergeBitXor(slot, ((Number) value).longValue());
+        } else if (value instanceof BigInteger) {
+            state.mergeBitXor(slot, (BigInteger) value);
+        } else {
+            state.mergeBitXor(slot, new BigInteger(value.toString()));
+        }
+    }
+    
+    /**
+     * Get aggregation result.
+     *
+     * @param state aggregation state
+     * @param ordinal ordinal of aggregation projection
+     * @return aggregation result
+     */
+    public Comparable<?> getResult(final AggregationState state, final int ordinal) {
+        int slot = ordinal * SLOTS_PER_PROJECTION;
+        if (distincts[ordinal]) {
+            return ((AggregationUnit) state.getObject(slot)).getResult();
+        }
+        switch (types[ordinal]) {
+            case MAX:
+            case MIN:
+                return (Comparable<?>) state.getObject(slot);
+            case AVG:
+                return getAverage(state.getDecimal(slot), state.getDecimal(slot + 1));
+            case BIT_XOR:
+                return state.getBigInteger(slot);
+            default:
+                return state.getDecimal(slot);
+        }
+    }
+    
+    private BigDecimal getAverage(final BigDecimal count, final BigDecimal sum) {
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sum.divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
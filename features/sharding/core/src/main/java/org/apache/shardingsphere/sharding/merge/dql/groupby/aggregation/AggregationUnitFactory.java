@@ -29,26 +29,22 @@ import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 public final class AggregationUnitFactory {
     
     /**
-     * Create aggregation unit instance.
+     * Create distinct aggregation unit instance.
+     * 
+     * <p>Aggregations without distinct are merged by {@link AggregationState} directly.</p>
      * 
      * @param type aggregation function type
-     * @param isDistinct is distinct
+     * @param isApproximate is approximate, only count distinct can be approximate
      * @return aggregation unit instance
      */
-    public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+    public static AggregationUnit create(final AggregationType type, final boolean isApproximate) {
         switch (type) {
-            case MAX:
-                return new ComparableAggregationUnit(false);
-            case MIN:
-                return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return new DistinctSumAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isApproximate ? new ApproximateDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
-            case BIT_XOR:
-                return new BitXorAggregationUnit();
+                return new DistinctAverageAggregationUnit();
             default:
                 throw new UnsupportedSQLOperationException(type.name());
         }
@@ -19,30 +19,28 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
- * Accumulation aggregation unit.
+ * Approximate distinct count aggregation unit.
+ *
+ * <p>Distinct values are offered to {@link HyperLogLog} sketch instead of being collected, so memory is constant for each group.</p>
  */
 @RequiredArgsConstructor
-public final class AccumulationAggregationUnit implements AggregationUnit {
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final HyperLogLog sketch = new HyperLogLog();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = new BigDecimal("0");
-        }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        sketch.offer(values.get(0));
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return sketch.cardinality();
     }
 }
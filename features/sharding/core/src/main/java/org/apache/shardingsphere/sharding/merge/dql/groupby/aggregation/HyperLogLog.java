@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * HyperLogLog sketch for approximate distinct count.
+ *
+ * <p>Sketch holds {@code 2^precision} registers of one byte, memory is constant whatever the cardinality is.
+ * Standard error of estimation is {@code 1.04 / sqrt(2^precision)}, which is about 0.81% for default precision 14.</p>
+ *
+ * <p>Small cardinality is counted exactly by distinct hashes, registers are allocated only when hashes exceed {@code 2^precision / 64},
+ * so that grouped queries with many small groups do not pay for the whole registers.</p>
+ */
+public final class HyperLogLog {
+    
+    public static final int DEFAULT_PRECISION = 14;
+    
+    private static final int MIN_PRECISION = 4;
+    
+    private static final int MAX_PRECISION = 18;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    @Getter
+    private final int precision;
+    
+    private final int sparseThreshold;
+    
+    private Collection<Long> sparseHashes = new HashSet<>();
+    
+    private byte[] registers;
+    
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+    
+    public HyperLogLog(final int precision) {
+        Preconditions.checkArgument(precision >= MIN_PRECISION && precision <= MAX_PRECISION, "Precision of HyperLogLog must be between %s and %s.", MIN_PRECISION, MAX_PRECISION);
+        this.precision = precision;
+        sparseThreshold = 1 << precision >>> 6;
+    }
+    
+    /**
+     * Offer value.
+     *
+     * @param value value to be offered, null will be ignored
+     */
+    public void offer(final Object value) {
+        if (null != value) {
+            offerHash(hash(value));
+        }
+    }
+    
+    private long hash(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        return HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+    }
+    
+    /**
+     * Offer hashed value.
+     *
+     * @param hash 64 bits hash of value
+     */
+    public void offerHash(final long hash) {
+        if (null != sparseHashes) {
+            sparseHashes.add(hash);
+            if (sparseHashes.size() > sparseThreshold) {
+                toDense();
+            }
+            return;
+        }
+        setRegister(hash);
+    }
+    
+    private void toDense() {
+        registers = new byte[1 << precision];
+        for (long each : sparseHashes) {
+            setRegister(each);
+        }
+        sparseHashes = null;
+    }
+    
+    private void setRegister(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Merge other sketch into current sketch.
+     *
+     * @param other other sketch with same precision
+     */
+    public void merge(final HyperLogLog other) {
+        Preconditions.checkArgument(precision == other.precision, "Can not merge HyperLogLog with precision %s into %s.", other.precision, precision);
+        if (null != other.sparseHashes) {
+            other.sparseHashes.forEach(this::offerHash);
+            return;
+        }
+        if (null == registers) {
+            toDense();
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+    
+    /**
+     * Estimate cardinality.
+     *
+     * @return estimated cardinality
+     */
+    public long cardinality() {
+        if (null != sparseHashes) {
+            return sparseHashes.size();
+        }
+        int registerCount = registers.length;
+        double sum = 0D;
+        int zeroCount = 0;
+        for (byte each : registers) {
+            sum += 1D / (1L << each);
+            if (0 == each) {
+                zeroCount++;
+            }
+        }
+        double result = getAlpha(registerCount) * registerCount * registerCount / sum;
+        if (result <= 2.5D * registerCount && zeroCount > 0) {
+            result = registerCount * Math.log((double) registerCount / zeroCount);
+        }
+        return Math.round(result);
+    }
+    
+    private double getAlpha(final int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673D;
+            case 32:
+                return 0.697D;
+            case 64:
+                return 0.709D;
+            default:
+                return 0.7213D / (1D + 1.079D / registerCount);
+        }
+    }
+    
+    /**
+     * Get standard error of estimation.
+     *
+     * @return standard error
+     */
+    public double getStandardError() {
+        return 1.04D / Math.sqrt(1 << precision);
+    }
+}
@@ -56,6 +56,19 @@ public final class CompareUtil {
         return OrderDirection.ASC == orderDirection ? thisValue.compareTo(otherValue) : -thisValue.compareTo(otherValue);
     }
     
+    /**
+     * Compare two primitive long values with order type.
+     *
+     * @param thisValue this value
+     * @param otherValue other value
+     * @param orderDirection order direction
+     * @return compare result
+     */
+    public static int compareTo(final long thisValue, final long otherValue, final OrderDirection orderDirection) {
+        int result = Long.compare(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
+    
     private static int compareToCaseInsensitiveString(final String thisValue, final String otherValue, final OrderDirection orderDirection) {
         int result = thisValue.toUpperCase().compareTo(otherValue.toUpperCase());
         return OrderDirection.ASC == orderDirection ? result : -result;
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merging.
+ * 
+ * <p>Each internal node keeps the loser of the match between its children, so re-ranking the winner after it changed only needs log2(k) comparisons.</p>
+ *
+ * @param <T> type of value
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private final int size;
+    
+    public LoserTree(final Collection<T> values) {
+        leaves = new ArrayList<>(values);
+        size = leaves.size();
+        exhausted = new boolean[size];
+        tree = new int[Math.max(size, 1)];
+        build();
+    }
+    
+    private void build() {
+        if (0 == size) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            tree[i] = size;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    private void adjust(final int leafIndex) {
+        int winner = leafIndex;
+        for (int parent = (leafIndex + size) >> 1; parent > 0; parent >>= 1) {
+            if (isAhead(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isAhead(final int thisIndex, final int otherIndex) {
+        if (size == thisIndex) {
+            return true;
+        }
+        if (size == otherIndex) {
+            return false;
+        }
+        if (exhausted[thisIndex]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = leaves.get(thisIndex).compareTo(leaves.get(otherIndex));
+        return result < 0 || 0 == result && thisIndex < otherIndex;
+    }
+    
+    /**
+     * Judge whether all values are exhausted.
+     *
+     * @return all values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == size || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get winner, which is the minimum value.
+     *
+     * @return winner, null if all values are exhausted
+     */
+    public T peek() {
+        return isEmpty() ? null : leaves.get(tree[0]);
+    }
+    
+    /**
+     * Re-rank winner after it moved to next value.
+     */
+    public void updateWinner() {
+        if (!isEmpty()) {
+            adjust(tree[0]);
+        }
+    }
+    
+    /**
+     * Remove winner after it exhausted.
+     */
+    public void removeWinner() {
+        if (!isEmpty()) {
+            exhausted[tree[0]] = true;
+            adjust(tree[0]);
+        }
+    }
+}
@@ -26,46 +26,76 @@ import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.sql.Timestamp;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.Date;
 import java.util.Map;
 
 /**
  * Order by value.
+ * 
+ * <p>Order by values of current row are materialized once when moving to the row, integral and temporal values are also kept as primitive values to compare without boxing.
+ * Temporal values are kept as epoch second and nano of second, so that values of any year are compared without overflow.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte OBJECT_VALUE = 0;
+    
+    private static final byte INTEGRAL_VALUE = 1;
+    
+    private static final byte TEMPORAL_VALUE = 2;
+    
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final OrderByItem[] orderByItems;
+    
+    private final OrderDirection[] orderDirections;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final boolean[] orderValuesCaseSensitive;
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] primitiveOrderValues;
+    
+    private final int[] primitiveOrderNanos;
+    
+    private final byte[] orderValueTypes;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
+        this.orderByItems = orderByItems.toArray(new OrderByItem[0]);
         this.selectStatementContext = selectStatementContext;
+        orderDirections = new OrderDirection[this.orderByItems.length];
+        nullsOrderTypes = new NullsOrderType[this.orderByItems.length];
+        for (int i = 0; i < this.orderByItems.length; i++) {
+            orderDirections[i] = this.orderByItems[i].getSegment().getOrderDirection();
+            nullsOrderTypes[i] = this.orderByItems[i].getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType());
+        }
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderValues = new Comparable<?>[this.orderByItems.length];
+        primitiveOrderValues = new long[this.orderByItems.length];
+        primitiveOrderNanos = new int[this.orderByItems.length];
+        orderValueTypes = new byte[this.orderByItems.length];
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+    private boolean[] getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
+        boolean[] result = new boolean[orderByItems.length];
+        for (int i = 0; i < orderByItems.length; i++) {
+            result[i] = getOrderValuesCaseSensitiveFromTables(schema, orderByItems[i]);
         }
         return result;
     }
@@ -102,31 +132,50 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by"));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                primitiveOrderValues[i] = ((Number) value).longValue();
+                primitiveOrderNanos[i] = 0;
+                orderValueTypes[i] = INTEGRAL_VALUE;
+            } else if (value instanceof Timestamp) {
+                primitiveOrderValues[i] = Math.floorDiv(((Timestamp) value).getTime(), 1000L);
+                primitiveOrderNanos[i] = ((Timestamp) value).getNanos();
+                orderValueTypes[i] = TEMPORAL_VALUE;
+            } else if (value instanceof Date) {
+                primitiveOrderValues[i] = Math.floorDiv(((Date) value).getTime(), 1000L);
+                primitiveOrderNanos[i] = (int) Math.floorMod(((Date) value).getTime(), 1000L) * 1000000;
+                orderValueTypes[i] = TEMPORAL_VALUE;
+            } else {
+                orderValueTypes[i] = OBJECT_VALUE;
+            }
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = OBJECT_VALUE != orderValueTypes[i] && orderValueTypes[i] == orderByValue.orderValueTypes[i]
+                    ? comparePrimitiveOrderValue(i, orderByValue)
+                    : CompareUtil.compareTo(orderValues[i], orderByValue.orderValues[i], orderDirections[i], nullsOrderTypes[i], orderValuesCaseSensitive[i]);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int comparePrimitiveOrderValue(final int index, final OrderByValue orderByValue) {
+        int result = CompareUtil.compareTo(primitiveOrderValues[index], orderByValue.primitiveOrderValues[index], orderDirections[index]);
+        return 0 == result ? CompareUtil.compareTo(primitiveOrderNanos[index], orderByValue.primitiveOrderNanos[index], orderDirections[index]) : result;
+    }
 }
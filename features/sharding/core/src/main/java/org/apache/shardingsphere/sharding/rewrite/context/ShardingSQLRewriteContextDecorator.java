@@ -25,10 +25,15 @@ import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewri
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rewrite.parameter.ShardingParameterRewriterBuilder;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPredicateValuesParameterRewriter;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValues;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValuesExtractor;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingPredicateValuesTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingTokenGenerateBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * SQL rewrite context decorator for sharding.
@@ -39,12 +44,24 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
     @SuppressWarnings("rawtypes")
     @Override
     public void decorate(final ShardingRule shardingRule, final ConfigurationProperties props, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        Collection<ShardingPredicateValues> predicateValues = new ShardingPredicateValuesExtractor(sqlRewriteContext, routeContext).extract();
         if (!sqlRewriteContext.getParameters().isEmpty()) {
             Collection<ParameterRewriter> parameterRewriters = new ShardingParameterRewriterBuilder(shardingRule,
                     routeContext, sqlRewriteContext.getSchemas(), sqlRewriteContext.getSqlStatementContext()).getParameterRewriters();
             rewriteParameters(sqlRewriteContext, parameterRewriters);
+            rewritePredicateValuesParameters(sqlRewriteContext, routeContext, predicateValues);
         }
         sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext, sqlRewriteContext.getSqlStatementContext()).getSQLTokenGenerators());
+        if (!predicateValues.isEmpty()) {
+            sqlRewriteContext.addSQLTokenGenerators(Collections.singleton(new ShardingPredicateValuesTokenGenerator(predicateValues)));
+        }
+    }
+    
+    private void rewritePredicateValuesParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<ShardingPredicateValues> predicateValues) {
+        ShardingPredicateValuesParameterRewriter parameterRewriter = new ShardingPredicateValuesParameterRewriter(routeContext, predicateValues);
+        if (parameterRewriter.isNeedRewrite(sqlRewriteContext.getSqlStatementContext())) {
+            parameterRewriter.rewrite(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getParameters());
+        }
     }
     
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValues;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Sharding predicate values parameter rewriter.
+ */
+@RequiredArgsConstructor
+public final class ShardingPredicateValuesParameterRewriter implements ParameterRewriter<SQLStatementContext<?>> {
+    
+    private final RouteContext routeContext;
+    
+    private final Collection<ShardingPredicateValues> predicateValues;
+    
+    @Override
+    public boolean isNeedRewrite(final SQLStatementContext<?> sqlStatementContext) {
+        return predicateValues.stream().anyMatch(ShardingPredicateValues::containsParameterMarker);
+    }
+    
+    @Override
+    public void rewrite(final ParameterBuilder paramBuilder, final SQLStatementContext<?> sqlStatementContext, final List<Object> params) {
+        if (!(paramBuilder instanceof StandardParameterBuilder)) {
+            return;
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<Integer> prunedParameterMarkerIndexes = new LinkedList<>();
+            for (ShardingPredicateValues predicate : predicateValues) {
+                prunedParameterMarkerIndexes.addAll(predicate.getPrunedParameterMarkerIndexes(each));
+            }
+            ((StandardParameterBuilder) paramBuilder).addRemovedParameters(each, prunedParameterMarkerIndexes);
+        }
+    }
+}
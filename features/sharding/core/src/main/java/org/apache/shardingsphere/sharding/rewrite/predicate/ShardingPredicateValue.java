@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.predicate;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.Collection;
+
+/**
+ * Sharding predicate value.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingPredicateValue {
+    
+    private final String text;
+    
+    private final int parameterMarkerIndex;
+    
+    private final Collection<DataNode> dataNodes;
+    
+    /**
+     * Judge whether sharding predicate value is routed to actual table.
+     *
+     * @param dataSourceName data source name
+     * @param actualTableNames actual table names
+     * @return routed or not
+     */
+    public boolean isRoutedTo(final String dataSourceName, final Collection<String> actualTableNames) {
+        for (DataNode each : dataNodes) {
+            if (each.getDataSourceName().equalsIgnoreCase(dataSourceName) && actualTableNames.contains(each.getTableName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
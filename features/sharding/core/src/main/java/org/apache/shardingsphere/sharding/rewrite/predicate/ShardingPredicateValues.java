@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.predicate;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Sharding predicate values, which are values of IN predicate or equal predicates joined by OR on same sharding column.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingPredicateValues {
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    private final String logicTableName;
+    
+    private final String delimiter;
+    
+    private final List<ShardingPredicateValue> values;
+    
+    /**
+     * Get indexes of values which are not routed to route unit.
+     * 
+     * <p>Values will be kept entirely if none of them is routed to route unit.</p>
+     *
+     * @param routeUnit route unit
+     * @return pruned indexes of values
+     */
+    public Collection<Integer> getPrunedIndexes(final RouteUnit routeUnit) {
+        Set<String> actualTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        actualTableNames.addAll(routeUnit.getActualTableNames(logicTableName));
+        if (actualTableNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<Integer> result = new LinkedHashSet<>();
+        int index = 0;
+        for (ShardingPredicateValue each : values) {
+            if (!each.isRoutedTo(routeUnit.getDataSourceMapper().getLogicName(), actualTableNames)) {
+                result.add(index);
+            }
+            index++;
+        }
+        return result.size() == values.size() ? Collections.emptyList() : result;
+    }
+    
+    /**
+     * Get parameter marker indexes of values which are not routed to route unit.
+     *
+     * @param routeUnit route unit
+     * @return pruned parameter marker indexes
+     */
+    public Collection<Integer> getPrunedParameterMarkerIndexes(final RouteUnit routeUnit) {
+        Collection<Integer> result = new LinkedList<>();
+        for (int each : getPrunedIndexes(routeUnit)) {
+            int parameterMarkerIndex = values.get(each).getParameterMarkerIndex();
+            if (parameterMarkerIndex > -1) {
+                result.add(parameterMarkerIndex);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether sharding predicate values contain parameter marker.
+     *
+     * @return contain parameter marker or not
+     */
+    public boolean containsParameterMarker() {
+        for (ShardingPredicateValue each : values) {
+            if (each.getParameterMarkerIndex() > -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get text of values for route unit.
+     *
+     * @param routeUnit route unit
+     * @return text of values
+     */
+    public String toString(final RouteUnit routeUnit) {
+        Collection<Integer> prunedIndexes = getPrunedIndexes(routeUnit);
+        StringBuilder result = new StringBuilder();
+        int index = 0;
+        for (ShardingPredicateValue each : values) {
+            if (!prunedIndexes.contains(index)) {
+                if (result.length() > 0) {
+                    result.append(delimiter);
+                }
+                result.append(each.getText());
+            }
+            index++;
+        }
+        return result.toString();
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (ShardingPredicateValue each : values) {
+            if (result.length() > 0) {
+                result.append(delimiter);
+            }
+            result.append(each.getText());
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.predicate;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouteStageContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding predicate values extractor.
+ */
+public final class ShardingPredicateValuesExtractor {
+    
+    private static final String IN_DELIMITER = ", ";
+    
+    private static final String OR_DELIMITER = " OR ";
+    
+    private final SQLRewriteContext sqlRewriteContext;
+    
+    private final ShardingRouteStageContext routeStageContext;
+    
+    public ShardingPredicateValuesExtractor(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        this.sqlRewriteContext = sqlRewriteContext;
+        routeStageContext = routeContext.getRouteUnits().size() > 1 ? (ShardingRouteStageContext) routeContext.getRouteStageContexts().get(ShardingRule.class) : null;
+    }
+    
+    /**
+     * Extract sharding predicate values which can be pruned for each route unit.
+     *
+     * @return sharding predicate values
+     */
+    public Collection<ShardingPredicateValues> extract() {
+        SQLStatementContext<?> sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
+        if (null == routeStageContext || !(sqlStatementContext instanceof WhereAvailable)
+                || sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsDollarParameterMarker()) {
+            return Collections.emptyList();
+        }
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), sqlRewriteContext.getDatabaseName());
+        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName()
+                .map(sqlRewriteContext.getSchemas()::get).orElseGet(() -> sqlRewriteContext.getSchemas().get(defaultSchemaName));
+        Map<String, String> columnTableNames = sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(((WhereAvailable) sqlStatementContext).getColumnSegments(), schema);
+        Collection<ShardingPredicateValues> result = new LinkedList<>();
+        for (WhereSegment each : ((WhereAvailable) sqlStatementContext).getWhereSegments()) {
+            extract(each.getExpr(), columnTableNames, result);
+        }
+        return result;
+    }
+    
+    private void extract(final ExpressionSegment expression, final Map<String, String> columnTableNames, final Collection<ShardingPredicateValues> predicateValues) {
+        if (expression instanceof InExpression) {
+            extractInPredicate((InExpression) expression, columnTableNames).ifPresent(predicateValues::add);
+            return;
+        }
+        if (!(expression instanceof BinaryOperationExpression)) {
+            return;
+        }
+        BinaryOperationExpression binaryOperation = (BinaryOperationExpression) expression;
+        if ("OR".equalsIgnoreCase(binaryOperation.getOperator())) {
+            Optional<ShardingPredicateValues> orPredicateValues = extractOrPredicate(binaryOperation, columnTableNames);
+            if (orPredicateValues.isPresent()) {
+                predicateValues.add(orPredicateValues.get());
+                return;
+            }
+        }
+        if ("OR".equalsIgnoreCase(binaryOperation.getOperator()) || "AND".equalsIgnoreCase(binaryOperation.getOperator()) || "&&".equals(binaryOperation.getOperator())) {
+            extract(binaryOperation.getLeft(), columnTableNames, predicateValues);
+            extract(binaryOperation.getRight(), columnTableNames, predicateValues);
+        }
+    }
+    
+    private Optional<ShardingPredicateValues> extractInPredicate(final InExpression inExpression, final Map<String, String> columnTableNames) {
+        if (inExpression.isNot() || !(inExpression.getLeft() instanceof ColumnSegment) || !(inExpression.getRight() instanceof ListExpression)) {
+            return Optional.empty();
+        }
+        List<ExpressionSegment> items = ((ListExpression) inExpression.getRight()).getItems();
+        ColumnSegment column = (ColumnSegment) inExpression.getLeft();
+        String tableName = columnTableNames.get(column.getExpression());
+        if (items.size() < 2 || null == tableName || !routeStageContext.contains(tableName, column.getIdentifier().getValue())) {
+            return Optional.empty();
+        }
+        List<ShardingPredicateValue> values = new ArrayList<>(items.size());
+        for (ExpressionSegment each : items) {
+            Optional<ShardingPredicateValue> value = createValue(tableName, column, each, each);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(value.get());
+        }
+        return Optional.of(new ShardingPredicateValues(items.get(0).getStartIndex(), items.get(items.size() - 1).getStopIndex(), tableName, IN_DELIMITER, values));
+    }
+    
+    private Optional<ShardingPredicateValues> extractOrPredicate(final BinaryOperationExpression orExpression, final Map<String, String> columnTableNames) {
+        List<BinaryOperationExpression> equalPredicates = new LinkedList<>();
+        if (!collectEqualPredicates(orExpression, equalPredicates)) {
+            return Optional.empty();
+        }
+        ColumnSegment column = (ColumnSegment) equalPredicates.get(0).getLeft();
+        String tableName = columnTableNames.get(column.getExpression());
+        if (null == tableName || !routeStageContext.contains(tableName, column.getIdentifier().getValue())) {
+            return Optional.empty();
+        }
+        List<ShardingPredicateValue> values = new ArrayList<>(equalPredicates.size());
+        for (BinaryOperationExpression each : equalPredicates) {
+            if (!column.getIdentifier().getValue().equalsIgnoreCase(((ColumnSegment) each.getLeft()).getIdentifier().getValue())) {
+                return Optional.empty();
+            }
+            Optional<ShardingPredicateValue> value = createValue(tableName, column, each.getRight(), each);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(value.get());
+        }
+        return Optional.of(new ShardingPredicateValues(orExpression.getStartIndex(), orExpression.getStopIndex(), tableName, OR_DELIMITER, values));
+    }
+    
+    private boolean collectEqualPredicates(final ExpressionSegment expression, final List<BinaryOperationExpression> equalPredicates) {
+        if (!(expression instanceof BinaryOperationExpression)) {
+            return false;
+        }
+        BinaryOperationExpression binaryOperation = (BinaryOperationExpression) expression;
+        if ("=".equals(binaryOperation.getOperator())) {
+            if (!isUnqualifiedColumn(binaryOperation.getLeft()) || !isBoundedBy(binaryOperation, binaryOperation.getLeft(), binaryOperation.getRight())) {
+                return false;
+            }
+            equalPredicates.add(binaryOperation);
+            return true;
+        }
+        return "OR".equalsIgnoreCase(binaryOperation.getOperator()) && isBoundedBy(binaryOperation, binaryOperation.getLeft(), binaryOperation.getRight())
+                && "OR".equalsIgnoreCase(getText(binaryOperation.getLeft().getStopIndex() + 1, binaryOperation.getRight().getStartIndex() - 1).trim())
+                && collectEqualPredicates(binaryOperation.getLeft(), equalPredicates) && collectEqualPredicates(binaryOperation.getRight(), equalPredicates);
+    }
+    
+    private boolean isUnqualifiedColumn(final ExpressionSegment expression) {
+        return expression instanceof ColumnSegment && !((ColumnSegment) expression).getOwner().isPresent();
+    }
+    
+    private boolean isBoundedBy(final ExpressionSegment expression, final ExpressionSegment left, final ExpressionSegment right) {
+        return expression.getStartIndex() == left.getStartIndex() && expression.getStopIndex() == right.getStopIndex();
+    }
+    
+    private Optional<ShardingPredicateValue> createValue(final String tableName, final ColumnSegment column, final ExpressionSegment valueExpression, final ExpressionSegment textExpression) {
+        Object value;
+        int parameterMarkerIndex;
+        if (valueExpression instanceof ParameterMarkerExpressionSegment && ParameterMarkerType.QUESTION == ((ParameterMarkerExpressionSegment) valueExpression).getParameterMarkerType()) {
+            parameterMarkerIndex = ((ParameterMarkerExpressionSegment) valueExpression).getParameterMarkerIndex();
+            value = parameterMarkerIndex < sqlRewriteContext.getParameters().size() ? sqlRewriteContext.getParameters().get(parameterMarkerIndex) : null;
+        } else if (valueExpression instanceof LiteralExpressionSegment) {
+            parameterMarkerIndex = -1;
+            value = ((LiteralExpressionSegment) valueExpression).getLiterals();
+        } else {
+            return Optional.empty();
+        }
+        if (!(value instanceof Comparable)) {
+            return Optional.empty();
+        }
+        Optional<Collection<DataNode>> dataNodes = routeStageContext.findDataNodes(tableName, column.getIdentifier().getValue(), (Comparable<?>) value);
+        return dataNodes.map(optional -> new ShardingPredicateValue(getText(textExpression.getStartIndex(), textExpression.getStopIndex()), parameterMarkerIndex, optional));
+    }
+    
+    private String getText(final int startIndex, final int stopIndex) {
+        return sqlRewriteContext.getSql().substring(startIndex, stopIndex + 1);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValues;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingPredicateValuesToken;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Sharding predicate values token generator.
+ */
+@RequiredArgsConstructor
+public final class ShardingPredicateValuesTokenGenerator implements CollectionSQLTokenGenerator<SQLStatementContext<?>> {
+    
+    private final Collection<ShardingPredicateValues> predicateValues;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext<?> sqlStatementContext) {
+        return !predicateValues.isEmpty();
+    }
+    
+    @Override
+    public Collection<SQLToken> generateSQLTokens(final SQLStatementContext<?> sqlStatementContext) {
+        Collection<SQLToken> result = new LinkedList<>();
+        for (ShardingPredicateValues each : predicateValues) {
+            result.add(new ShardingPredicateValuesToken(each));
+        }
+        return result;
+    }
+}
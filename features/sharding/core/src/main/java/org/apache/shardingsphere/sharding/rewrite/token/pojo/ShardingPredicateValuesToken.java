@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValues;
+
+/**
+ * Sharding predicate values token.
+ */
+public final class ShardingPredicateValuesToken extends SQLToken implements Substitutable, RouteUnitAware {
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final ShardingPredicateValues predicateValues;
+    
+    public ShardingPredicateValuesToken(final ShardingPredicateValues predicateValues) {
+        super(predicateValues.getStartIndex());
+        stopIndex = predicateValues.getStopIndex();
+        this.predicateValues = predicateValues;
+    }
+    
+    @Override
+    public String toString(final RouteUnit routeUnit) {
+        return predicateValues.toString(routeUnit);
+    }
+    
+    @Override
+    public String toString() {
+        return predicateValues.toString();
+    }
+}
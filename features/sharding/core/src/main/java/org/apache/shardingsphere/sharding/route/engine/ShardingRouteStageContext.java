@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding route stage context.
+ *
+ * <p>Record data nodes of each sharding value, which are routed by sharding value only, so that rewrite stage can prune sharding values which do not belong to route unit.</p>
+ */
+public final class ShardingRouteStageContext implements RouteStageContext {
+    
+    private final Map<String, Map<Comparable<?>, Collection<DataNode>>> shardingValueDataNodes = new HashMap<>();
+    
+    /**
+     * Put data nodes of sharding value.
+     *
+     * @param logicTableName logic table name
+     * @param columnName sharding column name
+     * @param shardingValue sharding value
+     * @param dataNodes data nodes which sharding value routed to
+     */
+    public void putDataNodes(final String logicTableName, final String columnName, final Comparable<?> shardingValue, final Collection<DataNode> dataNodes) {
+        shardingValueDataNodes.computeIfAbsent(getKey(logicTableName, columnName), unused -> new HashMap<>()).merge(shardingValue, dataNodes, (oldValue, value) -> {
+            oldValue.addAll(value);
+            return oldValue;
+        });
+    }
+    
+    /**
+     * Find data nodes of sharding value.
+     *
+     * @param logicTableName logic table name
+     * @param columnName sharding column name
+     * @param shardingValue sharding value
+     * @return data nodes which sharding value routed to
+     */
+    public Optional<Collection<DataNode>> findDataNodes(final String logicTableName, final String columnName, final Comparable<?> shardingValue) {
+        Map<Comparable<?>, Collection<DataNode>> valueDataNodes = shardingValueDataNodes.get(getKey(logicTableName, columnName));
+        return null == valueDataNodes ? Optional.empty() : Optional.ofNullable(valueDataNodes.get(shardingValue));
+    }
+    
+    /**
+     * Judge whether sharding column of logic table is recorded.
+     *
+     * @param logicTableName logic table name
+     * @param columnName sharding column name
+     * @return recorded or not
+     */
+    public boolean contains(final String logicTableName, final String columnName) {
+        return shardingValueDataNodes.containsKey(getKey(logicTableName, columnName));
+    }
+    
+    /**
+     * Judge whether context is empty.
+     *
+     * @return empty or not
+     */
+    public boolean isEmpty() {
+        return shardingValueDataNodes.isEmpty();
+    }
+    
+    private String getKey(final String logicTableName, final String columnName) {
+        return logicTableName.toLowerCase() + "." + columnName.toLowerCase();
+    }
+}
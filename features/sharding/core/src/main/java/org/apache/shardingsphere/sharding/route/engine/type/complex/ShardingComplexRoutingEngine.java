@@ -71,6 +71,7 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
             RouteContext newRouteContext = routeContexts.iterator().next();
             result.getOriginalDataNodes().addAll(newRouteContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(newRouteContext.getRouteUnits());
+            result.getRouteStageContexts().putAll(newRouteContext.getRouteStageContexts());
         } else {
             RouteContext routeContext = new ShardingCartesianRoutingEngine(routeContexts).route(shardingRule);
             result.getOriginalDataNodes().addAll(routeContext.getOriginalDataNodes());
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedShardingDataSourceRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.NoShardingDatabaseRouteInfoException;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouteStageContext;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
@@ -40,6 +42,7 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
@@ -48,6 +51,9 @@ import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +74,8 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private final Collection<Collection<DataNode>> originalDataNodes = new LinkedList<>();
     
+    private final ShardingRouteStageContext routeStageContext = new ShardingRouteStageContext();
+    
     private final SQLHintExtractor sqlHintExtractor;
     
     public ShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions, final SQLStatementContext<?> sqlStatementContext,
@@ -88,6 +96,9 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
             result.getRouteUnits().add(
                     new RouteUnit(new RouteMapper(each.getDataSourceName(), each.getDataSourceName()), Collections.singleton(new RouteMapper(logicTableName, each.getTableName()))));
         }
+        if (result.getRouteUnits().size() > 1 && !routeStageContext.isEmpty()) {
+            result.getRouteStageContexts().put(ShardingRule.class, routeStageContext);
+        }
         return result;
     }
     
@@ -146,6 +157,53 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
+        if (isShardingValuePrunable(databaseShardingStrategy, tableShardingStrategy) && new HashSet<>(result).size() > 1) {
+            Iterator<Collection<DataNode>> dataNodes = originalDataNodes.iterator();
+            for (ShardingCondition each : shardingConditions.getConditions()) {
+                recordShardingValueDataNodes(tableRule, databaseShardingStrategy, tableShardingStrategy, each, dataNodes.next());
+            }
+        }
+        return result;
+    }
+    
+    private boolean isShardingValuePrunable(final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        return !(sqlStatementContext instanceof InsertStatementContext) && isSingleColumnShardingStrategy(databaseShardingStrategy) && isSingleColumnShardingStrategy(tableShardingStrategy);
+    }
+    
+    private boolean isSingleColumnShardingStrategy(final ShardingStrategy shardingStrategy) {
+        return shardingStrategy instanceof StandardShardingStrategy || shardingStrategy instanceof NoneShardingStrategy;
+    }
+    
+    private void recordShardingValueDataNodes(final TableRule tableRule, final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy,
+                                              final ShardingCondition shardingCondition, final Collection<DataNode> routedDataNodes) {
+        Collection<String> routedDataSources = new LinkedHashSet<>();
+        for (DataNode each : routedDataNodes) {
+            routedDataSources.add(each.getDataSourceName());
+        }
+        for (ShardingConditionValue each : shardingCondition.getValues()) {
+            if (each instanceof ListShardingConditionValue && logicTableName.equals(each.getTableName())
+                    && (databaseShardingStrategy.getShardingColumns().contains(each.getColumnName()) || tableShardingStrategy.getShardingColumns().contains(each.getColumnName()))) {
+                for (Comparable<?> value : ((ListShardingConditionValue<?>) each).getValues()) {
+                    routeStageContext.putDataNodes(logicTableName, each.getColumnName(), value,
+                            routeShardingValue(tableRule, databaseShardingStrategy, tableShardingStrategy, routedDataSources, each.getColumnName(), value));
+                }
+            }
+        }
+    }
+    
+    private Collection<DataNode> routeShardingValue(final TableRule tableRule, final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy,
+                                                    final Collection<String> routedDataSources, final String columnName, final Comparable<?> value) {
+        List<ShardingConditionValue> shardingValues = Collections.singletonList(new ListShardingConditionValue<>(columnName, logicTableName, Collections.singletonList(value)));
+        Collection<String> dataSources = databaseShardingStrategy.getShardingColumns().contains(columnName)
+                ? databaseShardingStrategy.doSharding(tableRule.getActualDataSourceNames(), shardingValues, tableRule.getDataSourceDataNode(), props)
+                : routedDataSources;
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : dataSources) {
+            Collection<String> tables = tableRule.getActualTableNames(each);
+            for (String table : tableShardingStrategy.getShardingColumns().contains(columnName) ? tableShardingStrategy.doSharding(tables, shardingValues, tableRule.getTableDataNode(), props) : tables) {
+                result.add(new DataNode(each, table));
+            }
+        }
         return result;
     }
     
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.KeyGenerateAlgorithmInitializationException;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.SnowflakeClockMoveBackException;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class LockFreeSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final int KEY_AMOUNT_PER_TASK = 10000;
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        LockFreeSnowflakeKeyGenerateAlgorithm algorithm = createAlgorithm(new Property("max-vibration-offset", "1"));
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        try {
+            Collection<Future<List<Long>>> futures = new ArrayList<>(threadNumber);
+            for (int i = 0; i < threadNumber; i++) {
+                futures.add(executor.submit(() -> generateKeys(algorithm)));
+            }
+            Set<Long> actual = new HashSet<>(threadNumber * KEY_AMOUNT_PER_TASK, 1F);
+            for (Future<List<Long>> each : futures) {
+                List<Long> keys = each.get();
+                for (int i = 1; i < keys.size(); i++) {
+                    assertTrue(keys.get(i) > keys.get(i - 1));
+                }
+                actual.addAll(keys);
+            }
+            assertThat(actual.size(), is(threadNumber * KEY_AMOUNT_PER_TASK));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private List<Long> generateKeys(final LockFreeSnowflakeKeyGenerateAlgorithm algorithm) {
+        List<Long> result = new ArrayList<>(KEY_AMOUNT_PER_TASK);
+        while (result.size() < KEY_AMOUNT_PER_TASK) {
+            if (0 == result.size() % 3) {
+                result.addAll(algorithm.generateKeys(Math.min(5, KEY_AMOUNT_PER_TASK - result.size())));
+            } else {
+                result.add(algorithm.generateKey());
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(100));
+        LockFreeSnowflakeKeyGenerateAlgorithm algorithm = createAlgorithm();
+        assertThat(algorithm.generateKeys(3), is(Arrays.asList(0L, 1L, 2L)));
+        assertThat(algorithm.generateKey(), is(3L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        List<Long> actual = new ArrayList<>(createAlgorithm().generateKeys(4097));
+        assertThat(actual.size(), is(4097));
+        assertThat(actual.get(0), is(0L));
+        assertThat(actual.get(4095), is(4095L));
+        assertThat(actual.get(4096), is(4194305L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithClockCallBack() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        LockFreeSnowflakeKeyGenerateAlgorithm algorithm = createAlgorithm();
+        setLastTimestampAndSequence(algorithm, 2L << 12);
+        assertThat(algorithm.generateKey(), is(8388609L));
+    }
+    
+    @Test(expected = SnowflakeClockMoveBackException.class)
+    public void assertGenerateKeyWithClockCallBackBeyondTolerateTime() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        LockFreeSnowflakeKeyGenerateAlgorithm algorithm = createAlgorithm(new Property("max-tolerate-time-difference-milliseconds", "0"));
+        setLastTimestampAndSequence(algorithm, 2L << 12);
+        algorithm.generateKey();
+    }
+    
+    @Test(expected = KeyGenerateAlgorithmInitializationException.class)
+    public void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        createAlgorithm(new Property("max-vibration-offset", "4096"));
+    }
+    
+    private LockFreeSnowflakeKeyGenerateAlgorithm createAlgorithm(final Property... props) {
+        LockFreeSnowflakeKeyGenerateAlgorithm result = (LockFreeSnowflakeKeyGenerateAlgorithm) TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE", PropertiesBuilder.build(props));
+        InstanceContext instanceContext = mock(InstanceContext.class);
+        when(instanceContext.getWorkerId()).thenReturn(0);
+        result.setInstanceContext(instanceContext);
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setLastTimestampAndSequence(final LockFreeSnowflakeKeyGenerateAlgorithm algorithm, final long value) {
+        ((AtomicLong) Plugins.getMemberAccessor().get(LockFreeSnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastTimestampAndSequence"), algorithm)).set(value);
+    }
+}
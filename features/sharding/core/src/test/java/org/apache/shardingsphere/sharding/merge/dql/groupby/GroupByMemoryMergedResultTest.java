@@ -19,11 +19,16 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpilledQueryResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -45,6 +50,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Tab
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
@@ -55,6 +62,10 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -117,6 +128,98 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithSpillToDisk() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        QueryResult queryResult1 = createMemoryQueryResult(metaData, new Object[]{20, 0, 2, 2, 20});
+        QueryResult queryResult2 = createMemoryQueryResult(metaData);
+        QueryResult queryResult3 = createMemoryQueryResult(metaData, new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30});
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.MEMORY_MERGE_SPILL_THRESHOLD_BYTES.getKey(), "1")));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), props);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithParallelMerge() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        QueryResult queryResult1 = createMemoryQueryResult(metaData, new Object[]{20, 0, 2, 2, 20});
+        QueryResult queryResult2 = createMemoryQueryResult(metaData);
+        QueryResult queryResult3 = createMemoryQueryResult(metaData, new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30});
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.MEMORY_MERGE_PARALLEL_THRESHOLD_ROWS.getKey(), "1")));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), props);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithRowLimit() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        QueryResult queryResult1 = createSpilledQueryResult(metaData, new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 1, 1, 10});
+        QueryResult queryResult2 = createSpilledQueryResult(metaData, new Object[]{30, 0, 3, 3, 30});
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 1; i <= 5; i++) {
+            columnLabelIndexMap.put(metaData.getColumnLabel(i), i);
+        }
+        selectStatementContext.setIndexes(columnLabelIndexMap);
+        MergedResult actual = new GroupByMemoryMergedResult(Arrays.asList(queryResult1, queryResult2), selectStatementContext, mock(ShardingSphereSchema.class), new GroupByMemoryMergeOption(0L, 2L, false, 0L, 0));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData() throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(5);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+    
+    private QueryResult createSpilledQueryResult(final QueryResultMetaData metaData, final Object[]... rows) {
+        return new SpilledQueryResult(metaData, Arrays.asList(rows).iterator());
+    }
+    
+    private QueryResult createMemoryQueryResult(final QueryResultMetaData metaData, final Object[]... rows) {
+        List<MemoryQueryResultDataRow> dataRows = new LinkedList<>();
+        for (Object[] each : rows) {
+            dataRows.add(new MemoryQueryResultDataRow(Arrays.asList(each)));
+        }
+        return new RawMemoryQueryResult(metaData, dataRows);
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
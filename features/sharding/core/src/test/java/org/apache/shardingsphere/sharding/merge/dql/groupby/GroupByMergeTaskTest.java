@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.MemoryMergeForkJoinPool;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpilledQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationStateMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class GroupByMergeTaskTest {
+    
+    @Test
+    public void assertCompute() {
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        groupByItem.setIndex(1);
+        Collection<OrderByItem> groupByItems = Collections.singletonList(groupByItem);
+        AggregationProjection count = new AggregationProjection(AggregationType.COUNT, "(*)", null, mock(DatabaseType.class));
+        count.setIndex(2);
+        AggregationStateMerger merger = new AggregationStateMerger(Collections.singletonList(count));
+        List<QueryResult> queryResults = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            queryResults.add(new SpilledQueryResult(mock(QueryResultMetaData.class), Arrays.asList(new Object[]{"a", 1L}, new Object[]{"shard_" + i, 2L}).iterator()));
+        }
+        GroupByPartialResult actual = MemoryMergeForkJoinPool.getPool(2).invoke(new GroupByMergeTask(queryResults, groupByItems, merger));
+        assertThat(actual.getDataMap().size(), is(9));
+        assertThat(getCount(actual, merger, "a"), is(BigDecimal.valueOf(8L)));
+        assertThat(getCount(actual, merger, "shard_3"), is(BigDecimal.valueOf(2L)));
+    }
+    
+    private Comparable<?> getCount(final GroupByPartialResult partialResult, final AggregationStateMerger merger, final String groupValue) {
+        return partialResult.getAggregationMap().entrySet().stream()
+                .filter(each -> each.getKey().getGroupValues().equals(Collections.singletonList(groupValue))).map(each -> merger.getResult(each.getValue(), 0)).findFirst().orElse(null);
+    }
+}
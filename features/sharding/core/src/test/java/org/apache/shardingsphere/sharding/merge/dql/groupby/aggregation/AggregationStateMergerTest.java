@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AggregationStateMergerTest {
+    
+    @Test
+    public void assertMerge() throws SQLException {
+        AggregationProjection count = createAggregationProjection(AggregationType.COUNT, 1);
+        AggregationProjection average = createAggregationProjection(AggregationType.AVG, 2);
+        average.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT, 3));
+        average.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM, 4));
+        AggregationProjection max = createAggregationProjection(AggregationType.MAX, 5);
+        AggregationDistinctProjection distinctCount = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", null, "order_id", mock(DatabaseType.class));
+        distinctCount.setIndex(6);
+        AggregationStateMerger merger = new AggregationStateMerger(Arrays.asList(count, average, max, distinctCount));
+        AggregationState state = merger.createState();
+        merger.merge(state, createQueryResult(2L, 2, 10, 20, "a", 1));
+        merger.merge(state, createQueryResult(3L, 2, 3, 10, "b", 1));
+        assertThat(merger.getResult(state, 0), is(BigDecimal.valueOf(5L)));
+        assertThat(merger.getResult(state, 1), is(new BigDecimal("2.3077")));
+        assertThat(merger.getResult(state, 2), is("b"));
+        assertThat(merger.getResult(state, 3), is(1));
+    }
+    
+    @Test
+    public void assertCombine() throws SQLException {
+        AggregationProjection count = createAggregationProjection(AggregationType.COUNT, 1);
+        AggregationProjection average = createAggregationProjection(AggregationType.AVG, 2);
+        average.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT, 3));
+        average.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM, 4));
+        AggregationProjection min = createAggregationProjection(AggregationType.MIN, 5);
+        AggregationStateMerger merger = new AggregationStateMerger(Arrays.asList(count, average, min));
+        assertTrue(merger.isCombinable());
+        AggregationState target = merger.createState();
+        merger.merge(target, createQueryResult(2L, 2, 10, 20, "b"));
+        AggregationState source = merger.createState();
+        merger.merge(source, createQueryResult(3L, 2, 3, 10, "a"));
+        merger.combine(target, source);
+        assertThat(merger.getResult(target, 0), is(BigDecimal.valueOf(5L)));
+        assertThat(merger.getResult(target, 1), is(new BigDecimal("2.3077")));
+        assertThat(merger.getResult(target, 2), is("a"));
+    }
+    
+    @Test
+    public void assertIsNotCombinableWithDistinct() {
+        AggregationDistinctProjection distinctCount = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", null, "order_id", mock(DatabaseType.class));
+        assertFalse(new AggregationStateMerger(Collections.singleton(distinctCount)).isCombinable());
+    }
+    
+    @Test
+    public void assertMergeApproximateCountDistinct() throws SQLException {
+        AggregationDistinctProjection distinctCount = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", null, "order_id", mock(DatabaseType.class));
+        distinctCount.setIndex(1);
+        AggregationStateMerger merger = new AggregationStateMerger(Collections.singleton(distinctCount), true);
+        AggregationState state = merger.createState();
+        merger.merge(state, createQueryResult(1));
+        merger.merge(state, createQueryResult(2));
+        merger.merge(state, createQueryResult(1));
+        assertThat(merger.getResult(state, 0), is(2L));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, "(order_id)", null, mock(DatabaseType.class));
+        result.setIndex(index);
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Object... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        for (int i = 0; i < values.length; i++) {
+            when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class AggregationStateTest {
+    
+    @Test
+    public void assertMergeLong() {
+        AggregationState state = new AggregationState(1);
+        assertTrue(state.isEmpty(0));
+        assertNull(state.getDecimal(0));
+        state.merge(0, 1L);
+        state.merge(0, 10L);
+        assertThat(state.getDecimal(0), is(BigDecimal.valueOf(11L)));
+    }
+    
+    @Test
+    public void assertMergeAccumulationOfOtherState() {
+        AggregationState state = new AggregationState(3);
+        state.merge(0, 1L);
+        state.merge(1, 1L);
+        AggregationState other = new AggregationState(3);
+        other.merge(0, 2L);
+        other.merge(1, 0.5D);
+        other.merge(2, new BigDecimal("1.5"));
+        state.mergeAccumulation(0, other);
+        state.mergeAccumulation(1, other);
+        state.mergeAccumulation(2, other);
+        assertThat(state.getDecimal(0), is(BigDecimal.valueOf(3L)));
+        assertThat(state.getDecimal(1), is(BigDecimal.valueOf(1.5D)));
+        assertThat(state.getDecimal(2), is(new BigDecimal("1.5")));
+    }
+    
+    @Test
+    public void assertMergeBitXorOfOtherState() {
+        AggregationState state = new AggregationState(2);
+        state.mergeBitXor(0, 6L);
+        AggregationState other = new AggregationState(2);
+        other.mergeBitXor(0, 3L);
+        state.mergeBitXor(0, other);
+        state.mergeBitXor(1, other);
+        assertThat(state.getBigInteger(0), is(BigInteger.valueOf(5L)));
+        assertTrue(state.isEmpty(1));
+    }
+    
+    @Test
+    public void assertMergeLongWithOverflow() {
+        AggregationState state = new AggregationState(1);
+        state.merge(0, Long.MAX_VALUE);
+        state.merge(0, 2L);
+        assertThat(state.getDecimal(0), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.valueOf(2L))));
+    }
+    
+    @Test
+    public void assertMergeMixedValues() {
+        AggregationState state = new AggregationState(1);
+        state.merge(0, 1L);
+        state.merge(0, 2.5D);
+        state.merge(0, new BigDecimal("0.25"));
+        assertThat(state.getDecimal(0), is(new BigDecimal("3.75")));
+    }
+    
+    @Test
+    public void assertMergeDoubleExactly() {
+        AggregationState state = new AggregationState(1);
+        state.merge(0, 0.1D);
+        state.merge(0, 0.2D);
+        assertThat(state.getDecimal(0), is(new BigDecimal("0.3")));
+    }
+    
+    @Test
+    public void assertMergeBitXor() {
+        AggregationState state = new AggregationState(1);
+        state.mergeBitXor(0, 1L);
+        state.mergeBitXor(0, 2L);
+        state.mergeBitXor(0, new BigInteger("10"));
+        assertThat(state.getBigInteger(0), is(BigInteger.valueOf(9L)));
+    }
+    
+    @Test
+    public void assertMergeComparable() {
+        AggregationState state = new AggregationState(2);
+        state.mergeComparable(0, 5, true);
+        state.mergeComparable(0, 1, true);
+        state.mergeComparable(1, 5, false);
+        state.mergeComparable(1, 10, false);
+        assertThat(state.getObject(0), is(1));
+        assertThat(state.getObject(1), is(10));
+    }
+}
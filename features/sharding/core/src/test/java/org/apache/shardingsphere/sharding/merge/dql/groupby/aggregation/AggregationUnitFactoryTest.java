@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 import org.junit.Test;
 
@@ -26,39 +27,28 @@ import static org.hamcrest.MatcherAssert.assertThat;
 public final class AggregationUnitFactoryTest {
     
     @Test
-    public void assertCreateComparableAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.MIN, false), instanceOf(ComparableAggregationUnit.class));
-        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false), instanceOf(ComparableAggregationUnit.class));
-    }
-    
-    @Test
-    public void assertCreateAccumulationAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false), instanceOf(AccumulationAggregationUnit.class));
-        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false), instanceOf(AccumulationAggregationUnit.class));
+    public void assertCreateDistinctSumAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false), instanceOf(DistinctSumAggregationUnit.class));
     }
     
     @Test
-    public void assertCreateAverageAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false), instanceOf(AverageAggregationUnit.class));
+    public void assertCreateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false), instanceOf(DistinctCountAggregationUnit.class));
     }
     
     @Test
-    public void assertCreateDistinctSumAggregationUnit() {
+    public void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true), instanceOf(ApproximateDistinctCountAggregationUnit.class));
         assertThat(AggregationUnitFactory.create(AggregationType.SUM, true), instanceOf(DistinctSumAggregationUnit.class));
     }
     
-    @Test
-    public void assertCreateDistinctCountAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true), instanceOf(DistinctCountAggregationUnit.class));
-    }
-    
     @Test
     public void assertCreateDistinctAverageAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.AVG, true), instanceOf(DistinctAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false), instanceOf(DistinctAverageAggregationUnit.class));
     }
     
-    @Test
-    public void assertCreateBitXorAggregationUnit() {
-        assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertCreateDistinctMaxAggregationUnit() {
+        AggregationUnitFactory.create(AggregationType.MAX, false);
     }
 }
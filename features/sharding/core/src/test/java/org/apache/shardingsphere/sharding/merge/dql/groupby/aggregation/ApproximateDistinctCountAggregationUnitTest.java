@@ -19,22 +19,21 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
-import java.math.BigInteger;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
-public final class BitXorAggregationUnitTest {
+public final class ApproximateDistinctCountAggregationUnitTest {
     
     @Test
-    public void assertBitXorAggregation() {
-        BitXorAggregationUnit bitXorAggregationUnit = new BitXorAggregationUnit();
-        bitXorAggregationUnit.merge(null);
-        bitXorAggregationUnit.merge(Collections.singletonList(null));
-        bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("1")));
-        bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("2")));
-        bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("10")));
-        assertThat(((Number) bitXorAggregationUnit.getResult()).intValue(), is(9));
+    public void assertApproximateDistinctCountAggregation() {
+        AggregationUnit approximateDistinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        approximateDistinctCountAggregationUnit.merge(null);
+        approximateDistinctCountAggregationUnit.merge(Collections.singletonList(null));
+        approximateDistinctCountAggregationUnit.merge(Collections.singletonList(10));
+        approximateDistinctCountAggregationUnit.merge(Collections.singletonList(5));
+        approximateDistinctCountAggregationUnit.merge(Collections.singletonList(10));
+        assertThat(approximateDistinctCountAggregationUnit.getResult(), is(2L));
     }
 }
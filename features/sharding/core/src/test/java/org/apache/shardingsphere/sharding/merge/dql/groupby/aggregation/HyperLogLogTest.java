@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertCardinalityWithSmallCardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 200; i++) {
+            sketch.offer(i);
+            sketch.offer(i);
+        }
+        sketch.offer(null);
+        assertThat(sketch.cardinality(), is(200L));
+    }
+    
+    @Test
+    public void assertCardinalityWithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        int cardinality = 1000000;
+        for (int i = 0; i < cardinality; i++) {
+            sketch.offer("order_" + i);
+        }
+        assertWithinErrorBound(sketch, cardinality);
+    }
+    
+    @Test
+    public void assertCardinalityWithLinearCounting() {
+        HyperLogLog sketch = new HyperLogLog();
+        int cardinality = 5000;
+        for (long i = 0; i < cardinality; i++) {
+            sketch.offer(i);
+        }
+        assertWithinErrorBound(sketch, cardinality);
+    }
+    
+    @Test
+    public void assertMerge() {
+        HyperLogLog sketch1 = new HyperLogLog();
+        HyperLogLog sketch2 = new HyperLogLog();
+        HyperLogLog sketch3 = new HyperLogLog();
+        for (int i = 0; i < 60000; i++) {
+            sketch1.offer(i);
+        }
+        for (int i = 40000; i < 100000; i++) {
+            sketch2.offer(i);
+        }
+        for (int i = 99900; i < 100100; i++) {
+            sketch3.offer(i);
+        }
+        sketch1.merge(sketch2);
+        sketch1.merge(sketch3);
+        assertWithinErrorBound(sketch1, 100100);
+    }
+    
+    @Test
+    public void assertMergeSparseSketches() {
+        HyperLogLog sketch1 = new HyperLogLog();
+        HyperLogLog sketch2 = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch1.offer(i);
+            sketch2.offer(i + 50);
+        }
+        sketch1.merge(sketch2);
+        assertThat(sketch1.cardinality(), is(150L));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertMergeWithDifferentPrecision() {
+        new HyperLogLog(14).merge(new HyperLogLog(12));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithInvalidPrecision() {
+        new HyperLogLog(32);
+    }
+    
+    @Test
+    public void assertGetStandardError() {
+        assertThat(new HyperLogLog().getStandardError(), is(1.04D / 128));
+    }
+    
+    private void assertWithinErrorBound(final HyperLogLog sketch, final long cardinality) {
+        double relativeError = Math.abs(sketch.cardinality() - cardinality) / (double) cardinality;
+        assertTrue(String.format("Relative error %s exceeds 3 standard errors.", relativeError), relativeError < 3 * sketch.getStandardError());
+    }
+}
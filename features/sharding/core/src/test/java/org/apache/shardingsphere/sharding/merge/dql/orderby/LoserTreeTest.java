@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmpty() {
+        LoserTree<SortedValues> actual = new LoserTree<>(Collections.<SortedValues>emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+    }
+    
+    @Test
+    public void assertMerge() {
+        LoserTree<SortedValues> loserTree = new LoserTree<>(Arrays.asList(
+                new SortedValues(1, 4, 7), new SortedValues(2, 2, 9), new SortedValues(3), new SortedValues(0, 5, 6, 8)));
+        List<Integer> actual = new LinkedList<>();
+        while (!loserTree.isEmpty()) {
+            SortedValues winner = loserTree.peek();
+            actual.add(winner.current);
+            if (winner.next()) {
+                loserTree.updateWinner();
+            } else {
+                loserTree.removeWinner();
+            }
+        }
+        assertThat(actual, is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    public void assertMergeWithSingleValue() {
+        LoserTree<SortedValues> loserTree = new LoserTree<>(Collections.singletonList(new SortedValues(1, 2)));
+        assertThat(loserTree.peek().current, is(1));
+        assertTrue(loserTree.peek().next());
+        loserTree.updateWinner();
+        assertThat(loserTree.peek().current, is(2));
+        assertFalse(loserTree.peek().next());
+        loserTree.removeWinner();
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    private static final class SortedValues implements Comparable<SortedValues> {
+        
+        private final Iterator<Integer> values;
+        
+        private int current;
+        
+        SortedValues(final Integer... values) {
+            this.values = Arrays.asList(values).iterator();
+            current = this.values.next();
+        }
+        
+        boolean next() {
+            if (values.hasNext()) {
+                current = values.next();
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public int compareTo(final SortedValues other) {
+            return Integer.compare(current, other.current);
+        }
+    }
+}
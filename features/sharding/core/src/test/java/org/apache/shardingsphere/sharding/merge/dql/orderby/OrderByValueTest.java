@@ -47,8 +47,10 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.plugins.MemberAccessor;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -98,14 +100,14 @@ public final class OrderByValueTest {
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, NullsOrderType.FIRST))),
                 selectStatementContext, schema);
         MemberAccessor accessor = Plugins.getMemberAccessor();
-        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue1, Arrays.asList(false, false));
+        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue1, new boolean[]{false, false});
         assertTrue(orderByValue1.next());
         QueryResult queryResult2 = createQueryResult("3", "4");
         OrderByValue orderByValue2 = new OrderByValue(queryResult2, Arrays.asList(
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST)),
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, NullsOrderType.FIRST))),
                 selectStatementContext, schema);
-        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue2, Arrays.asList(false, false));
+        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue2, new boolean[]{false, false});
         assertTrue(orderByValue2.next());
         assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
         assertFalse(orderByValue1.getQueryResult().next());
@@ -156,14 +158,14 @@ public final class OrderByValueTest {
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))),
                 selectStatementContext, schema);
         MemberAccessor accessor = Plugins.getMemberAccessor();
-        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue1, Arrays.asList(false, false));
+        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue1, new boolean[]{false, false});
         assertTrue(orderByValue1.next());
         QueryResult queryResult2 = createQueryResult("3", "4");
         OrderByValue orderByValue2 = new OrderByValue(queryResult2, Arrays.asList(
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST)),
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))),
                 selectStatementContext, schema);
-        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue2, Arrays.asList(false, false));
+        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue2, new boolean[]{false, false});
         assertTrue(orderByValue2.next());
         assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
         assertFalse(orderByValue1.getQueryResult().next());
@@ -209,21 +211,71 @@ public final class OrderByValueTest {
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))),
                 selectStatementContext, schema);
         MemberAccessor accessor = Plugins.getMemberAccessor();
-        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue1, Arrays.asList(false, false));
+        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue1, new boolean[]{false, false});
         assertTrue(orderByValue1.next());
         QueryResult queryResult2 = createQueryResult("1", "2");
         OrderByValue orderByValue2 = new OrderByValue(queryResult2, Arrays.asList(
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST)),
                 createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))),
                 selectStatementContext, schema);
-        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue2, Arrays.asList(false, false));
+        accessor.set(OrderByValue.class.getDeclaredField("orderValuesCaseSensitive"), orderByValue2, new boolean[]{false, false});
         assertTrue(orderByValue2.next());
         assertThat(orderByValue1.compareTo(orderByValue2), is(0));
         assertFalse(orderByValue1.getQueryResult().next());
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
-    private QueryResult createQueryResult(final String... values) throws SQLException {
+    @Test
+    public void assertCompareToWithIntegralValues() throws SQLException {
+        assertCompareTo(Long.MIN_VALUE, 1, OrderDirection.ASC, -1);
+        assertCompareTo((short) 3, (byte) 2, OrderDirection.ASC, 1);
+        assertCompareTo(Long.MAX_VALUE, Long.MAX_VALUE - 1L, OrderDirection.DESC, -1);
+        assertCompareTo(5L, 5, OrderDirection.ASC, 0);
+    }
+    
+    @Test
+    public void assertCompareToWithFarFutureTemporalValues() throws SQLException {
+        Timestamp maxTimestamp = Timestamp.valueOf("9999-12-31 23:59:59.999999999");
+        assertCompareTo(Timestamp.valueOf("2022-01-01 00:00:00"), maxTimestamp, OrderDirection.ASC, -1);
+        assertCompareTo(Timestamp.valueOf("9999-12-31 23:59:59.999999998"), maxTimestamp, OrderDirection.ASC, -1);
+        assertCompareTo(new Date(Timestamp.valueOf("2262-04-12 00:00:00").getTime()), new Date(Timestamp.valueOf("2262-04-11 00:00:00").getTime()), OrderDirection.ASC, 1);
+        assertCompareTo(new Date(maxTimestamp.getTime()), new Date(0L), OrderDirection.DESC, -1);
+    }
+    
+    @Test
+    public void assertCompareToWithPreEpochTemporalValues() throws SQLException {
+        assertCompareTo(Timestamp.valueOf("1969-12-31 23:59:59.9"), Timestamp.valueOf("1969-12-31 23:59:59.1"), OrderDirection.ASC, 1);
+        assertCompareTo(Timestamp.valueOf("0001-01-01 00:00:00"), Timestamp.valueOf("1970-01-01 00:00:00"), OrderDirection.ASC, -1);
+        assertCompareTo(new Date(-1L), new Date(-1001L), OrderDirection.ASC, 1);
+        assertCompareTo(new Date(-1L), new Date(0L), OrderDirection.ASC, -1);
+    }
+    
+    @Test
+    public void assertCompareToWithTimestampAndDateValues() throws SQLException {
+        assertCompareTo(new Timestamp(1500L), new Date(1499L), OrderDirection.ASC, 1);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(1);
+        assertCompareTo(timestamp, new Date(1000L), OrderDirection.ASC, 1);
+    }
+    
+    private void assertCompareTo(final Object value1, final Object value2, final OrderDirection orderDirection, final int expectedSign) throws SQLException {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(createOrderBySegment());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(
+                createShardingSphereMetaData(mock(ShardingSphereDatabase.class)), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        OrderByValue orderByValue1 = new OrderByValue(createQueryResult(value1),
+                Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST))), selectStatementContext, schema);
+        OrderByValue orderByValue2 = new OrderByValue(createQueryResult(value2),
+                Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST))), selectStatementContext, schema);
+        assertTrue(orderByValue1.next());
+        assertTrue(orderByValue2.next());
+        assertThat(Integer.signum(orderByValue1.compareTo(orderByValue2)), is(expectedSign));
+        assertThat(Integer.signum(orderByValue2.compareTo(orderByValue1)), is(-expectedSign));
+    }
+    
+    private QueryResult createQueryResult(final Object... values) throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, false);
         for (int i = 0; i < values.length; i++) {
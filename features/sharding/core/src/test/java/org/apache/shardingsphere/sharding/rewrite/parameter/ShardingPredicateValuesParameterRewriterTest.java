@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPredicateValuesParameterRewriter;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValue;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValues;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingPredicateValuesParameterRewriterTest {
+    
+    @Test
+    public void assertIsNeedRewrite() {
+        ShardingPredicateValues literalValues = new ShardingPredicateValues(41, 44, "t_order", ", ",
+                Arrays.asList(new ShardingPredicateValue("1", -1, Collections.emptyList()), new ShardingPredicateValue("2", -1, Collections.emptyList())));
+        assertFalse(new ShardingPredicateValuesParameterRewriter(new RouteContext(), Collections.singleton(literalValues)).isNeedRewrite(mock(SelectStatementContext.class)));
+        assertTrue(new ShardingPredicateValuesParameterRewriter(new RouteContext(), Collections.singleton(createPredicateValues())).isNeedRewrite(mock(SelectStatementContext.class)));
+    }
+    
+    @Test
+    public void assertRewrite() {
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_1")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(firstRouteUnit);
+        routeContext.getRouteUnits().add(secondRouteUnit);
+        List<Object> params = Arrays.asList(10, 2, 4, 3);
+        StandardParameterBuilder paramBuilder = new StandardParameterBuilder(params);
+        new ShardingPredicateValuesParameterRewriter(routeContext, Collections.singleton(createPredicateValues())).rewrite(paramBuilder, mock(SelectStatementContext.class), params);
+        assertTrue(paramBuilder.isRouteUnitAware());
+        assertThat(paramBuilder.getParameters(firstRouteUnit), is(Arrays.<Object>asList(10, 2, 4)));
+        assertThat(paramBuilder.getParameters(secondRouteUnit), is(Arrays.<Object>asList(10, 3)));
+    }
+    
+    private ShardingPredicateValues createPredicateValues() {
+        return new ShardingPredicateValues(41, 47, "t_order", ", ", Arrays.asList(new ShardingPredicateValue("?", 1, Collections.singleton(new DataNode("ds_0", "t_order_0"))),
+                new ShardingPredicateValue("?", 2, Collections.singleton(new DataNode("ds_0", "t_order_0"))), new ShardingPredicateValue("?", 3, Collections.singleton(new DataNode("ds_0", "t_order_1")))));
+    }
+}
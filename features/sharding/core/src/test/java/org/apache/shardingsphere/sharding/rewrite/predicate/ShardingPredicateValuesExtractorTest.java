@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.predicate;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouteStageContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingPredicateValuesExtractorTest {
+    
+    private final RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+    
+    private final RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1")));
+    
+    private RouteContext routeContext;
+    
+    @Before
+    public void setUp() {
+        routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(firstRouteUnit);
+        routeContext.getRouteUnits().add(secondRouteUnit);
+        ShardingRouteStageContext routeStageContext = new ShardingRouteStageContext();
+        routeStageContext.putDataNodes("t_order", "order_id", 1, new ArrayList<>(Collections.singleton(new DataNode("ds_1", "t_order_1"))));
+        routeStageContext.putDataNodes("t_order", "order_id", 2, new ArrayList<>(Collections.singleton(new DataNode("ds_0", "t_order_0"))));
+        routeStageContext.putDataNodes("t_order", "order_id", 3, new ArrayList<>(Collections.singleton(new DataNode("ds_1", "t_order_1"))));
+        routeContext.getRouteStageContexts().put(ShardingRule.class, routeStageContext);
+    }
+    
+    @Test
+    public void assertExtractInPredicate() {
+        ColumnSegment column = new ColumnSegment(28, 35, new IdentifierValue("order_id"));
+        ListExpression listExpression = new ListExpression(40, 48);
+        listExpression.getItems().add(new ParameterMarkerExpressionSegment(41, 41, 0));
+        listExpression.getItems().add(new LiteralExpressionSegment(44, 44, 2));
+        listExpression.getItems().add(new ParameterMarkerExpressionSegment(47, 47, 1));
+        InExpression inExpression = new InExpression(28, 48, column, listExpression, false);
+        Collection<ShardingPredicateValues> actual = new ShardingPredicateValuesExtractor(
+                createSQLRewriteContext("SELECT * FROM t_order WHERE order_id IN (?, 2, ?)", Arrays.asList(1, 3), column, inExpression), routeContext).extract();
+        assertThat(actual.size(), is(1));
+        ShardingPredicateValues predicateValues = actual.iterator().next();
+        assertThat(predicateValues.getStartIndex(), is(41));
+        assertThat(predicateValues.getStopIndex(), is(47));
+        assertThat(predicateValues.toString(), is("?, 2, ?"));
+        assertThat(predicateValues.toString(firstRouteUnit), is("2"));
+        assertThat(predicateValues.toString(secondRouteUnit), is("?, ?"));
+        assertThat(new ArrayList<>(predicateValues.getPrunedParameterMarkerIndexes(firstRouteUnit)), is(Arrays.asList(0, 1)));
+        assertTrue(predicateValues.getPrunedParameterMarkerIndexes(secondRouteUnit).isEmpty());
+    }
+    
+    @Test
+    public void assertExtractOrPredicate() {
+        ColumnSegment firstColumn = new ColumnSegment(28, 35, new IdentifierValue("order_id"));
+        BinaryOperationExpression firstEqual = new BinaryOperationExpression(28, 39, firstColumn, new ParameterMarkerExpressionSegment(39, 39, 0), "=", "order_id = ?");
+        BinaryOperationExpression secondEqual = new BinaryOperationExpression(
+                44, 55, new ColumnSegment(44, 51, new IdentifierValue("order_id")), new LiteralExpressionSegment(55, 55, 2), "=", "order_id = 2");
+        BinaryOperationExpression orExpression = new BinaryOperationExpression(28, 55, firstEqual, secondEqual, "OR", "order_id = ? OR order_id = 2");
+        Collection<ShardingPredicateValues> actual = new ShardingPredicateValuesExtractor(
+                createSQLRewriteContext("SELECT * FROM t_order WHERE order_id = ? OR order_id = 2", Collections.singletonList(1), firstColumn, orExpression), routeContext).extract();
+        assertThat(actual.size(), is(1));
+        ShardingPredicateValues predicateValues = actual.iterator().next();
+        assertThat(predicateValues.toString(firstRouteUnit), is("order_id = 2"));
+        assertThat(predicateValues.toString(secondRouteUnit), is("order_id = ?"));
+    }
+    
+    @Test
+    public void assertExtractWithUnknownValue() {
+        ColumnSegment column = new ColumnSegment(28, 35, new IdentifierValue("order_id"));
+        ListExpression listExpression = new ListExpression(40, 45);
+        listExpression.getItems().add(new LiteralExpressionSegment(41, 41, 1));
+        listExpression.getItems().add(new LiteralExpressionSegment(44, 44, 4));
+        InExpression inExpression = new InExpression(28, 45, column, listExpression, false);
+        assertTrue(new ShardingPredicateValuesExtractor(
+                createSQLRewriteContext("SELECT * FROM t_order WHERE order_id IN (1, 4)", Collections.emptyList(), column, inExpression), routeContext).extract().isEmpty());
+    }
+    
+    private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params, final ColumnSegment column, final ExpressionSegment whereExpression) {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getWhereSegments()).thenReturn(Collections.singletonList(new WhereSegment(22, sql.length() - 1, whereExpression)));
+        when(sqlStatementContext.getColumnSegments()).thenReturn(Collections.singletonList(column));
+        when(sqlStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        when(sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(any(), any())).thenReturn(Collections.singletonMap("order_id", "t_order"));
+        SQLRewriteContext result = mock(SQLRewriteContext.class);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(result.getDatabaseName()).thenReturn("foo_db");
+        when(result.getSql()).thenReturn(sql);
+        when(result.getParameters()).thenReturn(params);
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValue;
+import org.apache.shardingsphere.sharding.rewrite.predicate.ShardingPredicateValues;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingPredicateValuesTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingPredicateValuesToken;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingPredicateValuesTokenGeneratorTest {
+    
+    @Test
+    public void assertIsGenerateSQLToken() {
+        assertFalse(new ShardingPredicateValuesTokenGenerator(Collections.emptyList()).isGenerateSQLToken(mock(SelectStatementContext.class)));
+        assertTrue(new ShardingPredicateValuesTokenGenerator(Collections.singleton(createPredicateValues())).isGenerateSQLToken(mock(SelectStatementContext.class)));
+    }
+    
+    @Test
+    public void assertGenerateSQLTokens() {
+        Collection<SQLToken> actual = new ShardingPredicateValuesTokenGenerator(Collections.singleton(createPredicateValues())).generateSQLTokens(mock(SelectStatementContext.class));
+        assertThat(actual.size(), is(1));
+        ShardingPredicateValuesToken token = (ShardingPredicateValuesToken) actual.iterator().next();
+        assertThat(token.getStartIndex(), is(41));
+        assertThat(token.getStopIndex(), is(44));
+        assertThat(token.toString(), is("?, ?"));
+        assertThat(token.toString(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")))), is("?"));
+        assertThat(token.toString(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_2")))), is("?, ?"));
+    }
+    
+    private ShardingPredicateValues createPredicateValues() {
+        return new ShardingPredicateValues(41, 44, "t_order", ", ", Arrays.asList(
+                new ShardingPredicateValue("?", 0, Collections.singleton(new DataNode("ds_0", "t_order_0"))), new ShardingPredicateValue("?", 1, Collections.singleton(new DataNode("ds_0", "t_order_1")))));
+    }
+}
@@ -19,24 +19,31 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingRouteAlgorithmException;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouteStageContext;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.After;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -86,6 +93,21 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsWithShardingValueDataNodes() {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", "t_order", Collections.singleton(1L)));
+        shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Arrays.asList(1L, 2L)));
+        ShardingConditions shardingConditions = new ShardingConditions(Collections.singletonList(shardingCondition), mock(SQLStatementContext.class), mock(ShardingRule.class));
+        RouteContext routeContext = createShardingStandardRoutingEngine("t_order", shardingConditions, mock(SQLStatementContext.class), new HintValueContext()).route(createBasedShardingRule());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+        ShardingRouteStageContext routeStageContext = (ShardingRouteStageContext) routeContext.getRouteStageContexts().get(ShardingRule.class);
+        assertThat(routeStageContext.findDataNodes("t_order", "order_id", 1L), is(Optional.of(Collections.singletonList(new DataNode("ds_1", "t_order_1")))));
+        assertThat(routeStageContext.findDataNodes("t_order", "order_id", 2L), is(Optional.of(Collections.singletonList(new DataNode("ds_1", "t_order_0")))));
+        assertThat(routeStageContext.findDataNodes("t_order", "user_id", 1L), is(Optional.of(Arrays.asList(new DataNode("ds_1", "t_order_0"), new DataNode("ds_1", "t_order_1")))));
+        assertFalse(routeStageContext.findDataNodes("t_order", "order_id", 3L).isPresent());
+    }
+    
     @Test(expected = ShardingRouteAlgorithmException.class)
     public void assertRouteByErrorShardingTableStrategy() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createErrorShardingConditions("t_order"),
@@ -385,6 +385,11 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(String.class));
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        assertThat(createMinimumShardingRule().generateKeys("logic_table", 3).size(), is(3));
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableCheckResult;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableChecker;
+import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
+import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+
+import java.util.Collections;
+
+/**
+ * Execution plan cacheable checker for sharding cache.
+ * 
+ * <p>Cached sharding SQL router delegates to sharding SQL router, so that cacheable is decided by {@link ShardingExecutionPlanCacheableChecker}.</p>
+ */
+public final class ShardingCacheExecutionPlanCacheableChecker implements ExecutionPlanCacheableChecker<ShardingCacheRule> {
+    
+    @Override
+    public ExecutionPlanCacheableCheckResult check(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingCacheRule rule) {
+        return new ExecutionPlanCacheableCheckResult(true, Collections.emptyList());
+    }
+    
+    @Override
+    public int getOrder() {
+        return ShardingOrder.ORDER - 1;
+    }
+    
+    @Override
+    public Class<ShardingCacheRule> getTypeClass() {
+        return ShardingCacheRule.class;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableCheckResult;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableChecker;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
+import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Optional;
+
+/**
+ * Execution plan cacheable checker for sharding.
+ * 
+ * <p>Sharding route result is cacheable only if sharding cache rule is configured and the SQL is checked cacheable by sharding route cacheable checker.</p>
+ */
+public final class ShardingExecutionPlanCacheableChecker implements ExecutionPlanCacheableChecker<ShardingRule> {
+    
+    @Override
+    public ExecutionPlanCacheableCheckResult check(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingRule rule) {
+        Optional<ShardingCacheRule> shardingCacheRule = database.getRuleMetaData().findSingleRule(ShardingCacheRule.class);
+        if (!shardingCacheRule.isPresent() || queryContext.getSql().length() > shardingCacheRule.get().getConfiguration().getAllowedMaxSqlLength()) {
+            return ExecutionPlanCacheableCheckResult.notCacheable();
+        }
+        ShardingRouteCacheableCheckResult checkResult = shardingCacheRule.get().getRouteCacheableChecker().check(database, queryContext);
+        return checkResult.isProbablyCacheable()
+                ? new ExecutionPlanCacheableCheckResult(true, checkResult.getShardingConditionParameterMarkerIndexes())
+                : ExecutionPlanCacheableCheckResult.notCacheable();
+    }
+    
+    @Override
+    public int getOrder() {
+        return ShardingOrder.ORDER;
+    }
+    
+    @Override
+    public Class<ShardingRule> getTypeClass() {
+        return ShardingRule.class;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.api.ShardingCacheRuleConfiguration;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
+import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingExecutionPlanCacheableCheckerTest {
+    
+    @Test
+    public void assertCheckWithoutShardingCacheRule() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().findSingleRule(ShardingCacheRule.class)).thenReturn(Optional.empty());
+        QueryContext queryContext = new QueryContext(null, "select * from t where id = ?", Collections.singletonList(1));
+        assertFalse(new ShardingExecutionPlanCacheableChecker().check(queryContext, database, mock(ShardingRule.class)).isCacheable());
+    }
+    
+    @Test
+    public void assertCheckWithSQLExceedMaxAllowedLength() {
+        QueryContext queryContext = new QueryContext(null, "select * from t where id = ?", Collections.singletonList(1));
+        ShardingCacheRule shardingCacheRule = mock(ShardingCacheRule.class);
+        when(shardingCacheRule.getConfiguration()).thenReturn(new ShardingCacheRuleConfiguration(1, null));
+        assertFalse(new ShardingExecutionPlanCacheableChecker().check(queryContext, mockDatabase(shardingCacheRule), mock(ShardingRule.class)).isCacheable());
+    }
+    
+    @Test
+    public void assertCheckWithCacheableQuery() {
+        QueryContext queryContext = new QueryContext(null, "select * from t where id = ? and status = ?", Arrays.asList(1, 2));
+        ShardingCacheRule shardingCacheRule = mock(ShardingCacheRule.class);
+        when(shardingCacheRule.getConfiguration()).thenReturn(new ShardingCacheRuleConfiguration(100, null));
+        ShardingSphereDatabase database = mockDatabase(shardingCacheRule);
+        ShardingRouteCacheableChecker routeCacheableChecker = mock(ShardingRouteCacheableChecker.class);
+        when(routeCacheableChecker.check(database, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.singletonList(0)));
+        when(shardingCacheRule.getRouteCacheableChecker()).thenReturn(routeCacheableChecker);
+        ExecutionPlanCacheableCheckResult actual = new ShardingExecutionPlanCacheableChecker().check(queryContext, database, mock(ShardingRule.class));
+        assertTrue(actual.isCacheable());
+        assertThat(actual.getRouteParameterMarkerIndexes(), is(Collections.singletonList(0)));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingCacheRule shardingCacheRule) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData().findSingleRule(ShardingCacheRule.class)).thenReturn(Optional.of(shardingCacheRule));
+        return result;
+    }
+}
@@ -47,21 +47,82 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql-simple", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether parse trivial SQL with fast path parser before ANTLR parser.
+     */
+    SQL_FAST_PATH_PARSE_ENABLED("sql-fast-path-parse-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * The max thread size of worker group to execute SQL.
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of kernel executor type: PLATFORM_THREAD(default), VIRTUAL_THREAD. The VIRTUAL_THREAD option runs every execution group on a virtual thread,
+     * so the parallelism is bounded by backend connections rather than {@link ConfigurationPropertyKey#KERNEL_EXECUTOR_SIZE}, it requires JDK 21 or above.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", KernelExecutorType.PLATFORM_THREAD.name(), KernelExecutorType.class, true),
+    
+    /**
+     * The max thread size of bulkhead which isolates executor threads of each data source. 0 means all data sources share the worker group.
+     */
+    KERNEL_EXECUTOR_BULKHEAD_SIZE("kernel-executor-bulkhead-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * The max queue size of bulkhead for each data source, tasks beyond it are rejected immediately.
+     */
+    KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE("kernel-executor-bulkhead-queue-size", String.valueOf(1024), int.class, true),
+    
+    /**
+     * The max size of execution plan cache, which caches route and rewrite results of DML by SQL and route parameters. 0 means execution plan is not cached.
+     */
+    KERNEL_EXECUTION_PLAN_CACHE_SIZE("kernel-execution-plan-cache-size", String.valueOf(0), int.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether decide connection mode of query by rows returned by previous executions of the same SQL.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max rows of each route unit to load query result into memory when connection mode is decided adaptively.
+     */
+    ADAPTIVE_CONNECTION_MODE_MEMORY_ROWS_THRESHOLD("adaptive-connection-mode-memory-rows-threshold", String.valueOf(1000), int.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_META_DATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Memory budget in bytes of memory merged result, rows beyond it will spill to local disk. 0 means no limit.
+     */
+    MEMORY_MERGE_SPILL_THRESHOLD_BYTES("memory-merge-spill-threshold-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Row threshold of memory merged result to aggregate query results in parallel. 0 means disable parallel merge.
+     */
+    MEMORY_MERGE_PARALLEL_THRESHOLD_ROWS("memory-merge-parallel-threshold-rows", String.valueOf(0), long.class, false),
+    
+    /**
+     * Parallelism of fork join pool to aggregate memory merged result in parallel. 0 means available processors.
+     */
+    MEMORY_MERGE_PARALLELISM("memory-merge-parallelism", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether merge count distinct approximately with HyperLogLog sketch.
+     */
+    APPROXIMATE_COUNT_DISTINCT_ENABLED("approximate-count-distinct-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max rows of JDBC insert batch to be merged into one multiple rows insert statement for each route unit. 0 or 1 means batch is not merged.
+     */
+    BATCH_INSERT_VALUES_MERGE_SIZE("batch-insert-values-merge-size", String.valueOf(0), int.class, false),
+    
     /**
      * SQL federation type.
      */
@@ -77,6 +138,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Bytes of records from databases encoded in one batch to be written and flushed for ShardingSphere-Proxy.
+     * Records are flushed by {@link #PROXY_FRONTEND_FLUSH_THRESHOLD} if the value is not positive.
+     */
+    PROXY_FRONTEND_WRITE_BATCH_BYTES("proxy-frontend-write-batch-bytes", String.valueOf(64 * 1024), int.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -88,11 +155,23 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether deliver query results of ShardingSphere-Proxy in completion order of execution groups. If enabled, stream merging of queries without order by, group by, aggregation and distinct
+     * begins as soon as the first backend database responded.
+     */
+    PROXY_BACKEND_STREAMING_RESULT_DELIVERY_ENABLED("proxy-backend-streaming-result-delivery-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of proxy frontend connection executor type: PLATFORM_THREAD(default), VIRTUAL_THREAD. The VIRTUAL_THREAD option executes all commands of each connection serially
+     * on its own virtual thread instead of platform thread, it requires JDK 21 or above, otherwise the normal executor selection is used.
+     */
+    PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE("proxy-frontend-connection-executor-type", FrontendConnectionExecutorType.PLATFORM_THREAD.name(), FrontendConnectionExecutorType.class, true),
+    
     /**
      * Available options of proxy backend executor suitable: OLAP(default), OLTP. The OLTP option may reduce time cost of writing packets to client, but it may increase the latency of SQL execution
      * and block other clients if client connections are more than {@link ConfigurationPropertyKey#PROXY_FRONTEND_EXECUTOR_SIZE}, especially executing slow SQL.
@@ -109,6 +188,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_MYSQL_DEFAULT_VERSION("proxy-mysql-default-version", "5.7.22", String.class, false),
     
+    /**
+     * Whether replace literals of MySQL text protocol DML by parameters, so that statements only differ in constants share cached SQL statement.
+     */
+    PROXY_MYSQL_LITERAL_NORMALIZATION_ENABLED("proxy-mysql-literal-normalization-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether MySQL client is able to load data local infile through proxy.
+     */
+    PROXY_MYSQL_LOCAL_INFILE_ENABLED("proxy-mysql-local-infile-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy default start port.
      */
@@ -48,4 +48,6 @@ public final class HintValueContext {
     private String disableAuditNames = "";
     
     private boolean shadow;
+    
+    private boolean approximateCountDistinct;
 }
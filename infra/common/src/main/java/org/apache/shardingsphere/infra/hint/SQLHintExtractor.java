@@ -85,6 +85,15 @@ public final class SQLHintExtractor {
         return hintValueContext.isShadow();
     }
     
+    /**
+     * Judge whether hint merge count distinct approximately or not.
+     *
+     * @return whether hint merge count distinct approximately or not
+     */
+    public boolean isHintApproximateCountDistinct() {
+        return hintValueContext.isApproximateCountDistinct();
+    }
+    
     /**
      * Find hint disable audit names.
      *
@@ -66,7 +66,12 @@ public enum SQLHintPropertiesKey implements TypedPropertyKey {
     /**
      * Whether to use shadow or not.
      */
-    SHADOW_KEY("SHADOW", "shadow", String.valueOf(Boolean.FALSE), boolean.class);
+    SHADOW_KEY("SHADOW", "shadow", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether to merge count distinct approximately or not.
+     */
+    APPROXIMATE_COUNT_DISTINCT_KEY("APPROXIMATE_COUNT_DISTINCT", "approximateCountDistinct", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
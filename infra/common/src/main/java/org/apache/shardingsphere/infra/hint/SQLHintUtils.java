@@ -132,6 +132,9 @@ public final class SQLHintUtils {
         if (containsPropertyKey(hintProperties, SQLHintPropertiesKey.SHADOW_KEY)) {
             result.setShadow(Boolean.parseBoolean(getProperty(hintProperties, SQLHintPropertiesKey.SHADOW_KEY)));
         }
+        if (containsPropertyKey(hintProperties, SQLHintPropertiesKey.APPROXIMATE_COUNT_DISTINCT_KEY)) {
+            result.setApproximateCountDistinct(Boolean.parseBoolean(getProperty(hintProperties, SQLHintPropertiesKey.APPROXIMATE_COUNT_DISTINCT_KEY)));
+        }
         for (Entry<Object, Object> entry : hintProperties.entrySet()) {
             Comparable<?> value = entry.getValue() instanceof Comparable ? (Comparable<?>) entry.getValue() : Objects.toString(entry.getValue());
             if (containsPropertyKey(Objects.toString(entry.getKey()), SQLHintPropertiesKey.SHARDING_DATABASE_VALUE_KEY)) {
@@ -36,18 +36,35 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.SYSTEM_LOG_LEVEL), is(LoggerLevel.DEBUG));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_FAST_PATH_PARSE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), is(KernelExecutorType.VIRTUAL_THREAD));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_SIZE), is(8));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE), is(64));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE), is(2048));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MEMORY_ROWS_THRESHOLD), is(500));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_SPILL_THRESHOLD_BYTES), is(67108864L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_PARALLEL_THRESHOLD_ROWS), is(100000L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_PARALLELISM), is(4));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.APPROXIMATE_COUNT_DISTINCT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE), is(100));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES), is(1024));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_STREAMING_RESULT_DELIVERY_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE), is(FrontendConnectionExecutorType.VIRTUAL_THREAD));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLTP));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_LITERAL_NORMALIZATION_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_LOCAL_INFILE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
     }
@@ -57,18 +74,35 @@ public final class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SYSTEM_LOG_LEVEL.getKey(), LoggerLevel.DEBUG.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.SQL_FAST_PATH_PARSE_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE.getKey(), KernelExecutorType.VIRTUAL_THREAD.name()),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_SIZE.getKey(), "8"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE.getKey(), "64"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE.getKey(), "2048"),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MEMORY_ROWS_THRESHOLD.getKey(), "500"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.MEMORY_MERGE_SPILL_THRESHOLD_BYTES.getKey(), "67108864"),
+                new Property(ConfigurationPropertyKey.MEMORY_MERGE_PARALLEL_THRESHOLD_ROWS.getKey(), "100000"),
+                new Property(ConfigurationPropertyKey.MEMORY_MERGE_PARALLELISM.getKey(), "4"),
+                new Property(ConfigurationPropertyKey.APPROXIMATE_COUNT_DISTINCT_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE.getKey(), "100"),
                 new Property(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES.getKey(), "1024"),
                 new Property(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_STREAMING_RESULT_DELIVERY_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE.getKey(), FrontendConnectionExecutorType.VIRTUAL_THREAD.name()),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE.getKey(), BackendExecutorType.OLTP.name()),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION.getKey(), "5.7.22"),
+                new Property(ConfigurationPropertyKey.PROXY_MYSQL_LITERAL_NORMALIZATION_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.PROXY_MYSQL_LOCAL_INFILE_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"));
     }
@@ -79,18 +113,35 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.SYSTEM_LOG_LEVEL), is(LoggerLevel.INFO));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_FAST_PATH_PARSE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), is(KernelExecutorType.PLATFORM_THREAD));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_MEMORY_ROWS_THRESHOLD), is(1000));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_SPILL_THRESHOLD_BYTES), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_PARALLEL_THRESHOLD_ROWS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MEMORY_MERGE_PARALLELISM), is(0));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.APPROXIMATE_COUNT_DISTINCT_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_MERGE_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES), is(65536));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_STREAMING_RESULT_DELIVERY_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE), is(FrontendConnectionExecutorType.PLATFORM_THREAD));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLAP));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_LITERAL_NORMALIZATION_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_LOCAL_INFILE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
     }
@@ -108,6 +108,13 @@ public final class SQLHintExtractorTest {
         assertTrue(new SQLHintExtractor(statement).isShadow());
     }
     
+    @Test
+    public void assertSQLHintApproximateCountDistinct() {
+        AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
+        when(statement.getCommentSegments()).thenReturn(Collections.singletonList(new CommentSegment("/* SHARDINGSPHERE_HINT: APPROXIMATE_COUNT_DISTINCT=true */", 0, 0)));
+        assertTrue(new SQLHintExtractor(statement).isHintApproximateCountDistinct());
+    }
+    
     @Test
     public void assertSQLHintShadowWithCommentString() {
         assertTrue(new SQLHintExtractor("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */").isHintWriteRouteOnly());
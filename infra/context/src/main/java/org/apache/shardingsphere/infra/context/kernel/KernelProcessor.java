@@ -21,16 +21,22 @@ import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCacheValue;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteCache;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -48,8 +54,40 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        return generateExecutionContext(queryContext, database, globalRuleMetaData, props, connectionContext, null, null);
+    }
+    
+    /**
+     * Generate execution context with caches.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @param routeSQLRewriteCache route SQL rewrite cache of prepared SQL, null if SQL is not prepared
+     * @param executionPlanCache execution plan cache, null if execution plan is not cached
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final ConnectionContext connectionContext,
+                                                     final RouteSQLRewriteCache routeSQLRewriteCache, final ExecutionPlanCache executionPlanCache) {
+        Optional<ExecutionPlanCacheKey> cacheKey = null == executionPlanCache ? Optional.empty() : executionPlanCache.createKey(queryContext, database);
+        Optional<ExecutionPlanCacheValue> cachedValue = cacheKey.flatMap(optional -> executionPlanCache.get(optional, database));
+        RouteContext routeContext;
+        RouteSQLRewriteCache actualRouteSQLRewriteCache = routeSQLRewriteCache;
+        if (cachedValue.isPresent()) {
+            routeContext = cachedValue.get().getRouteContext();
+            actualRouteSQLRewriteCache = cachedValue.get().getRouteSQLRewriteCache();
+        } else {
+            routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
+            if (cacheKey.isPresent() && !routeContext.getRouteUnits().isEmpty()) {
+                ExecutionPlanCacheValue value = new ExecutionPlanCacheValue(database, routeContext);
+                executionPlanCache.put(cacheKey.get(), value);
+                actualRouteSQLRewriteCache = value.getRouteSQLRewriteCache();
+            }
+        }
+        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext, actualRouteSQLRewriteCache);
         ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
         logSQL(queryContext, props, result);
         return result;
@@ -61,9 +99,9 @@ public final class KernelProcessor {
     }
     
     private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
-                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
+                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext, final RouteSQLRewriteCache routeSQLRewriteCache) {
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext, routeSQLRewriteCache);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableCheckResult;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableChecker;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Route context and rewritten SQL of DML are cached by SQL and values of parameters which affect routing,
+ * only if every rule which routes SQL declares the SQL is cacheable by {@link ExecutionPlanCacheableChecker}.</p>
+ */
+public final class ExecutionPlanCache {
+    
+    private final Cache<ExecutionPlanCacheKey, ExecutionPlanCacheValue> cache;
+    
+    public ExecutionPlanCache(final int maximumSize) {
+        cache = maximumSize > 0 ? Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build() : null;
+    }
+    
+    /**
+     * Create cache key.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @return cache key, empty if execution plan is not cacheable
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Optional<ExecutionPlanCacheKey> createKey(final QueryContext queryContext, final ShardingSphereDatabase database) {
+        if (null == cache || HintManager.isInstantiated() || !(queryContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement)) {
+            return Optional.empty();
+        }
+        Collection<ShardingSphereRule> rules = database.getRuleMetaData().getRules();
+        Map<ShardingSphereRule, SQLRouter> routers = OrderedSPILoader.getServices(SQLRouter.class, rules);
+        Map<ShardingSphereRule, ExecutionPlanCacheableChecker> checkers = OrderedSPILoader.getServices(ExecutionPlanCacheableChecker.class, rules);
+        Collection<Integer> routeParameterMarkerIndexes = new TreeSet<>();
+        for (ShardingSphereRule each : routers.keySet()) {
+            ExecutionPlanCacheableChecker checker = checkers.get(each);
+            if (null == checker) {
+                return Optional.empty();
+            }
+            ExecutionPlanCacheableCheckResult checkResult = checker.check(queryContext, database, each);
+            if (!checkResult.isCacheable()) {
+                return Optional.empty();
+            }
+            routeParameterMarkerIndexes.addAll(checkResult.getRouteParameterMarkerIndexes());
+        }
+        List<Object> routeParams = new ArrayList<>(routeParameterMarkerIndexes.size());
+        for (int each : routeParameterMarkerIndexes) {
+            if (each >= queryContext.getParameters().size()) {
+                return Optional.empty();
+            }
+            routeParams.add(queryContext.getParameters().get(each));
+        }
+        return Optional.of(new ExecutionPlanCacheKey(database.getName(), queryContext.getSql(), routeParams));
+    }
+    
+    /**
+     * Get cached execution plan.
+     *
+     * @param key cache key
+     * @param database database
+     * @return cached execution plan
+     */
+    public Optional<ExecutionPlanCacheValue> get(final ExecutionPlanCacheKey key, final ShardingSphereDatabase database) {
+        if (null == cache) {
+            return Optional.empty();
+        }
+        ExecutionPlanCacheValue result = cache.getIfPresent(key);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (database != result.getDatabase()) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Cache execution plan.
+     *
+     * @param key cache key
+     * @param value cache value
+     */
+    public void put(final ExecutionPlanCacheKey key, final ExecutionPlanCacheValue value) {
+        if (null != cache) {
+            cache.put(key, value);
+        }
+    }
+    
+    /**
+     * Invalidate cached execution plans of database.
+     *
+     * @param databaseName database name
+     */
+    public void invalidate(final String databaseName) {
+        if (null != cache) {
+            cache.asMap().keySet().removeIf(each -> each.getDatabaseName().equalsIgnoreCase(databaseName));
+        }
+    }
+    
+    /**
+     * Invalidate all cached execution plans.
+     */
+    public void invalidateAll() {
+        if (null != cache) {
+            cache.invalidateAll();
+        }
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return null == cache ? 0L : cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return null == cache ? 0L : cache.stats().missCount();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return null == cache ? 0L : cache.stats().evictionCount();
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return estimated size
+     */
+    public long getSize() {
+        return null == cache ? 0L : cache.estimatedSize();
+    }
+}
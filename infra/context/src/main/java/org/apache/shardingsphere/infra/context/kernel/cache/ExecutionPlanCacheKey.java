@@ -15,40 +15,25 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+package org.apache.shardingsphere.infra.context.kernel.cache;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 /**
- * Comparable aggregation unit.
+ * Key of execution plan cache.
  */
 @RequiredArgsConstructor
-public final class ComparableAggregationUnit implements AggregationUnit {
+@Getter
+@EqualsAndHashCode
+public final class ExecutionPlanCacheKey {
     
-    private final boolean asc;
+    private final String databaseName;
     
-    private Comparable<?> result;
+    private final String sql;
     
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    @Override
-    public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
-            return;
-        }
-        if (null == result) {
-            result = values.get(0);
-            return;
-        }
-        int comparedValue = ((Comparable) values.get(0)).compareTo(result);
-        if (asc ? comparedValue < 0 : comparedValue > 0) {
-            result = values.get(0);
-        }
-    }
-    
-    @Override
-    public Comparable<?> getResult() {
-        return result;
-    }
+    private final List<Object> routeParameters;
 }
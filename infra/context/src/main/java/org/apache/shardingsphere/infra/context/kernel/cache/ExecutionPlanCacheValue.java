@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteCache;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Value of execution plan cache.
+ * 
+ * <p>Route context is copied when cached and when fetched, because route context is mutable during execution.
+ * Rewritten SQL of route units is filled into route SQL rewrite cache by the first executions.</p>
+ */
+public final class ExecutionPlanCacheValue {
+    
+    @Getter
+    private final ShardingSphereDatabase database;
+    
+    private final RouteContext routeContext;
+    
+    @Getter
+    private final RouteSQLRewriteCache routeSQLRewriteCache = new RouteSQLRewriteCache();
+    
+    public ExecutionPlanCacheValue(final ShardingSphereDatabase database, final RouteContext routeContext) {
+        this.database = database;
+        this.routeContext = copyRouteContext(routeContext);
+    }
+    
+    /**
+     * Get route context.
+     *
+     * @return copied route context
+     */
+    public RouteContext getRouteContext() {
+        return copyRouteContext(routeContext);
+    }
+    
+    private static RouteContext copyRouteContext(final RouteContext routeContext) {
+        RouteContext result = new RouteContext();
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            result.getOriginalDataNodes().add(copyDataNodes(each));
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
+        }
+        result.getRouteStageContexts().putAll(routeContext.getRouteStageContexts());
+        return result;
+    }
+    
+    private static Collection<DataNode> copyDataNodes(final Collection<DataNode> dataNodes) {
+        Collection<DataNode> result = new ArrayList<>(dataNodes.size());
+        for (DataNode each : dataNodes) {
+            DataNode copiedDataNode = new DataNode(each.getDataSourceName(), each.getTableName());
+            copiedDataNode.setSchemaName(each.getSchemaName());
+            result.add(copiedDataNode);
+        }
+        return result;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -36,7 +37,9 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.Test;
 
+import javax.sql.DataSource;
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -59,4 +62,27 @@ public final class KernelProcessorTest {
                 mock(ConnectionContext.class));
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithExecutionPlanCache() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        ShardingSphereResourceMetaData resourceMetaData = mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getDataSources()).thenReturn(Collections.singletonMap("foo_ds", mock(DataSource.class)));
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                resourceMetaData, new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache(16);
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        kernelProcessor.generateExecutionContext(
+                new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList()), database, globalRuleMetaData, props, mock(ConnectionContext.class), null, executionPlanCache);
+        ExecutionContext actual = kernelProcessor.generateExecutionContext(
+                new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList()), database, globalRuleMetaData, props, mock(ConnectionContext.class), null, executionPlanCache);
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertThat(actual.getExecutionUnits().iterator().next().getDataSourceName(), is("foo_ds"));
+        assertThat(executionPlanCache.getMissCount(), is(1L));
+        assertThat(executionPlanCache.getHitCount(), is(1L));
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutionPlanCacheTest {
+    
+    @Test
+    public void assertCreateKeyWhenDisabled() {
+        assertFalse(new ExecutionPlanCache(0).createKey(createQueryContext(mock(SelectStatement.class)), mockDatabase()).isPresent());
+    }
+    
+    @Test
+    public void assertCreateKeyWithNonDMLStatement() {
+        assertFalse(new ExecutionPlanCache(16).createKey(createQueryContext(mock(CreateTableStatement.class)), mockDatabase()).isPresent());
+    }
+    
+    @Test
+    public void assertCreateKey() {
+        Optional<ExecutionPlanCacheKey> actual = new ExecutionPlanCache(16).createKey(createQueryContext(mock(SelectStatement.class)), mockDatabase());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(new ExecutionPlanCacheKey("foo_db", "SELECT * FROM tbl", Collections.emptyList())));
+    }
+    
+    @Test
+    public void assertGet() {
+        ExecutionPlanCache cache = new ExecutionPlanCache(16);
+        ShardingSphereDatabase database = mockDatabase();
+        ExecutionPlanCacheKey key = new ExecutionPlanCacheKey("foo_db", "SELECT * FROM tbl", Collections.emptyList());
+        assertFalse(cache.get(key, database).isPresent());
+        cache.put(key, new ExecutionPlanCacheValue(database, createRouteContext()));
+        Optional<ExecutionPlanCacheValue> actual = cache.get(key, database);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteContext().getRouteUnits(), is(createRouteContext().getRouteUnits()));
+        assertThat(actual.get().getRouteContext(), not(sameInstance(actual.get().getRouteContext())));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithChangedDatabase() {
+        ExecutionPlanCache cache = new ExecutionPlanCache(16);
+        ExecutionPlanCacheKey key = new ExecutionPlanCacheKey("foo_db", "SELECT * FROM tbl", Collections.emptyList());
+        cache.put(key, new ExecutionPlanCacheValue(mockDatabase(), createRouteContext()));
+        assertFalse(cache.get(key, mockDatabase()).isPresent());
+        assertThat(cache.getSize(), is(0L));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        ExecutionPlanCache cache = new ExecutionPlanCache(16);
+        ShardingSphereDatabase database = mockDatabase();
+        ExecutionPlanCacheKey fooKey = new ExecutionPlanCacheKey("foo_db", "SELECT * FROM tbl", Collections.emptyList());
+        ExecutionPlanCacheKey barKey = new ExecutionPlanCacheKey("bar_db", "SELECT * FROM tbl", Collections.emptyList());
+        cache.put(fooKey, new ExecutionPlanCacheValue(database, createRouteContext()));
+        cache.put(barKey, new ExecutionPlanCacheValue(database, createRouteContext()));
+        cache.invalidate("foo_db");
+        assertFalse(cache.get(fooKey, database).isPresent());
+        assertTrue(cache.get(barKey, database).isPresent());
+        cache.invalidateAll();
+        assertFalse(cache.get(barKey, database).isPresent());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private QueryContext createQueryContext(final SQLStatement sqlStatement) {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        return new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList());
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        return result;
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "foo_ds"), Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+        return result;
+    }
+}
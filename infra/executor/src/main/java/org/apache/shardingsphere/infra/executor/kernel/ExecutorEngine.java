@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
+import org.apache.shardingsphere.infra.executor.exception.ExecutorBulkheadSaturatedException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -30,8 +33,14 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Executor engine.
@@ -44,7 +53,15 @@ public final class ExecutorEngine implements AutoCloseable {
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, KernelExecutorType.PLATFORM_THREAD);
+    }
+    
+    private ExecutorEngine(final int executorSize, final KernelExecutorType executorType) {
+        this(executorSize, executorType, 0, 0);
+    }
+    
+    private ExecutorEngine(final int executorSize, final KernelExecutorType executorType, final int bulkheadSize, final int bulkheadQueueSize) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, "%d", executorType, bulkheadSize, bulkheadQueueSize);
     }
     
     /**
@@ -57,6 +74,30 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and executor type.
+     *
+     * @param executorSize executor size, ignored if executor type is virtual thread
+     * @param executorType executor type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndType(final int executorSize, final KernelExecutorType executorType) {
+        return new ExecutorEngine(executorSize, executorType);
+    }
+    
+    /**
+     * Create executor engine with executor size, executor type and bulkhead of each data source.
+     *
+     * @param executorSize executor size, ignored if executor type is virtual thread
+     * @param executorType executor type
+     * @param bulkheadSize thread size of each data source bulkhead, 0 means all data sources share executor with executor size
+     * @param bulkheadQueueSize queue size of each data source bulkhead
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithBulkhead(final int executorSize, final KernelExecutorType executorType, final int bulkheadSize, final int bulkheadQueueSize) {
+        return new ExecutorEngine(executorSize, executorType, bulkheadSize, bulkheadQueueSize);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -114,6 +155,46 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute and expose results in completion order.
+     * 
+     * <p>The first execution group is executed by current thread, results of other execution groups are exposed as soon as they finished.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result, which may block while iterating results not arrived yet
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        int expectedSize = executionGroupContext.getInputGroups().stream().mapToInt(each -> each.getInputs().size()).sum();
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        CompletionOrderedResults<O> result = new CompletionOrderedResults<>(expectedSize);
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> executionGroup = executionGroups.next();
+            try {
+                result.submit(executorServiceManager.getExecutorService(executionGroup.getDataSourceName()), executionGroup.getInputs().size(), () -> callback.execute(executionGroup.getInputs(), false));
+            } catch (final RejectedExecutionException ex) {
+                result.close();
+                throw new ExecutorBulkheadSaturatedException(executionGroup.getDataSourceName());
+            }
+        }
+        try {
+            result.addResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        } catch (final SQLException ex) {
+            result.close();
+            throw ex;
+        }
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -125,6 +206,12 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
+        if (KernelExecutorType.VIRTUAL_THREAD == executorServiceManager.getExecutorType()) {
+            BlockingQueue<Future<Collection<O>>> completionQueue = new LinkedBlockingQueue<>();
+            CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService(), completionQueue);
+            List<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback, completionQueue);
+            return getGroupResultsInCompletionOrder(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures, completionService);
+        }
         Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
@@ -133,16 +220,47 @@ public final class ExecutorEngine implements AutoCloseable {
         return callback.execute(executionGroup.getInputs(), true);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) throws SQLException {
         Collection<Future<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            ExecutionGroup<I> executionGroup = executionGroups.next();
+            try {
+                result.add(executorServiceManager.getExecutorService(executionGroup.getDataSourceName()).submit(() -> callback.execute(executionGroup.getInputs(), false)));
+            } catch (final RejectedExecutionException ex) {
+                result.forEach(each -> each.cancel(true));
+                throw new ExecutorBulkheadSaturatedException(executionGroup.getDataSourceName());
+            }
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
+    private <I, O> List<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback,
+                                                            final BlockingQueue<Future<Collection<O>>> completionQueue) throws SQLException {
+        List<Future<Collection<O>>> result = new LinkedList<>();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> executionGroup = executionGroups.next();
+            ExecutorService executorService = executorServiceManager.getExecutorService(executionGroup.getDataSourceName());
+            try {
+                result.add(new ExecutorCompletionService<>(executorService, completionQueue).submit(() -> callback.execute(executionGroup.getInputs(), false)));
+            } catch (final RejectedExecutionException ex) {
+                result.forEach(each -> each.cancel(true));
+                throw new ExecutorBulkheadSaturatedException(executionGroup.getDataSourceName());
+            }
+        }
+        return result;
+    }
+    
+    private <O> List<O> getGroupResultsInCompletionOrder(final Collection<O> firstResults, final List<Future<Collection<O>>> restFutures,
+                                                         final CompletionService<Collection<O>> completionService) throws SQLException {
+        try {
+            for (int i = 0; i < restFutures.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (final InterruptedException | ExecutionException ex) {
+            restFutures.forEach(each -> each.cancel(true));
+            return throwException(ex);
+        }
+        return getGroupResults(firstResults, restFutures);
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -164,6 +282,15 @@ public final class ExecutorEngine implements AutoCloseable {
         throw new UnknownSQLException(exception);
     }
     
+    /**
+     * Evict bulkheads of data sources.
+     *
+     * @param dataSourceNames data source names
+     */
+    public void evictBulkheads(final Collection<String> dataSourceNames) {
+        executorServiceManager.evictBulkheads(dataSourceNames);
+    }
+    
     @Override
     public void close() {
         executorServiceManager.close();
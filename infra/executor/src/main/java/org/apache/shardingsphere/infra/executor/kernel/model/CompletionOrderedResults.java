@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Completion ordered results.
+ * 
+ * <p>Results of execution groups are exposed in the order of completion, callers can consume the results of the fastest group while other groups are still executing.
+ * The size is the count of delivered results plus the expected result count of execution groups not finished yet, so it only counts delivered results
+ * after all execution groups finished or the results are closed. Getting a result not delivered yet blocks until it arrives.</p>
+ *
+ * @param <T> type of result
+ */
+public final class CompletionOrderedResults<T> extends AbstractList<T> implements AutoCloseable {
+    
+    private final BlockingQueue<Future<Collection<T>>> completionQueue = new LinkedBlockingQueue<>();
+    
+    private final List<T> arrivedResults;
+    
+    private final Map<Future<Collection<T>>, Integer> pendingResultCounts = new IdentityHashMap<>();
+    
+    private int pendingResultCount;
+    
+    private int unfinishedTaskCount;
+    
+    private Runnable allTasksFinishedCallback;
+    
+    private volatile boolean closed;
+    
+    public CompletionOrderedResults(final int expectedSize) {
+        arrivedResults = new ArrayList<>(expectedSize);
+    }
+    
+    /**
+     * Submit execution group task.
+     *
+     * @param executorService executor service
+     * @param expectedResultCount expected result count of execution group
+     * @param task execution group task
+     */
+    public void submit(final ExecutorService executorService, final int expectedResultCount, final Callable<Collection<T>> task) {
+        synchronized (this) {
+            unfinishedTaskCount++;
+        }
+        Future<Collection<T>> future;
+        try {
+            future = new ExecutorCompletionService<>(executorService, completionQueue).submit(() -> {
+                try {
+                    return closed ? Collections.emptyList() : task.call();
+                } finally {
+                    finishTask();
+                }
+            });
+        } catch (final RuntimeException ex) {
+            finishTask();
+            throw ex;
+        }
+        pendingResultCounts.put(future, expectedResultCount);
+        pendingResultCount += expectedResultCount;
+    }
+    
+    /**
+     * Add results executed by current thread.
+     *
+     * @param results results
+     */
+    public void addResults(final Collection<T> results) {
+        arrivedResults.addAll(results);
+    }
+    
+    /**
+     * Register callback which will be invoked once after all submitted tasks finished, including the tasks skipped because of closed.
+     *
+     * <p>The callback is invoked by current thread if all tasks already finished, otherwise by the thread which finished the last task.</p>
+     *
+     * @param callback callback
+     */
+    public void onAllTasksFinished(final Runnable callback) {
+        synchronized (this) {
+            if (unfinishedTaskCount > 0) {
+                allTasksFinishedCallback = callback;
+                return;
+            }
+        }
+        callback.run();
+    }
+    
+    private void finishTask() {
+        Runnable callback;
+        synchronized (this) {
+            unfinishedTaskCount--;
+            if (unfinishedTaskCount > 0 || null == allTasksFinishedCallback) {
+                return;
+            }
+            callback = allTasksFinishedCallback;
+            allTasksFinishedCallback = null;
+        }
+        callback.run();
+    }
+    
+    @Override
+    public T get(final int index) {
+        while (index >= arrivedResults.size() && !pendingResultCounts.isEmpty()) {
+            awaitNextCompletion();
+        }
+        return arrivedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return arrivedResults.size() + pendingResultCount;
+    }
+    
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            
+            private int cursor;
+            
+            @Override
+            public boolean hasNext() {
+                while (cursor >= arrivedResults.size() && !pendingResultCounts.isEmpty()) {
+                    awaitNextCompletion();
+                }
+                return cursor < arrivedResults.size();
+            }
+            
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return arrivedResults.get(cursor++);
+            }
+        };
+    }
+    
+    private void awaitNextCompletion() {
+        try {
+            Future<Collection<T>> future = completionQueue.take();
+            Collection<T> results = future.get();
+            pendingResultCount -= pendingResultCounts.remove(future);
+            arrivedResults.addAll(results);
+        } catch (final InterruptedException | ExecutionException ex) {
+            close();
+            if (ex.getCause() instanceof SQLException) {
+                throw new SQLWrapperException((SQLException) ex.getCause());
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    /**
+     * Skip the execution groups which are not started yet.
+     * 
+     * <p>Tasks are not cancelled through their futures, so that every submitted task still runs its finishing step and the registered callback is always invoked.</p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        pendingResultCounts.clear();
+        pendingResultCount = 0;
+    }
+}
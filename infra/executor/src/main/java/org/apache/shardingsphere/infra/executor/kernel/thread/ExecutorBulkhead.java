@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.alibaba.ttl.threadpool.TtlExecutors;
+import lombok.Getter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor bulkhead, which isolates executor threads of one data source from others.
+ * 
+ * <p>Threads and queue of bulkhead are bounded, tasks are rejected immediately when both of them are exhausted.</p>
+ */
+public final class ExecutorBulkhead {
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    @Getter
+    private final String name;
+    
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
+    @Getter
+    private final ExecutorService executorService;
+    
+    private final LongAdder rejectedCount = new LongAdder();
+    
+    public ExecutorBulkhead(final String name, final int size, final int queueSize) {
+        this.name = name;
+        BlockingQueue<Runnable> queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+        threadPoolExecutor = new ThreadPoolExecutor(size, size, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, ExecutorThreadFactoryBuilder.build("Bulkhead-" + name.replace("%", "%%") + "-%d"), (runnable, executor) -> {
+            rejectedCount.increment();
+            throw new RejectedExecutionException(String.format("Executor bulkhead `%s` is saturated.", name));
+        });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executorService = TtlExecutors.getTtlExecutorService(threadPoolExecutor);
+    }
+    
+    /**
+     * Get count of threads which are executing tasks.
+     *
+     * @return active count
+     */
+    public int getActiveCount() {
+        return threadPoolExecutor.getActiveCount();
+    }
+    
+    /**
+     * Get max thread size.
+     *
+     * @return max thread size
+     */
+    public int getMaxSize() {
+        return threadPoolExecutor.getMaximumPoolSize();
+    }
+    
+    /**
+     * Get count of queued tasks.
+     *
+     * @return queued count
+     */
+    public int getQueuedCount() {
+        return threadPoolExecutor.getQueue().size();
+    }
+    
+    /**
+     * Get remaining capacity of queue.
+     *
+     * @return remaining capacity of queue
+     */
+    public int getQueueRemainingCapacity() {
+        return threadPoolExecutor.getQueue().remainingCapacity();
+    }
+    
+    /**
+     * Get count of rejected tasks.
+     *
+     * @return rejected count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -19,7 +19,14 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,6 +36,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -37,12 +45,31 @@ public final class ExecutorServiceManager {
     
     private final ExecutorService executorService;
     
+    private final KernelExecutorType executorType;
+    
+    private final int bulkheadSize;
+    
+    private final int bulkheadQueueSize;
+    
+    private final Map<String, ExecutorBulkhead> bulkheads = new ConcurrentHashMap<>();
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, KernelExecutorType.PLATFORM_THREAD);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorType executorType) {
+        this(executorSize, nameFormat, executorType, 0, 0);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorType executorType, final int bulkheadSize, final int bulkheadQueueSize) {
+        this.executorType = executorType;
+        this.bulkheadSize = bulkheadSize;
+        this.bulkheadQueueSize = bulkheadQueueSize;
+        executorService = TtlExecutors.getTtlExecutorService(KernelExecutorType.VIRTUAL_THREAD == executorType ? getVirtualExecutorService(nameFormat) : getExecutorService(executorSize, nameFormat));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,19 +77,70 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualExecutorService(final String nameFormat) {
+        Optional<ThreadFactory> virtualThreadFactory = ExecutorThreadFactoryBuilder.buildVirtual();
+        if (virtualThreadFactory.isPresent()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, virtualThreadFactory.get());
+            } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ignore) {
+            }
+        }
+        log.warn("Virtual thread is unsupported by current JVM, kernel executor falls back to unbounded platform thread pool.");
+        return Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build(nameFormat));
+    }
+    
+    /**
+     * Get executor service of data source.
+     * 
+     * <p>Each data source owns an independent bulkhead if bulkhead size is set, otherwise all data sources share the same executor service.
+     * Virtual threads are cheap enough to be blocked, so bulkhead is not applied to them.</p>
+     *
+     * @param dataSourceName data source name
+     * @return executor service
+     */
+    public ExecutorService getExecutorService(final String dataSourceName) {
+        if (bulkheadSize <= 0 || null == dataSourceName || KernelExecutorType.VIRTUAL_THREAD == executorType) {
+            return executorService;
+        }
+        return bulkheads.computeIfAbsent(dataSourceName, key -> new ExecutorBulkhead(key, bulkheadSize, bulkheadQueueSize)).getExecutorService();
+    }
+    
+    /**
+     * Evict bulkheads of data sources.
+     * 
+     * <p>Evicted bulkhead rejects new tasks and its threads exit after running and queued tasks are finished.</p>
+     *
+     * @param dataSourceNames data source names
+     */
+    public void evictBulkheads(final Collection<String> dataSourceNames) {
+        for (String each : dataSourceNames) {
+            ExecutorBulkhead bulkhead = bulkheads.remove(each);
+            if (null != bulkhead) {
+                bulkhead.getExecutorService().shutdown();
+            }
+        }
+    }
+    
     /**
      * Close executor service.
      */
     public void close() {
         SHUTDOWN_EXECUTOR.execute(() -> {
             try {
-                executorService.shutdown();
-                while (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
+                close(executorService);
+                for (ExecutorBulkhead each : bulkheads.values()) {
+                    close(each.getExecutorService());
                 }
             } catch (final InterruptedException ex) {
                 Thread.currentThread().interrupt();
             }
         });
     }
+    
+    private void close(final ExecutorService executorService) throws InterruptedException {
+        executorService.shutdown();
+        while (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -21,6 +21,8 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -31,6 +33,8 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final String VIRTUAL_NAME_PREFIX = NAME_FORMAT_PREFIX + "Virtual-";
+    
     /**
      * Build thread factory with thread name format.
      * 
@@ -40,4 +44,22 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory.
+     * 
+     * <p>Virtual thread is only available on JDK 21 or above, so the factory is looked up by reflection to keep compatible with lower JDK versions.</p>
+     *
+     * @return virtual thread factory, empty if virtual thread is unsupported by current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, VIRTUAL_NAME_PREFIX, 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final NoSuchMethodException | ClassNotFoundException | IllegalAccessException | InvocationTargetException ignored) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Fork join pool for memory merge.
+ * 
+ * <p>The pool is shared by all context managers and shut down after the last context manager closed.
+ * The pool is replaced once the configured parallelism changed, the replaced pool is not shut down so that running merge tasks can drain, and its idle worker threads exit by themselves.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryMergeForkJoinPool {
+    
+    private static final String THREAD_NAME_PREFIX = "ShardingSphere-MemoryMerge-";
+    
+    private static ForkJoinPool pool;
+    
+    private static int ownerCount;
+    
+    /**
+     * Register owner of fork join pool.
+     */
+    public static synchronized void register() {
+        ownerCount++;
+    }
+    
+    /**
+     * Unregister owner of fork join pool, the pool will be shut down if no owner left.
+     */
+    public static synchronized void unregister() {
+        if (ownerCount > 0) {
+            ownerCount--;
+        }
+        if (0 == ownerCount && null != pool) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+    
+    /**
+     * Get fork join pool.
+     *
+     * @param parallelism parallelism, 0 means available processors
+     * @return fork join pool
+     */
+    public static synchronized ForkJoinPool getPool(final int parallelism) {
+        int actualParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        if (null == pool || pool.getParallelism() != actualParallelism) {
+            pool = new ForkJoinPool(actualParallelism, MemoryMergeForkJoinPool::newThread, null, false);
+        }
+        return pool;
+    }
+    
+    private static ForkJoinWorkerThread newThread(final ForkJoinPool forkJoinPool) {
+        ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+        result.setName(THREAD_NAME_PREFIX + result.getPoolIndex());
+        return result;
+    }
+}
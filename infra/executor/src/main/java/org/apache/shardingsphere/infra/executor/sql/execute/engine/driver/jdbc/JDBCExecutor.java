@@ -70,4 +70,29 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and expose results in completion order.
+     * 
+     * <p>Execution groups are executed serially in transaction, so results are returned in execution order in that case.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result, which may block while iterating results not arrived yet
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        if (connectionContext.getTransactionConnectionContext().isInTransaction()) {
+            return execute(executionGroupContext, firstCallback, callback);
+        }
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
@@ -43,6 +43,12 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @Getter
     private final ResultSet resultSet;
     
+    @Getter
+    private long fetchedRowCount;
+    
+    @Getter
+    private boolean fetchedAll;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -50,7 +56,12 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            fetchedRowCount++;
+            return true;
+        }
+        fetchedAll = true;
+        return false;
     }
     
     @Override
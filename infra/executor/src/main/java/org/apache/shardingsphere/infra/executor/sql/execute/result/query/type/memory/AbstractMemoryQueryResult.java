@@ -48,12 +48,16 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private long rowCount;
     
+    @Getter
+    private final long loadedRowCount;
+    
     private boolean wasNull;
     
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
         this.metaData = metaData;
         this.rows = rows.iterator();
         rowCount = rows.size();
+        loadedRowCount = rows.size();
     }
     
     @Override
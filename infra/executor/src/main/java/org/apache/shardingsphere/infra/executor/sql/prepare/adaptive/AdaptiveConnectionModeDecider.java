@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Adaptive connection mode decider.
+ * 
+ * <p>Decide connection size of data source by rows returned by previous executions of same SQL fingerprint.
+ * Route units which ever returned more rows than memory rows threshold keep using one connection for each route unit to stream results,
+ * otherwise results are small enough to be loaded into memory, connections are reduced to load about memory rows threshold rows for each connection.</p>
+ */
+@RequiredArgsConstructor
+public final class AdaptiveConnectionModeDecider {
+    
+    private static final long MIN_EXECUTION_COUNT = 5L;
+    
+    private final SQLExecutionStatistics statistics;
+    
+    private final int memoryRowsThreshold;
+    
+    /**
+     * Decide connection size of data source.
+     *
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @param sqlUnitSize SQL unit size of data source
+     * @return connection size, no more than max connections size per query
+     */
+    public int decideConnectionSize(final int maxConnectionsSizePerQuery, final int sqlUnitSize) {
+        if (memoryRowsThreshold <= 0 || statistics.getExecutionCount() < MIN_EXECUTION_COUNT || statistics.getMaxRowsPerRouteUnit() > memoryRowsThreshold) {
+            return maxConnectionsSizePerQuery;
+        }
+        long expectedRowCount = statistics.getAverageRowsPerRouteUnit() * sqlUnitSize;
+        long result = Math.max((expectedRowCount + memoryRowsThreshold - 1) / memoryRowsThreshold, 1L);
+        return (int) Math.min(result, Math.min(maxConnectionsSizePerQuery, sqlUnitSize));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL execution statistics of one SQL fingerprint.
+ */
+@RequiredArgsConstructor
+public final class SQLExecutionStatistics {
+    
+    @Getter
+    private final String fingerprint;
+    
+    private final LongAdder executionCount = new LongAdder();
+    
+    private final LongAdder routeUnitCount = new LongAdder();
+    
+    private final LongAdder rowCount = new LongAdder();
+    
+    private final LongAdder elapsedNanos = new LongAdder();
+    
+    private final LongAccumulator maxRowsPerRouteUnit = new LongAccumulator(Math::max, 0L);
+    
+    /**
+     * Record one execution.
+     *
+     * @param routeUnitCount count of route units which are executed, must be positive
+     * @param rowCount count of rows which are returned by all route units
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void record(final int routeUnitCount, final long rowCount, final long elapsedNanos) {
+        executionCount.increment();
+        this.routeUnitCount.add(routeUnitCount);
+        this.rowCount.add(rowCount);
+        this.elapsedNanos.add(elapsedNanos);
+        maxRowsPerRouteUnit.accumulate((rowCount + routeUnitCount - 1) / routeUnitCount);
+    }
+    
+    /**
+     * Get execution count.
+     *
+     * @return execution count
+     */
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+    
+    /**
+     * Get average rows per route unit.
+     *
+     * @return average rows per route unit
+     */
+    public long getAverageRowsPerRouteUnit() {
+        long routeUnits = routeUnitCount.sum();
+        return 0L == routeUnits ? 0L : (rowCount.sum() + routeUnits - 1) / routeUnits;
+    }
+    
+    /**
+     * Get max rows per route unit among all executions.
+     *
+     * @return max rows per route unit
+     */
+    public long getMaxRowsPerRouteUnit() {
+        return maxRowsPerRouteUnit.get();
+    }
+    
+    /**
+     * Get average route units per execution.
+     *
+     * @return average route units per execution
+     */
+    public long getAverageRouteUnits() {
+        long executions = executionCount.sum();
+        return 0L == executions ? 0L : routeUnitCount.sum() / executions;
+    }
+    
+    /**
+     * Get average elapsed milliseconds per execution.
+     *
+     * @return average elapsed milliseconds
+     */
+    public long getAverageElapsedMillis() {
+        long executions = executionCount.sum();
+        return 0L == executions ? 0L : TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum() / executions);
+    }
+}
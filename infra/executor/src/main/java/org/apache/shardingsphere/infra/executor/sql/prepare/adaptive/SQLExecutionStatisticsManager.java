@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * SQL execution statistics manager.
+ * 
+ * <p>Statistics are kept for limited SQL fingerprints, the least used ones are evicted first.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLExecutionStatisticsManager {
+    
+    private static final SQLExecutionStatisticsManager INSTANCE = new SQLExecutionStatisticsManager();
+    
+    private static final long MAX_FINGERPRINT_SIZE = 4096L;
+    
+    private final Cache<String, SQLExecutionStatistics> statistics = Caffeine.newBuilder().maximumSize(MAX_FINGERPRINT_SIZE).build();
+    
+    /**
+     * Get SQL execution statistics manager.
+     *
+     * @return SQL execution statistics manager
+     */
+    public static SQLExecutionStatisticsManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record one execution.
+     *
+     * @param fingerprint SQL fingerprint
+     * @param routeUnitCount count of route units which are executed
+     * @param rowCount count of rows which are returned by all route units
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void record(final String fingerprint, final int routeUnitCount, final long rowCount, final long elapsedNanos) {
+        if (routeUnitCount > 0) {
+            statistics.get(fingerprint, SQLExecutionStatistics::new).record(routeUnitCount, rowCount, elapsedNanos);
+        }
+    }
+    
+    /**
+     * Find SQL execution statistics.
+     *
+     * @param fingerprint SQL fingerprint
+     * @return found SQL execution statistics
+     */
+    public Optional<SQLExecutionStatistics> find(final String fingerprint) {
+        return Optional.ofNullable(statistics.getIfPresent(fingerprint));
+    }
+    
+    /**
+     * Get all SQL execution statistics.
+     *
+     * @return all SQL execution statistics
+     */
+    public Collection<SQLExecutionStatistics> getAll() {
+        return statistics.asMap().values();
+    }
+    
+    /**
+     * Clear all SQL execution statistics.
+     */
+    public void clear() {
+        statistics.invalidateAll();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeDecider;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
@@ -59,7 +60,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorConnectionManager<C> connectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, DatabaseType> databaseTypes) {
-        super(maxConnectionsSizePerQuery, rules);
+        this(type, maxConnectionsSizePerQuery, connectionManager, statementManager, option, rules, databaseTypes, null);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorConnectionManager<C> connectionManager,
+                                        final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
+                                        final Map<String, DatabaseType> databaseTypes, final AdaptiveConnectionModeDecider adaptiveConnectionModeDecider) {
+        super(maxConnectionsSizePerQuery, rules, adaptiveConnectionModeDecider);
         this.connectionManager = connectionManager;
         this.statementManager = statementManager;
         this.option = option;
@@ -99,6 +106,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (SQLUnit each : sqlUnits) {
             result.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), statementManager, connection, connectionMode, option, databaseTypes.get(dataSourceName)));
         }
-        return new ExecutionGroup<>(result);
+        return new ExecutionGroup<>(result, dataSourceName);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.process;
 
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
@@ -99,6 +100,20 @@ public final class ExecuteProcessEngine {
         ExecuteIDContext.remove();
     }
     
+    /**
+     * Clean execution after all asynchronous execution groups finished.
+     *
+     * @param completionOrderedResults completion ordered results
+     */
+    public void cleanExecution(final CompletionOrderedResults<?> completionOrderedResults) {
+        if (ExecuteIDContext.isEmpty()) {
+            return;
+        }
+        String executionID = ExecuteIDContext.get();
+        ExecuteIDContext.remove();
+        completionOrderedResults.onAllTasksFinished(() -> reporter.reportClean(executionID));
+    }
+    
     private boolean isMySQLDDLOrDMLStatement(final SQLStatement sqlStatement) {
         return sqlStatement instanceof MySQLStatement && (sqlStatement instanceof DDLStatement || sqlStatement instanceof DMLStatement);
     }
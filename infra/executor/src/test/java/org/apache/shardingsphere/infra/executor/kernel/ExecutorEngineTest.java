@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -30,6 +32,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -90,6 +93,37 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithVirtualThreadType() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(0, KernelExecutorType.VIRTUAL_THREAD)) {
+            List<String> actual = virtualExecutorEngine.execute(createMockedExecutionGroups(3, 2), firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(6));
+        }
+    }
+    
+    @Test
+    public void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback);
+        assertThat(actual.size(), is(4));
+        int count = 0;
+        for (String each : actual) {
+            assertThat(each, is("succeed"));
+            count++;
+        }
+        latch.await();
+        assertThat(count, is(4));
+    }
+    
+    @Test
+    public void assertExecuteInCompletionOrderWithAllTasksFinishedCallback() throws SQLException, InterruptedException {
+        CompletionOrderedResults<String> actual = (CompletionOrderedResults<String>) executorEngine.<Object, String>executeInCompletionOrder(executionGroupContext, firstCallback, callback);
+        CountDownLatch finishedLatch = new CountDownLatch(1);
+        actual.onAllTasksFinished(finishedLatch::countDown);
+        actual.close();
+        assertTrue(finishedLatch.await(5L, TimeUnit.SECONDS));
+    }
+    
     @Test
     public void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class CompletionOrderedResultsTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertGetAllResults() {
+        CompletionOrderedResults<String> actual = new CompletionOrderedResults<>(4);
+        actual.submit(executorService, 2, () -> Arrays.asList("bar_0", "bar_1"));
+        actual.addResults(Arrays.asList("foo_0", "foo_1"));
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(3), is("bar_1"));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetWhenExecutionGroupDeliveredLessResults() {
+        CompletionOrderedResults<String> actual = new CompletionOrderedResults<>(3);
+        actual.submit(executorService, 2, () -> Collections.singletonList("bar_0"));
+        actual.addResults(Collections.singletonList("foo_0"));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(1), is("bar_0"));
+        assertThat(actual.size(), is(2));
+        actual.get(2);
+    }
+    
+    @Test
+    public void assertSizeAfterClose() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletionOrderedResults<String> actual = new CompletionOrderedResults<>(2);
+        actual.submit(executorService, 1, () -> {
+            latch.await();
+            return Collections.singletonList("bar_0");
+        });
+        actual.addResults(Collections.singletonList("foo_0"));
+        actual.close();
+        latch.countDown();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is("foo_0"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ExecutorBulkheadTest {
+    
+    private final ExecutorBulkhead bulkhead = new ExecutorBulkhead("foo_ds", 1, 1);
+    
+    private final CountDownLatch released = new CountDownLatch(1);
+    
+    @After
+    public void tearDown() {
+        released.countDown();
+        bulkhead.getExecutorService().shutdown();
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertGetStateWhenSaturated() throws InterruptedException {
+        saturate();
+        assertThat(bulkhead.getActiveCount(), is(1));
+        assertThat(bulkhead.getMaxSize(), is(1));
+        assertThat(bulkhead.getQueuedCount(), is(1));
+        assertThat(bulkhead.getQueueRemainingCapacity(), is(0));
+        assertThat(bulkhead.getRejectedCount(), is(0L));
+    }
+    
+    @Test(timeout = 5000L, expected = RejectedExecutionException.class)
+    public void assertSubmitWhenSaturated() throws InterruptedException {
+        saturate();
+        try {
+            bulkhead.getExecutorService().submit(() -> null);
+        } finally {
+            assertThat(bulkhead.getRejectedCount(), is(1L));
+        }
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertThreadNameWithPercentSign() throws ExecutionException, InterruptedException {
+        ExecutorBulkhead percentBulkhead = new ExecutorBulkhead("foo_%d_ds", 1, 1);
+        try {
+            assertThat(percentBulkhead.getExecutorService().submit(() -> Thread.currentThread().getName()).get(), containsString("Bulkhead-foo_%d_ds-"));
+        } finally {
+            percentBulkhead.getExecutorService().shutdown();
+        }
+    }
+    
+    private void saturate() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        bulkhead.getExecutorService().submit(() -> {
+            started.countDown();
+            released.await();
+            return null;
+        });
+        started.await();
+        bulkhead.getExecutorService().submit(() -> null);
+    }
+}
@@ -18,13 +18,21 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.TransmittableThreadLocal;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public final class ExecutorServiceManagerTest {
     
@@ -48,6 +56,53 @@ public final class ExecutorServiceManagerTest {
         }
     }
     
+    @Test(timeout = 1000L)
+    public void assertThreadLocalValueTransmittedWithVirtualThreadType() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = new ExecutorServiceManager(0, "%d", KernelExecutorType.VIRTUAL_THREAD).getExecutorService();
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        assertThat(executorService.submit(TRANSMITTABLE_THREAD_LOCAL::get).get(), is("foo"));
+    }
+    
+    @Test
+    public void assertGetExecutorServiceWithoutBulkhead() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1);
+        assertThat(executorServiceManager.getExecutorService("foo_ds"), sameInstance(executorServiceManager.getExecutorService()));
+        assertThat(executorServiceManager.getBulkheads().size(), is(0));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    public void assertGetExecutorServiceWithBulkhead() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "%d", KernelExecutorType.PLATFORM_THREAD, 1, 1);
+        ExecutorService actual = executorServiceManager.getExecutorService("foo_ds");
+        assertThat(actual, not(executorServiceManager.getExecutorService()));
+        assertThat(executorServiceManager.getExecutorService("foo_ds"), sameInstance(actual));
+        assertThat(executorServiceManager.getExecutorService("bar_ds"), not(actual));
+        assertThat(executorServiceManager.getExecutorService(null), sameInstance(executorServiceManager.getExecutorService()));
+        assertThat(executorServiceManager.getBulkheads().size(), is(2));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    public void assertEvictBulkheads() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "%d", KernelExecutorType.PLATFORM_THREAD, 1, 1);
+        ExecutorService evicted = executorServiceManager.getExecutorService("foo_ds");
+        ExecutorService retained = executorServiceManager.getExecutorService("bar_ds");
+        executorServiceManager.evictBulkheads(Arrays.asList("foo_ds", "baz_ds"));
+        assertTrue(evicted.isShutdown());
+        assertFalse(retained.isShutdown());
+        assertThat(executorServiceManager.getBulkheads().keySet(), is(Collections.singleton("bar_ds")));
+        assertThat(executorServiceManager.getExecutorService("foo_ds"), not(evicted));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    public void assertGetExecutorServiceWithBulkheadAndVirtualThreadType() {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, "%d", KernelExecutorType.VIRTUAL_THREAD, 1, 1);
+        assertThat(executorServiceManager.getExecutorService("foo_ds"), sameInstance(executorServiceManager.getExecutorService()));
+        executorServiceManager.close();
+    }
+    
     private void assertValueChangedInConcurrencyThread() {
         try {
             assertThat(TRANSMITTABLE_THREAD_LOCAL.get(), is("bar"));
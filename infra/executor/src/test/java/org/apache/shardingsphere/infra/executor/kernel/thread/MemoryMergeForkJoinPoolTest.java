@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoryMergeForkJoinPoolTest {
+    
+    @After
+    public void tearDown() {
+        MemoryMergeForkJoinPool.unregister();
+    }
+    
+    @Test
+    public void assertGetPoolWithSameParallelism() {
+        MemoryMergeForkJoinPool.register();
+        ForkJoinPool actual = MemoryMergeForkJoinPool.getPool(2);
+        assertThat(actual.getParallelism(), is(2));
+        assertThat(MemoryMergeForkJoinPool.getPool(2), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetPoolWithChangedParallelism() {
+        MemoryMergeForkJoinPool.register();
+        ForkJoinPool previousPool = MemoryMergeForkJoinPool.getPool(2);
+        ForkJoinPool actual = MemoryMergeForkJoinPool.getPool(3);
+        assertThat(actual, not(sameInstance(previousPool)));
+        assertThat(actual.getParallelism(), is(3));
+        assertFalse(previousPool.isShutdown());
+        assertThat(previousPool.invoke(ForkJoinTask.adapt(() -> 1)), is(1));
+    }
+    
+    @Test
+    public void assertUnregisterLastOwner() {
+        MemoryMergeForkJoinPool.register();
+        ForkJoinPool actual = MemoryMergeForkJoinPool.getPool(2);
+        MemoryMergeForkJoinPool.unregister();
+        assertTrue(actual.isShutdown());
+        assertThat(MemoryMergeForkJoinPool.getPool(2), not(sameInstance(actual)));
+    }
+}
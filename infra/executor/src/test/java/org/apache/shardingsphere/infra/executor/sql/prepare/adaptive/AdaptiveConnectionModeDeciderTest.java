@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class AdaptiveConnectionModeDeciderTest {
+    
+    @Test
+    public void assertDecideConnectionSizeWithInsufficientExecutions() {
+        SQLExecutionStatistics statistics = createStatistics(4, 8, 8L);
+        assertThat(new AdaptiveConnectionModeDecider(statistics, 1000).decideConnectionSize(4, 8), is(4));
+    }
+    
+    @Test
+    public void assertDecideConnectionSizeWithLargeResult() {
+        SQLExecutionStatistics statistics = createStatistics(5, 8, 80000L);
+        assertThat(new AdaptiveConnectionModeDecider(statistics, 1000).decideConnectionSize(4, 8), is(4));
+    }
+    
+    @Test
+    public void assertDecideConnectionSizeWithSmallResult() {
+        SQLExecutionStatistics statistics = createStatistics(5, 8, 8L);
+        assertThat(new AdaptiveConnectionModeDecider(statistics, 1000).decideConnectionSize(4, 8), is(1));
+    }
+    
+    @Test
+    public void assertDecideConnectionSizeWithMediumResult() {
+        SQLExecutionStatistics statistics = createStatistics(5, 8, 4800L);
+        assertThat(new AdaptiveConnectionModeDecider(statistics, 1000).decideConnectionSize(8, 8), is(5));
+    }
+    
+    @Test
+    public void assertDecideConnectionSizeWithoutThreshold() {
+        SQLExecutionStatistics statistics = createStatistics(5, 8, 8L);
+        assertThat(new AdaptiveConnectionModeDecider(statistics, 0).decideConnectionSize(4, 8), is(4));
+    }
+    
+    private SQLExecutionStatistics createStatistics(final int executionCount, final int routeUnitCount, final long rowCount) {
+        SQLExecutionStatistics result = new SQLExecutionStatistics("SELECT * FROM t_order");
+        for (int i = 0; i < executionCount; i++) {
+            result.record(routeUnitCount, rowCount, 1000L);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLExecutionStatisticsTest {
+    
+    @Test
+    public void assertRecord() {
+        SQLExecutionStatistics actual = new SQLExecutionStatistics("SELECT * FROM t_order");
+        actual.record(4, 10L, TimeUnit.MILLISECONDS.toNanos(2L));
+        actual.record(2, 30L, TimeUnit.MILLISECONDS.toNanos(6L));
+        assertThat(actual.getExecutionCount(), is(2L));
+        assertThat(actual.getAverageRouteUnits(), is(3L));
+        assertThat(actual.getAverageRowsPerRouteUnit(), is(7L));
+        assertThat(actual.getMaxRowsPerRouteUnit(), is(15L));
+        assertThat(actual.getAverageElapsedMillis(), is(4L));
+    }
+    
+    @Test
+    public void assertGetWithoutExecution() {
+        SQLExecutionStatistics actual = new SQLExecutionStatistics("SELECT * FROM t_order");
+        assertThat(actual.getExecutionCount(), is(0L));
+        assertThat(actual.getAverageRouteUnits(), is(0L));
+        assertThat(actual.getAverageRowsPerRouteUnit(), is(0L));
+        assertThat(actual.getAverageElapsedMillis(), is(0L));
+    }
+}
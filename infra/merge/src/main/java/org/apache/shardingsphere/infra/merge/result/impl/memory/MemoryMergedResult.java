@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -40,10 +43,12 @@ import java.util.List;
  *
  * @param <T> type of rule
  */
-public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
+public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult, AutoCloseable {
     
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
+    private final Iterator<MemoryQueryResultRow> peekedResultSetRows;
+    
     private MemoryQueryResultRow currentResultSetRow;
     
     private boolean wasNull;
@@ -51,17 +56,34 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
         memoryResultSetRows = memoryQueryResultRows.iterator();
+        peekedResultSetRows = memoryResultSetRows;
         if (!memoryQueryResultRows.isEmpty()) {
             currentResultSetRow = memoryQueryResultRows.get(0);
         }
     }
     
+    /**
+     * Create memory merged result with rows produced by subclass before construction.
+     * 
+     * <p>Rows iterator which holds resources, such as spill files, should implement {@link AutoCloseable} to be released by {@link #close()}.</p>
+     *
+     * @param memoryQueryResultRows memory query result rows
+     */
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryQueryResultRows) {
+        memoryResultSetRows = memoryQueryResultRows;
+        PeekingIterator<MemoryQueryResultRow> peekingResultSetRows = Iterators.peekingIterator(memoryQueryResultRows);
+        peekedResultSetRows = peekingResultSetRows;
+        if (peekingResultSetRows.hasNext()) {
+            currentResultSetRow = peekingResultSetRows.peek();
+        }
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext<?> sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
-        if (memoryResultSetRows.hasNext()) {
-            currentResultSetRow = memoryResultSetRows.next();
+        if (peekedResultSetRows.hasNext()) {
+            currentResultSetRow = peekedResultSetRows.next();
             return true;
         }
         return false;
@@ -93,4 +115,15 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    /**
+     * Release resources held by rows not iterated yet, such as spill files.
+     */
+    @SneakyThrows(Exception.class)
+    @Override
+    public final void close() {
+        if (memoryResultSetRows instanceof AutoCloseable) {
+            ((AutoCloseable) memoryResultSetRows).close();
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.sort;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MemoryRowSizeEstimator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External row sorter.
+ * 
+ * <p>Rows are sorted in memory until the memory budget is exceeded, then sorted runs are spilled to disk and merged with k-way merge.</p>
+ */
+@RequiredArgsConstructor
+public final class ExternalRowSorter implements RowSorter {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final long spillThresholdBytes;
+    
+    private final List<MemoryQueryResultRow> buffer = new ArrayList<>();
+    
+    private final Collection<SpillFile> runs = new LinkedList<>();
+    
+    private long bufferedBytes;
+    
+    @Override
+    public void add(final MemoryQueryResultRow row) {
+        buffer.add(row);
+        bufferedBytes += MemoryRowSizeEstimator.estimate(row.getData());
+        if (spillThresholdBytes > 0L && bufferedBytes > spillThresholdBytes) {
+            spill();
+        }
+    }
+    
+    private void spill() {
+        buffer.sort(comparator);
+        SpillFile run = new SpillFile();
+        for (MemoryQueryResultRow each : buffer) {
+            run.append(each.getData());
+        }
+        run.finish();
+        runs.add(run);
+        buffer.clear();
+        bufferedBytes = 0L;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return buffer.isEmpty() && runs.isEmpty();
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> sorted() {
+        buffer.sort(comparator);
+        if (runs.isEmpty()) {
+            return buffer.iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> sortedRuns = new ArrayList<>(runs.size() + 1);
+        for (SpillFile each : runs) {
+            sortedRuns.add(Iterators.transform(each.iterator(), MemoryQueryResultRow::new));
+        }
+        sortedRuns.add(buffer.iterator());
+        return new MergingIterator(sortedRuns);
+    }
+    
+    @Override
+    public void close() {
+        runs.forEach(SpillFile::close);
+        runs.clear();
+        buffer.clear();
+    }
+    
+    private final class MergingIterator implements Iterator<MemoryQueryResultRow>, AutoCloseable {
+        
+        private final PriorityQueue<IndexedRun> queue;
+        
+        MergingIterator(final List<Iterator<MemoryQueryResultRow>> sortedRuns) {
+            queue = new PriorityQueue<>(sortedRuns.size(), (o1, o2) -> {
+                int result = comparator.compare(o1.rows.peek(), o2.rows.peek());
+                return 0 == result ? Integer.compare(o1.index, o2.index) : result;
+            });
+            for (int i = 0; i < sortedRuns.size(); i++) {
+                if (sortedRuns.get(i).hasNext()) {
+                    queue.offer(new IndexedRun(i, Iterators.peekingIterator(sortedRuns.get(i))));
+                }
+            }
+            closeIfExhausted();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            IndexedRun run = queue.poll();
+            if (null == run) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultRow result = run.rows.next();
+            if (run.rows.hasNext()) {
+                queue.offer(run);
+            }
+            closeIfExhausted();
+            return result;
+        }
+        
+        private void closeIfExhausted() {
+            if (queue.isEmpty()) {
+                close();
+            }
+        }
+        
+        @Override
+        public void close() {
+            queue.clear();
+            ExternalRowSorter.this.close();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IndexedRun {
+        
+        private final int index;
+        
+        private final PeekingIterator<MemoryQueryResultRow> rows;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.sort;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.Iterator;
+
+/**
+ * Row sorter for memory merged result.
+ */
+public interface RowSorter extends AutoCloseable {
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     */
+    void add(MemoryQueryResultRow row);
+    
+    /**
+     * Judge whether sorter is empty.
+     *
+     * @return is empty or not
+     */
+    boolean isEmpty();
+    
+    /**
+     * Get sorted rows.
+     * 
+     * <p>Resources held by sorter are released once all rows are iterated, or the returned iterator is closed if it is {@link AutoCloseable}.</p>
+     *
+     * @return sorted rows
+     */
+    Iterator<MemoryQueryResultRow> sorted();
+    
+    @Override
+    void close();
+}
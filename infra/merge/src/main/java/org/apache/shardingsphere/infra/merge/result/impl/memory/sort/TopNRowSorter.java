@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.sort;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Top N row sorter, which only keeps the first N rows in a bounded heap.
+ */
+public final class TopNRowSorter implements RowSorter {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int limit;
+    
+    private final PriorityQueue<MemoryQueryResultRow> heap;
+    
+    public TopNRowSorter(final Comparator<MemoryQueryResultRow> comparator, final int limit) {
+        this.comparator = comparator;
+        this.limit = limit;
+        heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, comparator.reversed());
+    }
+    
+    @Override
+    public void add(final MemoryQueryResultRow row) {
+        if (heap.size() < limit) {
+            heap.offer(row);
+        } else if (comparator.compare(row, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(row);
+        }
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> sorted() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(heap);
+        heap.clear();
+        result.sort(comparator);
+        return result.iterator();
+    }
+    
+    @Override
+    public void close() {
+        heap.clear();
+    }
+}
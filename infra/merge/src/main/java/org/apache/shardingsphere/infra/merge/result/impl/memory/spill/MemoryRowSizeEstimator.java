@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+/**
+ * Memory row size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryRowSizeEstimator {
+    
+    private static final int OBJECT_HEADER_BYTES = 16;
+    
+    private static final int REFERENCE_BYTES = 8;
+    
+    private static final int NUMBER_BYTES = 24;
+    
+    private static final int DEFAULT_VALUE_BYTES = 64;
+    
+    /**
+     * Estimate retained bytes of row.
+     *
+     * @param data row data
+     * @return estimated bytes
+     */
+    public static long estimate(final Object[] data) {
+        long result = OBJECT_HEADER_BYTES + (long) REFERENCE_BYTES * data.length;
+        for (Object each : data) {
+            result += estimate(each);
+        }
+        return result;
+    }
+    
+    private static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_BYTES * 2 + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_HEADER_BYTES * 2 + ((BigDecimal) value).unscaledValue().bitLength() / 8 + NUMBER_BYTES;
+        }
+        if (value instanceof BigInteger) {
+            return OBJECT_HEADER_BYTES * 2 + ((BigInteger) value).bitLength() / 8;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Date) {
+            return NUMBER_BYTES;
+        }
+        return DEFAULT_VALUE_BYTES;
+    }
+}
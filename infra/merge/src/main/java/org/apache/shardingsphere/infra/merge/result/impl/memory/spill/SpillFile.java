@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file, which holds rows of memory merged result on local disk when memory budget exceeded.
+ * 
+ * <p>Rows are appended first, then {@link #finish()} and read back once by {@link #iterator()}. The file is deleted by {@link #close()}, which owners must call in finally blocks.</p>
+ */
+public final class SpillFile implements Iterable<Object[]>, AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-spill-";
+    
+    private final File file;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    @SneakyThrows(IOException.class)
+    public SpillFile() {
+        file = Files.createTempFile(FILE_PREFIX, ".tmp").toFile();
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(file.toPath());
+            throw ex;
+        }
+    }
+    
+    /**
+     * Append row.
+     *
+     * @param row row to be appended
+     */
+    @SneakyThrows(IOException.class)
+    public void append(final Object[] row) {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Finish appending.
+     */
+    @SneakyThrows(IOException.class)
+    public void finish() {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public Iterator<Object[]> iterator() {
+        finish();
+        closeInput();
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())));
+        return new SpillFileIterator();
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void close() {
+        try {
+            finish();
+            closeInput();
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+    
+    private void closeInput() throws IOException {
+        if (null != input) {
+            input.close();
+            input = null;
+        }
+    }
+    
+    private final class SpillFileIterator implements Iterator<Object[]> {
+        
+        private int remaining = rowCount;
+        
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public Object[] next() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            Object[] result = SpillRowCodec.read(input);
+            remaining--;
+            if (0 == remaining) {
+                closeInput();
+            }
+            return result;
+        }
+    }
+}
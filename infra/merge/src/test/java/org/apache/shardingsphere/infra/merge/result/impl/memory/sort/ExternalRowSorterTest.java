@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.sort;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalRowSorterTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = Comparator.comparing(each -> (Integer) each.getCell(1));
+    
+    @Test
+    public void assertSortedWithinBudget() {
+        assertSorted(new ExternalRowSorter(comparator, 0L));
+    }
+    
+    @Test
+    public void assertSortedWithSpilledRuns() {
+        assertSorted(new ExternalRowSorter(comparator, 1024L));
+    }
+    
+    private void assertSorted(final ExternalRowSorter sorter) {
+        assertTrue(sorter.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            int value = i * 37 % 100;
+            sorter.add(new MemoryQueryResultRow(new Object[]{value, "value_" + value}));
+        }
+        assertFalse(sorter.isEmpty());
+        Iterator<MemoryQueryResultRow> actual = sorter.sorted();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat(row.getCell(1), is(i));
+            assertThat(row.getCell(2), is("value_" + i));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
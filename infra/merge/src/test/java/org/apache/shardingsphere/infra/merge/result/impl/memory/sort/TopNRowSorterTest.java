@@ -15,25 +15,34 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+package org.apache.shardingsphere.infra.merge.result.impl.memory.sort;
 
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.junit.Test;
 
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
-public final class AccumulationAggregationUnitTest {
+public final class TopNRowSorterTest {
     
     @Test
-    public void assertAccumulationAggregation() {
-        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
-        accumulationAggregationUnit.merge(null);
-        accumulationAggregationUnit.merge(Collections.singletonList(null));
-        accumulationAggregationUnit.merge(Collections.singletonList(1));
-        accumulationAggregationUnit.merge(Collections.singletonList(1));
-        accumulationAggregationUnit.merge(Collections.singletonList(10));
-        assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
+    public void assertSorted() {
+        TopNRowSorter sorter = new TopNRowSorter(Comparator.comparing(each -> (Integer) each.getCell(1)), 3);
+        assertTrue(sorter.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{i * 37 % 100}));
+        }
+        assertFalse(sorter.isEmpty());
+        Iterator<MemoryQueryResultRow> actual = sorter.sorted();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(actual.hasNext());
+            assertThat(actual.next().getCell(1), is(i));
+        }
+        assertFalse(actual.hasNext());
     }
 }
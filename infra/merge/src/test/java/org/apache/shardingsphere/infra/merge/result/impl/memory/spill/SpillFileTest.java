@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertAppendAndIterate() {
+        try (SpillFile spillFile = new SpillFile()) {
+            for (int i = 0; i < 1000; i++) {
+                spillFile.append(new Object[]{i, "value_" + i});
+            }
+            assertThat(spillFile.getRowCount(), is(1000));
+            Iterator<Object[]> actual = spillFile.iterator();
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(actual.hasNext());
+                assertThat(actual.next(), is(new Object[]{i, "value_" + i}));
+            }
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test
+    public void assertAppendAndIterateWithTypedValues() {
+        Object[] row = new Object[]{null, (short) 1, (byte) 2, 3L, true, 4.5D, 5.5F, new BigDecimal("12345678901234567890.123"), new BigInteger("123456789012345678901234"),
+                new byte[]{1, 2}, new Timestamp(1000L), new Date(2000L), LocalDate.of(2023, 1, 1), LocalDateTime.of(2023, 1, 1, 1, 1, 1, 1), 'c', UUID.randomUUID()};
+        try (SpillFile spillFile = new SpillFile()) {
+            spillFile.append(row);
+            Iterator<Object[]> actual = spillFile.iterator();
+            assertThat(actual.next(), is(row));
+            assertFalse(actual.hasNext());
+        }
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertAppendWithUnsupportedValue() {
+        try (SpillFile spillFile = new SpillFile()) {
+            spillFile.append(new Object[]{new Object()});
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParse
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.normalizer.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.core.database.normalizer.SQLLiteralNormalizer;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
@@ -35,10 +37,28 @@ public final class ShardingSphereSQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final SQLLiteralNormalizer sqlLiteralNormalizer;
+    
     public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final boolean isParseComment, final boolean isFastPathParse) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
-                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isFastPathParse);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        sqlLiteralNormalizer = new SQLLiteralNormalizer(databaseType);
+    }
+    
+    /**
+     * Normalize literals of SQL to parameter markers.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public NormalizedSQL normalize(final String sql) {
+        return sqlLiteralNormalizer.normalize(sql);
     }
     
     /*
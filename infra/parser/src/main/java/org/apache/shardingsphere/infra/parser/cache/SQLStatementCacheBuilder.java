@@ -36,12 +36,13 @@ public final class SQLStatementCacheBuilder {
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
      * @param isParseComment is parse comment
+     * @param isFastPathParse is fast path parse
      * @param databaseType database type
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final String databaseType,
-                                                           final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+                                                           final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isFastPathParse) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment, isFastPathParse));
     }
 }
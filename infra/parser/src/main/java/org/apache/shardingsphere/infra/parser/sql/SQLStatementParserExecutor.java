@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.FastPathSQLParser;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -33,9 +36,12 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+    private final FastPathSQLParser fastPathParser;
+    
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isFastPathParse) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
+        fastPathParser = isFastPathParse ? TypedSPILoader.findService(FastPathSQLParser.class, databaseType).orElse(null) : null;
     }
     
     /**
@@ -45,6 +51,7 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        Optional<SQLStatement> result = null == fastPathParser ? Optional.empty() : fastPathParser.parse(sql);
+        return result.orElseGet(() -> visitorEngine.visit(parserEngine.parse(sql, false)));
     }
 }
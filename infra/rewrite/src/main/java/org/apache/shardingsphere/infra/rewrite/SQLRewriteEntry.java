@@ -26,9 +26,12 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteCache;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
@@ -36,6 +39,7 @@ import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -70,20 +74,49 @@ public final class SQLRewriteEntry {
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> params, final SQLStatementContext<?> sqlStatementContext,
                                     final RouteContext routeContext, final ConnectionContext connectionContext) {
+        return rewrite(sql, params, sqlStatementContext, routeContext, connectionContext, null);
+    }
+    
+    /**
+     * Rewrite with route SQL rewrite cache.
+     * 
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param connectionContext connection context
+     * @param routeSQLRewriteCache route SQL rewrite cache of prepared SQL, null if SQL is not prepared
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> params, final SQLStatementContext<?> sqlStatementContext,
+                                    final RouteContext routeContext, final ConnectionContext connectionContext, final RouteSQLRewriteCache routeSQLRewriteCache) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, params, sqlStatementContext, routeContext, connectionContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         DatabaseType protocolType = database.getProtocolType();
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
-        return routeContext.getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext)
-                : new RouteSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext, routeContext);
+        if (routeContext.getRouteUnits().isEmpty()) {
+            sqlRewriteContext.generateSQLTokens();
+            return new GenericSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext);
+        }
+        RouteSQLRewriteEngine routeSQLRewriteEngine = new RouteSQLRewriteEngine(rule, protocolType, storageTypes);
+        if (null == routeSQLRewriteCache || !routeSQLRewriteCache.isCacheable(sqlRewriteContext, routeContext)) {
+            sqlRewriteContext.generateSQLTokens();
+            return routeSQLRewriteEngine.rewrite(sqlRewriteContext, routeContext);
+        }
+        Optional<Map<RouteUnit, String>> routeSQLs = routeSQLRewriteCache.find(database, globalRuleMetaData, routeContext.getRouteUnits());
+        if (routeSQLs.isPresent()) {
+            return routeSQLRewriteEngine.rewrite(sqlRewriteContext, routeContext, routeSQLs.get());
+        }
+        sqlRewriteContext.generateSQLTokens();
+        RouteSQLRewriteResult result = routeSQLRewriteEngine.rewrite(sqlRewriteContext, routeContext);
+        routeSQLRewriteCache.put(database, globalRuleMetaData, routeContext.getRouteUnits(), result);
+        return result;
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params, final SQLStatementContext<?> sqlStatementContext,
                                                       final RouteContext routeContext, final ConnectionContext connectionContext) {
         SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, params, connectionContext);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
         return result;
     }
     
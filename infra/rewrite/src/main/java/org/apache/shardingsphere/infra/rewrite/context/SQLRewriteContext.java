@@ -31,8 +31,9 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGener
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -54,7 +55,7 @@ public final class SQLRewriteContext {
     
     private final ParameterBuilder parameterBuilder;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens = new ArrayList<>();
     
     @Getter(AccessLevel.NONE)
     private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
@@ -85,10 +86,21 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether SQL tokens depend on parameters.
+     *
+     * @return SQL tokens depend on parameters or not
+     */
+    public boolean isSQLTokensDependOnParameters() {
+        return sqlTokenGenerators.containsParametersAwareSQLTokenGenerator(sqlStatementContext)
+                || parameterBuilder instanceof StandardParameterBuilder && ((StandardParameterBuilder) parameterBuilder).isRouteUnitAware();
+    }
+    
     /**
      * Generate SQL tokens.
      */
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(databaseName, schemas, sqlStatementContext, parameters, connectionContext));
+        Collections.sort(sqlTokens);
     }
 }
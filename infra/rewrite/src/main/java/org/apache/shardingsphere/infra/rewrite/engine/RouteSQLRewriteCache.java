@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Route SQL rewrite cache.
+ *
+ * <p>Cache belongs to one prepared SQL. Rewritten SQL of select, update and delete statement only depends on route units,
+ * unless SQL tokens are generated from parameters, so that rewritten SQL of route units can be reused by later executions which are routed to same route units.
+ * Only parameters are rewritten again for later executions.</p>
+ */
+public final class RouteSQLRewriteCache {
+    
+    private static final int MAX_SIZE = 128;
+    
+    private final Map<List<RouteUnit>, Map<RouteUnit, String>> routeSQLs = new ConcurrentHashMap<>();
+    
+    private volatile ShardingSphereDatabase database;
+    
+    private volatile ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    /**
+     * Judge whether rewritten SQL is cacheable.
+     *
+     * <p>Original data nodes of route context do not affect rewritten SQL of select, update and delete statement,
+     * so that statements routed by sharding conditions are cacheable too.</p>
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @return cacheable or not
+     */
+    public boolean isCacheable(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        if (routeContext.getRouteUnits().isEmpty() || sqlRewriteContext.isSQLTokensDependOnParameters()) {
+            return false;
+        }
+        SQLStatementContext<?> sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            PaginationContext paginationContext = ((SelectStatementContext) sqlStatementContext).getPaginationContext();
+            return !paginationContext.getOffsetParameterIndex().isPresent() && !paginationContext.getRowCountParameterIndex().isPresent();
+        }
+        return sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    /**
+     * Find rewritten SQL of route units.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param routeUnits route units
+     * @return rewritten SQL of each route unit
+     */
+    public Optional<Map<RouteUnit, String>> find(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final Collection<RouteUnit> routeUnits) {
+        if (database != this.database || globalRuleMetaData != this.globalRuleMetaData) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(routeSQLs.get(new ArrayList<>(routeUnits)));
+    }
+    
+    /**
+     * Put rewritten SQL of route units.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param routeUnits route units
+     * @param rewriteResult route SQL rewrite result
+     */
+    public void put(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final Collection<RouteUnit> routeUnits, final RouteSQLRewriteResult rewriteResult) {
+        if (database != this.database || globalRuleMetaData != this.globalRuleMetaData) {
+            routeSQLs.clear();
+            this.database = database;
+            this.globalRuleMetaData = globalRuleMetaData;
+        }
+        if (routeSQLs.size() >= MAX_SIZE) {
+            return;
+        }
+        Map<RouteUnit, String> sqls = new LinkedHashMap<>(rewriteResult.getSqlRewriteUnits().size(), 1);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            sqls.put(entry.getKey(), entry.getValue().getSql());
+        }
+        routeSQLs.put(new ArrayList<>(routeUnits), sqls);
+    }
+}
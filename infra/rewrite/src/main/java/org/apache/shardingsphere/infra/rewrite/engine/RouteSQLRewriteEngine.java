@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLTemplate;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -63,37 +64,63 @@ public final class RouteSQLRewriteEngine {
      * @return SQL rewrite result
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
-        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), createSQLRewriteUnits(sqlRewriteContext, routeContext, null)));
+    }
+    
+    /**
+     * Rewrite parameters with rewritten SQL of previous execution.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @param routeSQLs translated rewritten SQL of each route unit
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Map<RouteUnit, String> routeSQLs) {
+        return new RouteSQLRewriteResult(createSQLRewriteUnits(sqlRewriteContext, routeContext, routeSQLs));
+    }
+    
+    private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Map<RouteUnit, String> routeSQLs) {
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        SQLTemplate template = null == routeSQLs ? new SQLTemplate(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens()) : null;
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                RouteUnit routeUnit = routeUnits.iterator().next();
+                String sql = null == routeSQLs ? createAggregatedSQL(sqlRewriteContext, routeUnits, template) : routeSQLs.get(routeUnit);
+                result.put(routeUnit, new SQLRewriteUnit(sql, createAggregatedParameters(sqlRewriteContext, routeContext, routeUnits)));
             } else {
-                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
+                addSQLRewriteUnits(result, sqlRewriteContext, routeContext, routeUnits, routeSQLs, template);
             }
         }
-        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
+        return result;
+    }
+    
+    private String createAggregatedSQL(final SQLRewriteContext sqlRewriteContext, final Collection<RouteUnit> routeUnits, final SQLTemplate template) {
+        Collection<String> result = new LinkedList<>();
+        for (RouteUnit each : routeUnits) {
+            result.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each, template).toSQL()));
+        }
+        return String.join(" UNION ALL ", result);
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
-        Collection<String> sql = new LinkedList<>();
-        List<Object> params = new LinkedList<>();
+    private List<Object> createAggregatedParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+        List<Object> result = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
-            if (containsDollarMarker && !params.isEmpty()) {
+            if (containsDollarMarker && !result.isEmpty()) {
                 continue;
             }
-            params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            result.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
         }
-        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
+        return result;
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
-                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits, final Map<RouteUnit, String> routeSQLs, final SQLTemplate template) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            String sql = null == routeSQLs ? new RouteSQLBuilder(sqlRewriteContext, each, template).toSQL() : routeSQLs.get(each);
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(sql, getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
         }
     }
     
@@ -121,7 +148,7 @@ public final class RouteSQLRewriteEngine {
     
     private List<Object> getParameters(final ParameterBuilder paramBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
         if (paramBuilder instanceof StandardParameterBuilder) {
-            return paramBuilder.getParameters();
+            return ((StandardParameterBuilder) paramBuilder).getParameters(routeUnit);
         }
         return routeContext.getOriginalDataNodes().isEmpty()
                 ? ((GroupedParameterBuilder) paramBuilder).getParameters()
@@ -20,9 +20,12 @@ package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -43,6 +46,8 @@ public final class StandardParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new LinkedHashMap<>();
     
+    private final Map<RouteUnit, Collection<Integer>> routeUnitRemovedIndexes = new LinkedHashMap<>();
+    
     /**
      * Add added parameters.
      * 
@@ -63,8 +68,41 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         replacedIndexAndParameters.put(index, param);
     }
     
+    /**
+     * Add removed parameters for route unit.
+     *
+     * @param routeUnit route unit
+     * @param indexes parameter indexes to be removed from route unit
+     */
+    public void addRemovedParameters(final RouteUnit routeUnit, final Collection<Integer> indexes) {
+        routeUnitRemovedIndexes.computeIfAbsent(routeUnit, unused -> new HashSet<>()).addAll(indexes);
+    }
+    
+    /**
+     * Judge whether parameters are different between route units.
+     *
+     * @return parameters are different between route units or not
+     */
+    public boolean isRouteUnitAware() {
+        return !routeUnitRemovedIndexes.isEmpty();
+    }
+    
     @Override
     public List<Object> getParameters() {
+        return getParameters(Collections.emptySet());
+    }
+    
+    /**
+     * Get parameters for route unit.
+     *
+     * @param routeUnit route unit
+     * @return parameters for route unit
+     */
+    public List<Object> getParameters(final RouteUnit routeUnit) {
+        return getParameters(routeUnitRemovedIndexes.getOrDefault(routeUnit, Collections.emptySet()));
+    }
+    
+    private List<Object> getParameters(final Collection<Integer> removedIndexes) {
         List<Object> replacedParams = new ArrayList<>(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             replacedParams.set(entry.getKey(), entry.getValue());
@@ -73,7 +111,7 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         List<Object> result = new LinkedList<>();
         for (int index = 0; index <= maxParamIndex; index++) {
             List<Object> currentIndexParams = new LinkedList<>();
-            if (replacedParams.size() > index) {
+            if (replacedParams.size() > index && !removedIndexes.contains(index)) {
                 currentIndexParams.add(replacedParams.get(index));
             }
             if (addedIndexAndParameters.containsKey(index)) {
@@ -17,70 +17,69 @@
 
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
  */
-@RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
     private final SQLRewriteContext context;
     
     private final RouteUnit routeUnit;
     
+    private final SQLTemplate template;
+    
+    protected AbstractSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
+        this(context, routeUnit, null);
+    }
+    
+    protected AbstractSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit, final SQLTemplate template) {
+        this.context = context;
+        this.routeUnit = routeUnit;
+        this.template = template;
+    }
+    
     @Override
     public final String toSQL() {
         if (context.getSqlTokens().isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
+        SQLTemplate template = null == this.template ? new SQLTemplate(context.getSql(), context.getSqlTokens()) : this.template;
+        StringBuilder result = new StringBuilder(template.getEstimatedLength());
+        Iterator<String> segments = template.getSegments().iterator();
+        result.append(segments.next());
+        for (SQLToken each : template.getRouteUnitAwareTokens()) {
             if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
+                appendComposableSQLTokenText(result, template, (ComposableSQLToken) each);
             } else if (each instanceof SubstitutableColumnNameToken) {
                 result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
             } else {
                 result.append(getSQLTokenText(each));
             }
-            result.append(getConjunctionText(each));
+            result.append(segments.next());
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
-        StringBuilder result = new StringBuilder();
-        for (SQLToken each : composableSQLToken.getSqlTokens()) {
+    private void appendComposableSQLTokenText(final StringBuilder result, final SQLTemplate template, final ComposableSQLToken composableSQLToken) {
+        List<SQLToken> sqlTokens = new ArrayList<>(composableSQLToken.getSqlTokens());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            int stopIndex = i == sqlTokens.size() - 1 ? Math.min(composableSQLToken.getStopIndex() + 1, context.getSql().length()) : sqlTokens.get(i + 1).getStartIndex();
+            result.append(context.getSql(), template.getConjunctionStartIndex(each), stopIndex);
         }
-        return result.toString();
-    }
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
     }
 }
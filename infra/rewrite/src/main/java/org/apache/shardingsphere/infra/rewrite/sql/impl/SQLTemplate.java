@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL template.
+ *
+ * <p>SQL tokens are sorted and walked once, SQL text between tokens and text of route unit unaware tokens are merged into shared segments,
+ * so that only route unit aware tokens need to be rendered again when SQL is built for each route unit.</p>
+ */
+@Getter(AccessLevel.PACKAGE)
+public final class SQLTemplate {
+    
+    private static final int ESTIMATED_TOKEN_LENGTH = 32;
+    
+    private final String sql;
+    
+    private final List<String> segments;
+    
+    private final List<SQLToken> routeUnitAwareTokens;
+    
+    private final int estimatedLength;
+    
+    public SQLTemplate(final String sql, final List<SQLToken> sqlTokens) {
+        this.sql = sql;
+        List<SQLToken> sortedSQLTokens = sortSQLTokens(sqlTokens);
+        segments = new ArrayList<>();
+        routeUnitAwareTokens = new ArrayList<>();
+        StringBuilder segment = new StringBuilder(sql.length());
+        segment.append(sql, 0, sortedSQLTokens.isEmpty() ? sql.length() : sortedSQLTokens.get(0).getStartIndex());
+        int segmentsLength = 0;
+        for (int i = 0; i < sortedSQLTokens.size(); i++) {
+            SQLToken each = sortedSQLTokens.get(i);
+            if (isRouteUnitAware(each)) {
+                segmentsLength += segment.length();
+                segments.add(segment.toString());
+                segment.setLength(0);
+                routeUnitAwareTokens.add(each);
+            } else {
+                segment.append(each);
+            }
+            segment.append(sql, getConjunctionStartIndex(each), i == sortedSQLTokens.size() - 1 ? sql.length() : sortedSQLTokens.get(i + 1).getStartIndex());
+        }
+        segmentsLength += segment.length();
+        segments.add(segment.toString());
+        estimatedLength = segmentsLength + routeUnitAwareTokens.size() * ESTIMATED_TOKEN_LENGTH;
+    }
+    
+    private List<SQLToken> sortSQLTokens(final List<SQLToken> sqlTokens) {
+        List<SQLToken> result = new ArrayList<>(sqlTokens);
+        for (int i = 1; i < result.size(); i++) {
+            if (result.get(i - 1).getStartIndex() > result.get(i).getStartIndex()) {
+                Collections.sort(result);
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isRouteUnitAware(final SQLToken sqlToken) {
+        return sqlToken instanceof RouteUnitAware || sqlToken instanceof ComposableSQLToken;
+    }
+    
+    int getConjunctionStartIndex(final SQLToken sqlToken) {
+        int result = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(result, sql.length());
+    }
+}
@@ -80,6 +80,21 @@ public final class SQLTokenGenerators {
         return result;
     }
     
+    /**
+     * Judge whether contains parameters aware SQL token generator for SQL statement context.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return contains parameters aware SQL token generator or not
+     */
+    public boolean containsParametersAwareSQLTokenGenerator(final SQLStatementContext<?> sqlStatementContext) {
+        for (SQLTokenGenerator each : sqlTokenGenerators.values()) {
+            if (each instanceof ParametersAware && each.isGenerateSQLToken(sqlStatementContext)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private void setUpSQLTokenGenerator(final SQLTokenGenerator sqlTokenGenerator, final List<Object> params,
                                         final String databaseName, final Map<String, ShardingSphereSchema> schemas, final List<SQLToken> previousSQLTokens, final ConnectionContext connectionContext) {
         if (sqlTokenGenerator instanceof ParametersAware) {
@@ -18,16 +18,19 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteCache;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -46,6 +49,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -81,6 +85,26 @@ public final class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    public void assertRewriteWithRouteSQLRewriteCacheForStatementRoutedByCondition() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResource(),
+                mock(ShardingSphereRuleMetaData.class), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration())));
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, new ConfigurationProperties(new Properties()));
+        RouteSQLRewriteCache routeSQLRewriteCache = new RouteSQLRewriteCache();
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "tbl")));
+        sqlRewriteEntry.rewrite("UPDATE tbl SET status = ? WHERE id = ?", Arrays.asList("OK", 1), mock(UpdateStatementContext.class), routeContext, mock(ConnectionContext.class), routeSQLRewriteCache);
+        assertTrue(routeSQLRewriteCache.find(database, globalRuleMetaData, routeContext.getRouteUnits()).isPresent());
+        RouteSQLRewriteResult actual = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(
+                "UPDATE tbl SET status = ? WHERE id = ? /* not rewritten again */", Arrays.asList("FAIL", 2), mock(UpdateStatementContext.class), routeContext, mock(ConnectionContext.class),
+                routeSQLRewriteCache);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("UPDATE tbl SET status = ? WHERE id = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Arrays.<Object>asList("FAIL", 2)));
+    }
+    
     private ShardingSphereResourceMetaData mockResource() {
         ShardingSphereResourceMetaData result = mock(ShardingSphereResourceMetaData.class);
         Map<String, DatabaseType> databaseTypes = new LinkedHashMap<>(2, 1);
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RouteSQLRewriteCacheTest {
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+    
+    @Test
+    public void assertIsCacheableForUpdate() {
+        assertTrue(new RouteSQLRewriteCache().isCacheable(mockSQLRewriteContext(mock(UpdateStatementContext.class), false), createRouteContext()));
+    }
+    
+    @Test
+    public void assertIsCacheableForUpdateRoutedByCondition() {
+        RouteContext routeContext = createRouteContext();
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "tbl_0")));
+        assertTrue(new RouteSQLRewriteCache().isCacheable(mockSQLRewriteContext(mock(UpdateStatementContext.class), false), routeContext));
+    }
+    
+    @Test
+    public void assertIsNotCacheableForInsert() {
+        assertFalse(new RouteSQLRewriteCache().isCacheable(mockSQLRewriteContext(mock(InsertStatementContext.class), false), createRouteContext()));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithParametersAwareSQLTokens() {
+        assertFalse(new RouteSQLRewriteCache().isCacheable(mockSQLRewriteContext(mock(UpdateStatementContext.class), true), createRouteContext()));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithParameterMarkerPagination() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getPaginationContext().getOffsetParameterIndex()).thenReturn(Optional.empty());
+        when(sqlStatementContext.getPaginationContext().getRowCountParameterIndex()).thenReturn(Optional.of(0));
+        assertFalse(new RouteSQLRewriteCache().isCacheable(mockSQLRewriteContext(sqlStatementContext, false), createRouteContext()));
+    }
+    
+    @Test
+    public void assertFind() {
+        RouteSQLRewriteCache cache = new RouteSQLRewriteCache();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
+        Collection<RouteUnit> routeUnits = Collections.singleton(routeUnit);
+        assertFalse(cache.find(database, globalRuleMetaData, routeUnits).isPresent());
+        cache.put(database, globalRuleMetaData, routeUnits, new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit("SELECT * FROM tbl_0", Collections.emptyList()))));
+        Optional<?> actual = cache.find(database, globalRuleMetaData, routeUnits);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Collections.singletonMap(routeUnit, "SELECT * FROM tbl_0")));
+        assertFalse(cache.find(mock(ShardingSphereDatabase.class), globalRuleMetaData, routeUnits).isPresent());
+    }
+    
+    private SQLRewriteContext mockSQLRewriteContext(final SQLStatementContext<?> sqlStatementContext, final boolean sqlTokensDependOnParameters) {
+        SQLRewriteContext result = mock(SQLRewriteContext.class);
+        when(result.getSqlStatementContext()).then(invocation -> sqlStatementContext);
+        when(result.isSQLTokensDependOnParameters()).thenReturn(sqlTokensDependOnParameters);
+        return result;
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+}
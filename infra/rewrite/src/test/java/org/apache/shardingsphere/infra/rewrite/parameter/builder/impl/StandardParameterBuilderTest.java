@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -24,6 +26,8 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public final class StandardParameterBuilderTest {
     
@@ -33,4 +37,18 @@ public final class StandardParameterBuilderTest {
         paramBuilder.addAddedParameters(4, Collections.singleton(7));
         assertThat(paramBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertGetParametersWithRouteUnit() {
+        StandardParameterBuilder paramBuilder = new StandardParameterBuilder(Arrays.asList(1, 2, 3, 5));
+        paramBuilder.addAddedParameters(1, Collections.singleton(7));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+        assertFalse(paramBuilder.isRouteUnitAware());
+        paramBuilder.addRemovedParameters(routeUnit, Arrays.asList(1, 2));
+        assertTrue(paramBuilder.isRouteUnitAware());
+        assertThat(paramBuilder.getParameters(routeUnit), is(Arrays.<Object>asList(1, 7, 5)));
+        assertThat(paramBuilder.getParameters(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_order", "t_order_1")))),
+                is(Arrays.<Object>asList(1, 2, 7, 3, 5)));
+        assertThat(paramBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 7, 3, 5)));
+    }
 }
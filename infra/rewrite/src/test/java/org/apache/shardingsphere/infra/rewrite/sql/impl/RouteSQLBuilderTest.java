@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,7 +50,21 @@ public final class RouteSQLBuilderTest {
         assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
     }
     
+    @Test
+    public void assertToSQLWithSharedSQLTemplate() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=? AND name=?");
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(new SQLTokenFixture(33, 36), new RouteUnitAwareSQLTokenFixture(14, 16)));
+        SQLTemplate template = new SQLTemplate(context.getSql(), context.getSqlTokens());
+        assertThat(new RouteSQLBuilder(context, createRouteUnit("tbl_0"), template).toSQL(), is("SELECT * FROM tbl_0 WHERE id=? AND XXX=?"));
+        assertThat(new RouteSQLBuilder(context, createRouteUnit("tbl_1"), template).toSQL(), is("SELECT * FROM tbl_1 WHERE id=? AND XXX=?"));
+    }
+    
     private RouteUnit createRouteUnit() {
-        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        return createRouteUnit("tbl_0");
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
     }
 }
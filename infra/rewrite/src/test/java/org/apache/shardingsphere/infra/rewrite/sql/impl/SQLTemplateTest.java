@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SQLTemplateTest {
+    
+    @Test
+    public void assertNewInstanceWithoutSQLToken() {
+        SQLTemplate actual = new SQLTemplate("SELECT * FROM tbl", Collections.emptyList());
+        assertThat(actual.getSegments(), is(Collections.singletonList("SELECT * FROM tbl")));
+        assertThat(actual.getRouteUnitAwareTokens().size(), is(0));
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsortedSQLTokens() {
+        RouteUnitAwareSQLTokenFixture routeUnitAwareSQLToken = new RouteUnitAwareSQLTokenFixture(14, 16);
+        SQLTemplate actual = new SQLTemplate("SELECT * FROM tbl WHERE id=? AND name=?", Arrays.asList(new SQLTokenFixture(33, 36), routeUnitAwareSQLToken, new SQLTokenFixture(24, 25)));
+        assertThat(actual.getSegments(), is(Arrays.asList("SELECT * FROM ", " WHERE XXX=? AND XXX=?")));
+        assertThat(actual.getRouteUnitAwareTokens(), is(Collections.singletonList(routeUnitAwareSQLToken)));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.cache;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPI;
+
+/**
+ * Execution plan cacheable checker.
+ * 
+ * <p>Rule which routes SQL by {@link org.apache.shardingsphere.infra.route.SQLRouter} must declare whether its route result is cacheable by this checker,
+ * rule without checker makes execution plan not cacheable.</p>
+ * 
+ * @param <T> type of rule
+ */
+@SingletonSPI
+public interface ExecutionPlanCacheableChecker<T extends ShardingSphereRule> extends OrderedSPI<T> {
+    
+    /**
+     * Check whether execution plan is cacheable.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param rule rule
+     * @return execution plan cacheable check result
+     */
+    ExecutionPlanCacheableCheckResult check(QueryContext queryContext, ShardingSphereDatabase database, T rule);
+}
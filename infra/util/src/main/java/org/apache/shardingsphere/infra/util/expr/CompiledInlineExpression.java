@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Compiled inline expression is immutable and thread-safe, it can be evaluated concurrently without creating groovy closure.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final List<InlineExpressionNode> segments;
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables
+     * @return evaluated result, empty if expression can not be evaluated with variables and groovy evaluation is required
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        if (1 == segments.size()) {
+            Object result = segments.get(0).evaluate(variables);
+            return InlineExpressionNode.UNSUPPORTED == result ? Optional.empty() : Optional.of(String.valueOf(result));
+        }
+        StringBuilder result = new StringBuilder();
+        for (InlineExpressionNode each : segments) {
+            Object value = each.evaluate(variables);
+            if (InlineExpressionNode.UNSUPPORTED == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+}
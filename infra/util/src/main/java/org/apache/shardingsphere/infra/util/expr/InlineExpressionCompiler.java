@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>Compile the common grammar of inline sharding expression, such as {@code t_order_${order_id % 4}}, into tree of {@link InlineExpressionNode}.
+ * Supported grammar includes variables, integer and single quoted string literals, {@code + - * %}, parentheses, {@code hashCode()}, {@code abs()} and {@code Math.abs()}.
+ * Arithmetic and string concatenation follow groovy semantics, expressions out of supported grammar should be evaluated by groovy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "owner", "delegate", "null", "true", "false", "new", "Math"));
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if inline expression is out of supported grammar
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        if (null == inlineExpression || inlineExpression.isEmpty()) {
+            return Optional.empty();
+        }
+        List<InlineExpressionNode> segments = new LinkedList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int start = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == start ? inlineExpression.length() : start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(new ConstantNode(literal));
+            }
+            if (-1 == start) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<InlineExpressionNode> node = new Parser(inlineExpression.substring(start + 2, end)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            segments.add(node.get());
+            index = end + 1;
+        }
+        return segments.isEmpty() ? Optional.empty() : Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return literal.indexOf('$') < 0 && literal.indexOf('\\') < 0 && literal.indexOf('"') < 0 && literal.indexOf('{') < 0 && literal.indexOf('}') < 0;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<InlineExpressionNode> parse() {
+            InlineExpressionNode result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private InlineExpressionNode parseAdditive() {
+            InlineExpressionNode result = parseMultiplicative();
+            while (null != result) {
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                InlineExpressionNode right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private InlineExpressionNode parseMultiplicative() {
+            InlineExpressionNode result = parsePostfix();
+            while (null != result) {
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                InlineExpressionNode right = parsePostfix();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private InlineExpressionNode parsePostfix() {
+            InlineExpressionNode result = parsePrimary();
+            while (null != result && '.' == peek()) {
+                position++;
+                String methodName = parseIdentifier();
+                if (!parseEmptyArguments()) {
+                    return null;
+                }
+                if ("hashCode".equals(methodName)) {
+                    result = new HashCodeNode(result);
+                } else if ("abs".equals(methodName)) {
+                    result = new AbsNode(result);
+                } else {
+                    return null;
+                }
+            }
+            return result;
+        }
+        
+        private InlineExpressionNode parsePrimary() {
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                InlineExpressionNode result = parseAdditive();
+                if (null == result || ')' != peek()) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if ('\'' == current) {
+                return parseStringLiteral();
+            }
+            if (Character.isDigit(current)) {
+                return parseNumberLiteral();
+            }
+            String identifier = parseIdentifier();
+            if ("Math".equals(identifier)) {
+                return parseMathAbs();
+            }
+            return null == identifier || RESERVED_WORDS.contains(identifier) ? null : new VariableNode(identifier);
+        }
+        
+        private InlineExpressionNode parseMathAbs() {
+            if ('.' != peek()) {
+                return null;
+            }
+            position++;
+            if (!"abs".equals(parseIdentifier()) || '(' != peek()) {
+                return null;
+            }
+            position++;
+            InlineExpressionNode argument = parseAdditive();
+            if (null == argument || ')' != peek()) {
+                return null;
+            }
+            position++;
+            return new AbsNode(argument);
+        }
+        
+        private InlineExpressionNode parseStringLiteral() {
+            int end = expression.indexOf('\'', position + 1);
+            if (-1 == end) {
+                return null;
+            }
+            String value = expression.substring(position + 1, end);
+            if (value.indexOf('\\') >= 0) {
+                return null;
+            }
+            position = end + 1;
+            return new ConstantNode(value);
+        }
+        
+        private InlineExpressionNode parseNumberLiteral() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return null;
+            }
+            String literal = expression.substring(start, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0)) {
+                return null;
+            }
+            try {
+                long value = Long.parseLong(literal);
+                return new ConstantNode(value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value);
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            if (position >= expression.length() || !Character.isJavaIdentifierStart(expression.charAt(position)) || '$' == expression.charAt(position)) {
+                return null;
+            }
+            int start = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            return expression.substring(start, position);
+        }
+        
+        private boolean parseEmptyArguments() {
+            if ('(' != peek()) {
+                return false;
+            }
+            position++;
+            if (')' != peek()) {
+                return false;
+            }
+            position++;
+            return true;
+        }
+        
+        private char peek() {
+            skipWhitespace();
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantNode implements InlineExpressionNode {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements InlineExpressionNode {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object result = variables.get(name);
+            if (result instanceof Integer || result instanceof Long || result instanceof String) {
+                return result;
+            }
+            if (result instanceof Short || result instanceof Byte) {
+                return ((Number) result).intValue();
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements InlineExpressionNode {
+        
+        private final InlineExpressionNode target;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = target.evaluate(variables);
+            return UNSUPPORTED == value ? UNSUPPORTED : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements InlineExpressionNode {
+        
+        private final InlineExpressionNode target;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = target.evaluate(variables);
+            if (value instanceof Integer) {
+                return Math.abs((int) value);
+            }
+            if (value instanceof Long) {
+                return Math.abs((long) value);
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements InlineExpressionNode {
+        
+        private final char operator;
+        
+        private final InlineExpressionNode left;
+        
+        private final InlineExpressionNode right;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object leftValue = left.evaluate(variables);
+            if (UNSUPPORTED == leftValue) {
+                return UNSUPPORTED;
+            }
+            Object rightValue = right.evaluate(variables);
+            if (UNSUPPORTED == rightValue) {
+                return UNSUPPORTED;
+            }
+            if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+                return String.valueOf(leftValue) + rightValue;
+            }
+            if (leftValue instanceof String || rightValue instanceof String) {
+                return UNSUPPORTED;
+            }
+            if (leftValue instanceof Integer && rightValue instanceof Integer) {
+                return evaluate((int) leftValue, (int) rightValue);
+            }
+            return evaluate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        
+        private Object evaluate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+        
+        private Object evaluate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileWithUnsupportedGrammar() {
+        assertFalse(InlineExpressionCompiler.compile(null).isPresent());
+        assertFalse(InlineExpressionCompiler.compile("").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${[0, 1]}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id.toString()}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${it}").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateModulo() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 6)), is(Optional.of("t_order_2")));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 787694822390497281L)), is(Optional.of("t_order_1")));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", -5)), is(Optional.of("t_order_-1")));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", (short) 7)), is(Optional.of("t_order_3")));
+    }
+    
+    @Test
+    public void assertEvaluateArithmeticWithPrecedence() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("ds_${(user_id + 1) * 2 - order_id % 3}_t").orElseThrow(IllegalStateException::new);
+        Map<String, Object> variables = new HashMap<>(2, 1F);
+        variables.put("user_id", 3);
+        variables.put("order_id", 5L);
+        assertThat(actual.evaluate(variables), is(Optional.of("ds_6_t")));
+    }
+    
+    @Test
+    public void assertEvaluateHashCodeAndAbs() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_user_${Math.abs(user_name.hashCode() % 4)}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("user_name", "foo")), is(Optional.of("t_user_" + Math.abs("foo".hashCode() % 4))));
+        CompiledInlineExpression postfixAbs = InlineExpressionCompiler.compile("t_order_${(order_id % 4).abs()}").orElseThrow(IllegalStateException::new);
+        assertThat(postfixAbs.evaluate(Collections.singletonMap("order_id", -1)), is(Optional.of("t_order_1")));
+    }
+    
+    @Test
+    public void assertEvaluateStringConcatenation() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("${'t_' + type + '_' + (order_id % 2)}").orElseThrow(IllegalStateException::new);
+        Map<String, Object> variables = new HashMap<>(2, 1F);
+        variables.put("type", "order");
+        variables.put("order_id", 3);
+        assertThat(actual.evaluate(variables), is(Optional.of("t_order_1")));
+        assertThat(InlineExpressionCompiler.compile("${value}").orElseThrow(IllegalStateException::new).evaluate(Collections.singletonMap("value", "ds_1")), is(Optional.of("ds_1")));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertFalse(actual.evaluate(Collections.singletonMap("order_id", new BigInteger("787694822390497280787694822390497280"))).isPresent());
+        assertFalse(actual.evaluate(Collections.singletonMap("order_id", null)).isPresent());
+        assertFalse(actual.evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+        assertFalse(actual.evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+        assertTrue(InlineExpressionCompiler.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 0}").get().evaluate(Collections.singletonMap("order_id", 1)).isPresent());
+    }
+}
@@ -24,12 +24,19 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 
 /**
  * Batch execution unit.
@@ -37,23 +44,54 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
-@ToString
+@ToString(exclude = {"insertValuesCount", "jdbcAddBatchCallTimes"})
 public final class BatchExecutionUnit {
     
+    private static final int DEFAULT_ADD_BATCH_CALL_TIMES_CAPACITY = 16;
+    
     private final ExecutionUnit executionUnit;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
+    private final int insertValuesCount;
+    
+    @Getter(AccessLevel.NONE)
+    private int[] jdbcAddBatchCallTimes = new int[DEFAULT_ADD_BATCH_CALL_TIMES_CAPACITY];
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        if (actualCallAddBatchTimes == jdbcAddBatchCallTimes.length) {
+            jdbcAddBatchCallTimes = Arrays.copyOf(jdbcAddBatchCallTimes, actualCallAddBatchTimes << 1);
+        }
+        jdbcAddBatchCallTimes[actualCallAddBatchTimes++] = jdbcAddBatchTimes;
+    }
+    
+    /**
+     * Accumulate results of actual addBatch calls into results of JDBC API addBatch calls.
+     *
+     * @param actualResults results of actual addBatch calls
+     * @param jdbcResults results of JDBC API addBatch calls
+     */
+    public void accumulate(final int[] actualResults, final int[] jdbcResults) {
+        for (int i = 0; i < actualCallAddBatchTimes; i++) {
+            jdbcResults[jdbcAddBatchCallTimes[i]] += getJDBCResult(actualResults[i / insertValuesCount]);
+        }
+    }
+    
+    private int getJDBCResult(final int actualResult) {
+        if (1 == insertValuesCount || actualResult < 0) {
+            return actualResult;
+        }
+        return insertValuesCount == actualResult ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -63,11 +101,37 @@ public final class BatchExecutionUnit {
      */
     public List<List<Object>> getParameterSets() {
         List<List<Object>> result = new LinkedList<>();
-        if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
+        List<Object> params = executionUnit.getSqlUnit().getParameters();
+        if (params.isEmpty() || 0 == actualCallAddBatchTimes) {
             result.add(Collections.emptyList());
         } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+            result.addAll(Lists.partition(params instanceof RandomAccess ? params : new ArrayList<>(params), params.size() / (actualCallAddBatchTimes / insertValuesCount)));
         }
         return result;
     }
+    
+    /**
+     * Merge insert values of actual addBatch calls, each actual addBatch call of merged batch execution unit carries insert values of several JDBC API addBatch calls.
+     *
+     * @param mergeSize max count of insert values carried by each actual addBatch call
+     * @param sqlGenerator generator of SQL by count of insert values
+     * @return merged batch execution units
+     */
+    public Collection<BatchExecutionUnit> mergeInsertValues(final int mergeSize, final IntFunction<String> sqlGenerator) {
+        if (1 != insertValuesCount || actualCallAddBatchTimes < 2 || executionUnit.getSqlUnit().getParameters().isEmpty()) {
+            return Collections.singletonList(this);
+        }
+        List<List<Object>> paramSets = getParameterSets();
+        Map<Integer, BatchExecutionUnit> result = new LinkedHashMap<>(2, 1F);
+        for (int i = 0; i < actualCallAddBatchTimes; i += mergeSize) {
+            int valuesCount = Math.min(mergeSize, actualCallAddBatchTimes - i);
+            BatchExecutionUnit mergedUnit = result.computeIfAbsent(valuesCount, key -> new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(),
+                    new SQLUnit(sqlGenerator.apply(key), new ArrayList<>(), executionUnit.getSqlUnit().getTableRouteMappers())), key));
+            for (int j = i; j < i + valuesCount; j++) {
+                mergedUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(paramSets.get(j));
+                mergedUnit.mapAddBatchCount(jdbcAddBatchCallTimes[j]);
+            }
+        }
+        return result.values();
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch insert values merger.
+ *
+ * <p>Routed insert statement is merged only if it contains single row insert values, which are made up of all parameter markers and followed by nothing,
+ * so that insert values with parameters of several JDBC API addBatch calls can be concatenated as multiple rows insert values.
+ * Routed SQL is parsed without SQL statement cache and only once for each merger to avoid polluting the cache with actual table names,
+ * and routed SQL which can not be parsed is executed without merging.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesMerger {
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private final int mergeSize;
+    
+    private final Map<String, Optional<InsertValuesSegment>> mergeableInsertValues = new HashMap<>();
+    
+    /**
+     * Merge insert values of batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit
+     * @return merged batch execution units, or the batch execution unit itself if it can not be merged
+     */
+    public Collection<BatchExecutionUnit> merge(final BatchExecutionUnit batchExecutionUnit) {
+        String sql = batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql();
+        Optional<InsertValuesSegment> insertValues = mergeableInsertValues.computeIfAbsent(sql, this::findMergeableInsertValues);
+        if (!insertValues.isPresent()) {
+            return Collections.singletonList(batchExecutionUnit);
+        }
+        String prefix = sql.substring(0, insertValues.get().getStartIndex());
+        String values = sql.substring(insertValues.get().getStartIndex(), insertValues.get().getStopIndex() + 1);
+        String suffix = sql.substring(insertValues.get().getStopIndex() + 1);
+        return batchExecutionUnit.mergeInsertValues(mergeSize, valuesCount -> generateSQL(prefix, values, suffix, valuesCount));
+    }
+    
+    private Optional<InsertValuesSegment> findMergeableInsertValues(final String sql) {
+        SQLStatement sqlStatement;
+        try {
+            sqlStatement = sqlParserEngine.parse(sql, false);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+        return findMergeableInsertValues(sql, sqlStatement);
+    }
+    
+    private Optional<InsertValuesSegment> findMergeableInsertValues(final String sql, final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof InsertStatement) || 1 != ((InsertStatement) sqlStatement).getValues().size() || ((InsertStatement) sqlStatement).getInsertSelect().isPresent()) {
+            return Optional.empty();
+        }
+        InsertValuesSegment result = ((InsertStatement) sqlStatement).getValues().iterator().next();
+        String suffix = sql.substring(result.getStopIndex() + 1).trim();
+        boolean isMergeable = '(' == sql.charAt(result.getStartIndex()) && ')' == sql.charAt(result.getStopIndex()) && (suffix.isEmpty() || ";".equals(suffix))
+                && sqlStatement.getParameterCount() > 0 && sqlStatement.getParameterCount() == getParameterMarkerCount(result);
+        return isMergeable ? Optional.of(result) : Optional.empty();
+    }
+    
+    private long getParameterMarkerCount(final InsertValuesSegment insertValues) {
+        return insertValues.getValues().stream()
+                .filter(each -> each instanceof ParameterMarkerExpressionSegment && ParameterMarkerType.QUESTION == ((ParameterMarkerExpressionSegment) each).getParameterMarkerType()).count();
+    }
+    
+    private String generateSQL(final String prefix, final String values, final String suffix, final int valuesCount) {
+        StringBuilder result = new StringBuilder(prefix.length() + (values.length() + 2) * valuesCount + suffix.length()).append(prefix).append(values);
+        for (int i = 1; i < valuesCount; i++) {
+            result.append(", ").append(values);
+        }
+        return result.append(suffix).toString();
+    }
+}
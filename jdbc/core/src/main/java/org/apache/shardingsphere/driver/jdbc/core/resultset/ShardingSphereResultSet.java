@@ -75,6 +75,22 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         this.columnLabelAndIndexMap = columnLabelAndIndexMap;
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        if (!(mergeResultSet instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) mergeResultSet).close();
+        } catch (final SQLException ex) {
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new SQLException(ex);
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
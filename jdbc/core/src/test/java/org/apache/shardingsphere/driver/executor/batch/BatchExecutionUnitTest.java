@@ -21,7 +21,11 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -47,6 +51,49 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertAccumulate() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
+        for (int i = 0; i < 20; i++) {
+            batchExecutionUnit.mapAddBatchCount(i * 2);
+        }
+        int[] actual = new int[40];
+        int[] actualResults = new int[20];
+        Arrays.fill(actualResults, 1);
+        batchExecutionUnit.accumulate(actualResults, actual);
+        assertThat(actual[0], is(1));
+        assertThat(actual[1], is(0));
+        assertThat(actual[38], is(1));
+        assertThat(Arrays.stream(actual).sum(), is(20));
+    }
+    
+    @Test
+    public void assertMergeInsertValues() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit("INSERT INTO table (id) VALUES (?)", new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5)))));
+        for (int i = 0; i < 5; i++) {
+            batchExecutionUnit.mapAddBatchCount(i);
+        }
+        Iterator<BatchExecutionUnit> actual = batchExecutionUnit.mergeInsertValues(2, valuesCount -> "INSERT INTO table (id) VALUES " + valuesCount).iterator();
+        BatchExecutionUnit fullyMerged = actual.next();
+        assertThat(fullyMerged.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO table (id) VALUES 2"));
+        assertThat(fullyMerged.getInsertValuesCount(), is(2));
+        assertThat(fullyMerged.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(1, 2), Arrays.<Object>asList(3, 4))));
+        BatchExecutionUnit partlyMerged = actual.next();
+        assertThat(partlyMerged.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO table (id) VALUES 1"));
+        assertThat(partlyMerged.getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(5))));
+        int[] jdbcResults = new int[5];
+        fullyMerged.accumulate(new int[]{2, 1}, jdbcResults);
+        partlyMerged.accumulate(new int[]{1}, jdbcResults);
+        assertThat(jdbcResults, is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
+    @Test
+    public void assertMergeInsertValuesWithSingleAddBatch() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit("INSERT INTO table (id) VALUES (?)", new ArrayList<>(Collections.singletonList(1)))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        assertThat(batchExecutionUnit.mergeInsertValues(2, String::valueOf), is(Collections.singletonList(batchExecutionUnit)));
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -60,6 +107,6 @@ public final class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BatchInsertValuesMergerTest {
+    
+    private final BatchInsertValuesMerger merger = new BatchInsertValuesMerger(new ShardingSphereSQLParserEngine("MySQL", new CacheOption(128, 1024L), new CacheOption(128, 1024L), false), 2);
+    
+    @Test
+    public void assertMerge() {
+        Iterator<BatchExecutionUnit> actual = merger.merge(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init')", 1, 2, 3)).iterator();
+        BatchExecutionUnit fullyMerged = actual.next();
+        assertThat(fullyMerged.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init'), (?, 'init')"));
+        assertThat(fullyMerged.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 2)));
+        BatchExecutionUnit partlyMerged = actual.next();
+        assertThat(partlyMerged.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init')"));
+        assertThat(partlyMerged.getExecutionUnit().getSqlUnit().getParameters(), is(Collections.<Object>singletonList(3)));
+    }
+    
+    @Test
+    public void assertMergeWithOnDuplicateKeyUpdate() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init') ON DUPLICATE KEY UPDATE status = 'init'", 1, 2);
+        assertThat(merger.merge(batchExecutionUnit), is(Collections.singletonList(batchExecutionUnit)));
+    }
+    
+    @Test
+    public void assertMergeWithParameterMarkerOutOfInsertValues() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, CONCAT('init', ?))", 1, "a", 2, "b");
+        assertThat(merger.merge(batchExecutionUnit), is(Collections.singletonList(batchExecutionUnit)));
+    }
+    
+    @Test
+    public void assertMergeWithSameSQLParsedOnceWithoutCache() {
+        ShardingSphereSQLParserEngine sqlParserEngine = spy(new ShardingSphereSQLParserEngine("MySQL", new CacheOption(128, 1024L), new CacheOption(128, 1024L), false));
+        BatchInsertValuesMerger merger = new BatchInsertValuesMerger(sqlParserEngine, 2);
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        merger.merge(createBatchExecutionUnit(sql, 1, "init", 2, "init"));
+        merger.merge(createBatchExecutionUnit(sql, 3, "init", 4, "init"));
+        verify(sqlParserEngine).parse(sql, false);
+        verify(sqlParserEngine, never()).parse(sql, true);
+    }
+    
+    @Test
+    public void assertMergeWithUnparsableSQL() {
+        ShardingSphereSQLParserEngine sqlParserEngine = mock(ShardingSphereSQLParserEngine.class);
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        when(sqlParserEngine.parse(sql, false)).thenThrow(new SQLParsingException(sql));
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(sql, 1, "init", 2, "init");
+        assertThat(new BatchInsertValuesMerger(sqlParserEngine, 2).merge(batchExecutionUnit), is(Collections.singletonList(batchExecutionUnit)));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final Object... params) {
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, new ArrayList<>(Arrays.asList(params)))));
+        int parameterCount = (int) sql.chars().filter(each -> '?' == each).count();
+        for (int i = 0; i < params.length / parameterCount; i++) {
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
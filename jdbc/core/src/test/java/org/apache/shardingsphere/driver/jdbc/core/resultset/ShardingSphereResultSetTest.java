@@ -59,7 +59,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public final class ShardingSphereResultSetTest {
     
@@ -108,6 +110,15 @@ public final class ShardingSphereResultSetTest {
         assertTrue(shardingSphereResultSet.next());
     }
     
+    @Test
+    public void assertCloseWithAutoCloseableMergedResult() throws Exception {
+        MergedResult mergedResult = mock(MergedResult.class, withSettings().extraInterfaces(AutoCloseable.class));
+        ShardingSphereResultSet actual = new ShardingSphereResultSet(getResultSets(), mergedResult, getShardingSphereStatement(), createExecutionContext());
+        actual.close();
+        assertTrue(actual.isClosed());
+        verify((AutoCloseable) mergedResult).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingSphereResultSet.wasNull());
@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.parser.rule;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Properties;
+
 /**
  * SQL parser rule.
  */
@@ -37,11 +41,18 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final boolean sqlFastPathParseEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
+        this(ruleConfig, new ConfigurationProperties(new Properties()));
+    }
+    
+    public SQLParserRule(final SQLParserRuleConfiguration ruleConfig, final ConfigurationProperties props) {
         configuration = ruleConfig;
         sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        sqlFastPathParseEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.SQL_FAST_PATH_PARSE_ENABLED);
     }
     
     /**
@@ -51,7 +62,7 @@ public final class SQLParserRule implements GlobalRule {
      * @return SQL parser engine
      */
     public ShardingSphereSQLParserEngine getSQLParserEngine(final String databaseType) {
-        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled);
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled, sqlFastPathParseEnabled);
     }
     
     @Override
@@ -40,7 +40,7 @@ public final class AlterSQLParserRuleStatementUpdater implements GlobalRuleRALUp
         SQLParserRuleConfiguration toBeAlteredRuleConfig = createToBeAlteredRuleConfiguration(metaData.getGlobalRuleMetaData(), sqlStatement);
         Collection<ShardingSphereRule> globalRules = metaData.getGlobalRuleMetaData().getRules();
         globalRules.removeIf(each -> each instanceof SQLParserRule);
-        globalRules.add(new SQLParserRule(toBeAlteredRuleConfig));
+        globalRules.add(new SQLParserRule(toBeAlteredRuleConfig, metaData.getProps()));
     }
     
     private SQLParserRuleConfiguration createToBeAlteredRuleConfiguration(final ShardingSphereRuleMetaData ruleMetaData, final SQLStatement sqlStatement) {
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.single.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableCheckResult;
+import org.apache.shardingsphere.infra.route.cache.ExecutionPlanCacheableChecker;
+import org.apache.shardingsphere.single.constant.SingleOrder;
+import org.apache.shardingsphere.single.rule.SingleRule;
+
+import java.util.Collections;
+
+/**
+ * Execution plan cacheable checker for single.
+ * 
+ * <p>Single tables are routed by table names only, route result does not depend on parameters.</p>
+ */
+public final class SingleExecutionPlanCacheableChecker implements ExecutionPlanCacheableChecker<SingleRule> {
+    
+    @Override
+    public ExecutionPlanCacheableCheckResult check(final QueryContext queryContext, final ShardingSphereDatabase database, final SingleRule rule) {
+        return new ExecutionPlanCacheableCheckResult(true, Collections.emptyList());
+    }
+    
+    @Override
+    public int getOrder() {
+        return SingleOrder.ORDER;
+    }
+    
+    @Override
+    public Class<SingleRule> getTypeClass() {
+        return SingleRule.class;
+    }
+}
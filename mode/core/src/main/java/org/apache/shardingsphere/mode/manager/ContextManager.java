@@ -23,11 +23,14 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.MemoryMergeForkJoinPool;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
@@ -54,6 +57,7 @@ import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.storage.event.StaleDataSourcesClosedEvent;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -82,10 +86,17 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    private volatile ExecutionPlanCache executionPlanCache;
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngineWithBulkhead(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                props.<KernelExecutorType>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_SIZE),
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE));
+        executionPlanCache = new ExecutionPlanCache(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE));
+        MemoryMergeForkJoinPool.register();
     }
     
     /**
@@ -95,6 +106,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
         this.metaDataContexts = metaDataContexts;
+        executionPlanCache.invalidateAll();
     }
     
     /**
@@ -131,6 +143,7 @@ public final class ContextManager implements AutoCloseable {
         }
         String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
         metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
+        executionPlanCache.invalidate(databaseName);
     }
     
     /**
@@ -157,6 +170,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
+        executionPlanCache.invalidate(databaseName);
     }
     
     /**
@@ -170,6 +184,7 @@ public final class ContextManager implements AutoCloseable {
     public synchronized void alterSchema(final String databaseName, final String schemaName, final String toBeDeletedTableName, final String toBeDeletedViewName) {
         Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
         Optional.ofNullable(toBeDeletedViewName).ifPresent(optional -> dropView(databaseName, schemaName, optional));
+        executionPlanCache.invalidate(databaseName);
     }
     
     /**
@@ -186,6 +201,7 @@ public final class ContextManager implements AutoCloseable {
         }
         Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
         Optional.ofNullable(toBeChangedView).ifPresent(optional -> alterView(databaseName, schemaName, optional));
+        executionPlanCache.invalidate(databaseName);
     }
     
     private synchronized void dropTable(final String databaseName, final String schemaName, final String toBeDeletedTableName) {
@@ -239,6 +255,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
+        executionPlanCache.invalidate(databaseName);
     }
     
     /**
@@ -279,10 +296,11 @@ public final class ContextManager implements AutoCloseable {
             alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.getMetaData().getDatabase(databaseName));
             metaDataContexts = reloadMetaDataContexts;
             metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(databaseName, switchingResource);
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
         }
+        executionPlanCache.invalidate(databaseName);
     }
     
     /**
@@ -319,10 +337,20 @@ public final class ContextManager implements AutoCloseable {
             SwitchingResource switchingResource = new ResourceSwitchManager().create(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
             metaDataContexts = createMetaDataContexts(databaseName, switchingResource, ruleConfigs);
             metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(databaseName, switchingResource);
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
         }
+        executionPlanCache.invalidate(databaseName);
+    }
+    
+    private void closeStaleDataSources(final String databaseName, final SwitchingResource switchingResource) {
+        switchingResource.closeStaleDataSources();
+        Collection<String> staleDataSourceNames = switchingResource.getStaleDataSources().keySet();
+        if (!staleDataSourceNames.isEmpty()) {
+            executorEngine.evictBulkheads(staleDataSourceNames);
+            instanceContext.getEventBusContext().post(new StaleDataSourcesClosedEvent(databaseName, staleDataSourceNames));
+        }
     }
     
     @SuppressWarnings("rawtypes")
@@ -429,6 +457,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), toBeChangedGlobalRuleMetaData, metaDataContexts.getMetaData().getProps());
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        executionPlanCache.invalidateAll();
     }
     
     /**
@@ -437,9 +466,17 @@ public final class ContextManager implements AutoCloseable {
      * @param props properties to be altered
      */
     public synchronized void alterProperties(final Properties props) {
+        ConfigurationProperties toBeChangedProps = new ConfigurationProperties(props);
+        int executionPlanCacheSize = toBeChangedProps.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE);
+        boolean executionPlanCacheSizeChanged = executionPlanCacheSize != metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE);
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
-                metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
+                metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), toBeChangedProps);
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        if (executionPlanCacheSizeChanged) {
+            executionPlanCache = new ExecutionPlanCache(executionPlanCacheSize);
+        } else {
+            executionPlanCache.invalidateAll();
+        }
     }
     
     /**
@@ -458,10 +495,11 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts = reloadedMetaDataContexts;
             metaDataContexts.getMetaData().getDatabases().values().forEach(
                     each -> each.getSchemas().forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(each.getName(), schemaName, schema)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(databaseName, switchingResource);
         } catch (final SQLException ex) {
             log.error("Reload database meta data: {} failed", databaseName, ex);
         }
+        executionPlanCache.invalidate(databaseName);
     }
     
     /**
@@ -493,6 +531,7 @@ public final class ContextManager implements AutoCloseable {
                 metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, reloadedSchema);
                 metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, reloadedSchema);
             }
+            executionPlanCache.invalidate(databaseName);
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
         }
@@ -553,6 +592,7 @@ public final class ContextManager implements AutoCloseable {
         } else {
             dropTable(databaseName, schemaName, tableName);
         }
+        executionPlanCache.invalidate(databaseName);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, database.getSchema(schemaName));
     }
     
@@ -678,6 +718,7 @@ public final class ContextManager implements AutoCloseable {
     @Override
     public void close() {
         executorEngine.close();
+        MemoryMergeForkJoinPool.unregister();
         metaDataContexts.close();
     }
 }
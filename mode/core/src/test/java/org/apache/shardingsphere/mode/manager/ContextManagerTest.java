@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.manager;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.context.kernel.cache.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -54,6 +55,8 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -77,6 +80,8 @@ public final class ContextManagerTest {
         metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
         when(metaDataContexts.getMetaData().getGlobalRuleMetaData().getRules()).thenReturn(Collections.emptyList());
         when(metaDataContexts.getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(metaDataContexts.getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_SIZE)).thenReturn(0);
+        when(metaDataContexts.getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE)).thenReturn(0);
         when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         ShardingSphereDatabase database = mockDatabase();
         when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
@@ -260,6 +265,20 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getMetaData().getProps().getProps().getProperty("foo"), is("foo_value"));
     }
     
+    @Test
+    public void assertAlterPropertiesWithExecutionPlanCacheSizeUnchanged() {
+        ExecutionPlanCache executionPlanCache = contextManager.getExecutionPlanCache();
+        contextManager.alterProperties(PropertiesBuilder.build(new Property("foo", "foo_value")));
+        assertThat(contextManager.getExecutionPlanCache(), sameInstance(executionPlanCache));
+    }
+    
+    @Test
+    public void assertAlterPropertiesWithExecutionPlanCacheSizeChanged() {
+        ExecutionPlanCache executionPlanCache = contextManager.getExecutionPlanCache();
+        contextManager.alterProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE.getKey(), "128")));
+        assertThat(contextManager.getExecutionPlanCache(), not(sameInstance(executionPlanCache)));
+    }
+    
     @Test
     public void assertReloadSchema() {
         when(metaDataContexts.getMetaData().getDatabase("foo_db").getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("foo_ds", new MockedDataSource()));
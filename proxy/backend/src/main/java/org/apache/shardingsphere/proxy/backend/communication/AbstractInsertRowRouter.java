@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteCache;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Abstract row router of bulk load.
+ *
+ * <p>Each row is routed and rewritten by kernel as parameters of an equivalent insert statement, so that sharding, key generation and encryption apply to loaded rows.
+ * Methods creating exceptions are called in constructor, so they must not depend on state of subclass.</p>
+ */
+public abstract class AbstractInsertRowRouter {
+    
+    private static final String VALUES = " VALUES ";
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final String insertSQL;
+    
+    private final SQLStatement insertStatement;
+    
+    private final List<Integer> columnTypes;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final RouteSQLRewriteCache routeSQLRewriteCache = new RouteSQLRewriteCache();
+    
+    @Getter
+    private final int columnCount;
+    
+    protected AbstractInsertRowRouter(final ConnectionSession connectionSession, final String insertKeyword, final SimpleTableSegment tableSegment,
+                                      final Collection<ColumnSegment> columns) throws SQLException {
+        this.connectionSession = connectionSession;
+        metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        database = metaData.getDatabase(connectionSession.getDatabaseName());
+        ShardingSphereTable table = getTable(tableSegment);
+        List<String> columnNames = columns.isEmpty() ? table.getVisibleColumns() : columns.stream().map(each -> each.getIdentifier().getValue()).collect(Collectors.toList());
+        columnCount = columnNames.size();
+        columnTypes = getColumnTypes(table, columnNames);
+        insertSQL = createInsertSQL(insertKeyword, tableSegment, columns, columnNames);
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        insertStatement = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(database.getProtocolType())).parse(insertSQL, true);
+    }
+    
+    private ShardingSphereTable getTable(final SimpleTableSegment tableSegment) throws SQLException {
+        String tableName = tableSegment.getTableName().getIdentifier().getValue();
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()));
+        ShardingSphereTable result = database.containsSchema(schemaName) ? database.getSchema(schemaName).getTable(tableName) : null;
+        if (null == result) {
+            throw newNoSuchTableException(tableName);
+        }
+        return result;
+    }
+    
+    private List<Integer> getColumnTypes(final ShardingSphereTable table, final List<String> columnNames) throws SQLException {
+        List<Integer> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            ShardingSphereColumn column = table.getColumns().get(each.toLowerCase());
+            if (null == column) {
+                throw newNoSuchColumnException(table.getName(), each);
+            }
+            result.add(column.getDataType());
+        }
+        return result;
+    }
+    
+    private String createInsertSQL(final String insertKeyword, final SimpleTableSegment tableSegment, final Collection<ColumnSegment> columns, final List<String> columnNames) {
+        StringBuilder result = new StringBuilder(insertKeyword).append(' ');
+        tableSegment.getOwner().ifPresent(optional -> result.append(optional.getIdentifier().getValueWithQuoteCharacters()).append('.'));
+        result.append(tableSegment.getTableName().getIdentifier().getValueWithQuoteCharacters()).append(" (");
+        result.append(columns.isEmpty() ? columnNames.stream().map(each -> database.getProtocolType().getQuoteCharacter().wrap(each)).collect(Collectors.joining(", "))
+                : columns.stream().map(each -> each.getIdentifier().getValueWithQuoteCharacters()).collect(Collectors.joining(", ")));
+        result.append(')').append(VALUES).append('(').append(String.join(", ", Collections.nCopies(columnNames.size(), "?"))).append(')');
+        return result.toString();
+    }
+    
+    /**
+     * Route row.
+     *
+     * <p>Missing values are routed as null and extra values are discarded.</p>
+     *
+     * @param values text values of row, null value represents SQL null
+     * @return execution units of row
+     * @throws SQLException SQL exception
+     */
+    public Collection<ExecutionUnit> route(final List<String> values) throws SQLException {
+        List<Object> params = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            params.add(i < values.size() ? convertValue(values.get(i), columnTypes.get(i)) : null);
+        }
+        QueryContext queryContext = new QueryContext(SQLStatementContextFactory.newInstance(metaData, params, insertStatement, database.getName()), insertSQL, params);
+        return kernelProcessor.generateExecutionContext(queryContext, database, metaData.getGlobalRuleMetaData(), metaData.getProps(),
+                connectionSession.getConnectionContext(), routeSQLRewriteCache, null).getExecutionUnits();
+    }
+    
+    private Object convertValue(final String value, final int columnType) throws SQLException {
+        if (null == value || !isNumericType(columnType)) {
+            return value;
+        }
+        try {
+            return new NumberLiteralValue(value.trim()).getValue();
+        } catch (final NumberFormatException ignored) {
+            throw newInvalidNumericValueException(value);
+        }
+    }
+    
+    private boolean isNumericType(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    protected abstract SQLException newNoSuchTableException(String tableName);
+    
+    protected abstract SQLException newNoSuchColumnException(String tableName, String columnName);
+    
+    protected abstract SQLException newInvalidNumericValueException(String value);
+}
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -41,7 +42,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLExecutionStatisticsManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
@@ -112,6 +115,12 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
     
     private MergedResult mergedResult;
     
+    private CompletionOrderedResults<?> completionOrderedResults;
+    
+    private List<QueryResult> statisticsQueryResults;
+    
+    private long executeStartNanos;
+    
     public DatabaseCommunicationEngine(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final BackendConnection backendConnection) {
         SQLStatementContext<?> sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(backendConnection.getConnectionSession(), sqlStatementContext);
@@ -170,14 +179,21 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
             return processExecuteFederation(resultSet, metaDataContexts);
         }
         ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, database, metaDataContexts.getMetaData().getGlobalRuleMetaData(),
-                metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext());
+                metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext(), null, ProxyContext.getInstance().getContextManager().getExecutionPlanCache());
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        executeStartNanos = System.nanoTime();
         List result = proxySQLExecutor.execute(executionContext);
+        if (result instanceof CompletionOrderedResults) {
+            completionOrderedResults = (CompletionOrderedResults<?>) result;
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
+        if (executeResultSample instanceof QueryResult && proxySQLExecutor.isAdaptiveConnectionMode(executionContext)) {
+            statisticsQueryResults = result;
+        }
         return executeResultSample instanceof QueryResult ? processExecuteQuery(executionContext, result, (QueryResult) executeResultSample) : processExecuteUpdate(executionContext, result);
     }
     
@@ -348,7 +364,15 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
      */
     @Override
     public void close() throws SQLException {
+        if (null != completionOrderedResults) {
+            completionOrderedResults.close();
+        }
+        if (null != statisticsQueryResults) {
+            recordExecutionStatistics();
+            statisticsQueryResults = null;
+        }
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
@@ -360,6 +384,37 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         throw ex;
     }
     
+    private void recordExecutionStatistics() {
+        int routeUnitCount = 0;
+        long rowCount = 0L;
+        for (QueryResult each : statisticsQueryResults) {
+            if (each instanceof JDBCStreamQueryResult && ((JDBCStreamQueryResult) each).isFetchedAll()) {
+                rowCount += ((JDBCStreamQueryResult) each).getFetchedRowCount();
+            } else if (each instanceof AbstractMemoryQueryResult) {
+                rowCount += ((AbstractMemoryQueryResult) each).getLoadedRowCount();
+            } else {
+                return;
+            }
+            routeUnitCount++;
+        }
+        SQLExecutionStatisticsManager.getInstance().record(queryContext.getSql(), routeUnitCount, rowCount, System.nanoTime() - executeStartNanos);
+    }
+    
+    private Optional<SQLException> closeMergedResult() {
+        if (mergedResult instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) mergedResult).close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                return Optional.of(new SQLException(ex));
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
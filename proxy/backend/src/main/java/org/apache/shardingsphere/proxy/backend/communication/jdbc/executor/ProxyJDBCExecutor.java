@@ -20,10 +20,14 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.executor;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResults;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -64,6 +68,7 @@ public final class ProxyJDBCExecutor {
     public List<ExecuteResult> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                        final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
+        List<ExecuteResult> result = null;
         try {
             MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
             ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
@@ -71,13 +76,31 @@ public final class ProxyJDBCExecutor {
             Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
             executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
             SQLStatementContext<?> context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown,
-                            false));
+            JDBCExecutorCallback<ExecuteResult> firstCallback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, storageTypes, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, true);
+            JDBCExecutorCallback<ExecuteResult> callback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, storageTypes, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false);
+            result = isStreamingResultDelivery(metaDataContexts, context, executionGroupContext)
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, firstCallback, callback)
+                    : jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
+            return result;
         } finally {
-            executeProcessEngine.cleanExecution();
+            if (result instanceof CompletionOrderedResults) {
+                executeProcessEngine.cleanExecution((CompletionOrderedResults<?>) result);
+            } else {
+                executeProcessEngine.cleanExecution();
+            }
         }
     }
+    
+    private boolean isStreamingResultDelivery(final MetaDataContexts metaDataContexts, final SQLStatementContext<?> sqlStatementContext,
+                                              final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        if (!metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_STREAMING_RESULT_DELIVERY_ENABLED)
+                || executionGroupContext.getInputGroups().size() < 2 || !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return selectStatementContext.getOrderByContext().getItems().isEmpty() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty() && !selectStatementContext.getProjectionsContext().isDistinctRow();
+    }
 }
@@ -17,23 +17,30 @@
 
 package org.apache.shardingsphere.proxy.backend.context;
 
-import lombok.AccessLevel;
+import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.mode.metadata.storage.event.StaleDataSourcesClosedEvent;
 
 /**
  * Backend executor context.
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithBulkhead(
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<KernelExecutorType>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE),
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_SIZE),
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_BULKHEAD_QUEUE_SIZE));
+    
+    private BackendExecutorContext() {
+        ProxyContext.getInstance().getContextManager().getInstanceContext().getEventBusContext().register(this);
+    }
     
     /**
      * Get executor context instance.
@@ -43,4 +50,14 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Evict executor bulkheads of stale data sources.
+     *
+     * @param event stale data sources closed event
+     */
+    @Subscribe
+    public void renew(final StaleDataSourcesClosedEvent event) {
+        executorEngine.evictBulkheads(event.getDataSourceNames());
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.handler.ral.query.QueryableRALExecutor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowExecutionStatisticsStatement;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLExecutionStatisticsManager;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Show execution statistics executor.
+ */
+public final class ShowExecutionStatisticsExecutor implements QueryableRALExecutor<ShowExecutionStatisticsStatement> {
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("sql", "execution_count", "avg_route_units", "avg_rows_per_route_unit", "max_rows_per_route_unit", "avg_elapsed_millis");
+    }
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShowExecutionStatisticsStatement sqlStatement) {
+        return SQLExecutionStatisticsManager.getInstance().getAll().stream().map(this::getRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow getRow(final SQLExecutionStatistics statistics) {
+        return new LocalDataQueryResultRow(statistics.getFingerprint(), statistics.getExecutionCount(), statistics.getAverageRouteUnits(),
+                statistics.getAverageRowsPerRouteUnit(), statistics.getMaxRowsPerRouteUnit(), statistics.getAverageElapsedMillis());
+    }
+    
+    @Override
+    public String getType() {
+        return ShowExecutionStatisticsStatement.class.getName();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.queryable.ShowExecutionStatisticsStatement;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.SQLExecutionStatisticsManager;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ShowExecutionStatisticsExecutorTest {
+    
+    @After
+    public void tearDown() {
+        SQLExecutionStatisticsManager.getInstance().clear();
+    }
+    
+    @Test
+    public void assertGetColumnNames() {
+        Collection<String> actual = new ShowExecutionStatisticsExecutor().getColumnNames();
+        assertThat(actual.size(), is(6));
+        Iterator<String> iterator = actual.iterator();
+        assertThat(iterator.next(), is("sql"));
+        assertThat(iterator.next(), is("execution_count"));
+        assertThat(iterator.next(), is("avg_route_units"));
+        assertThat(iterator.next(), is("avg_rows_per_route_unit"));
+        assertThat(iterator.next(), is("max_rows_per_route_unit"));
+        assertThat(iterator.next(), is("avg_elapsed_millis"));
+    }
+    
+    @Test
+    public void assertGetRows() {
+        SQLExecutionStatisticsManager.getInstance().record("SELECT * FROM t_order", 2, 10L, TimeUnit.MILLISECONDS.toNanos(4L));
+        SQLExecutionStatisticsManager.getInstance().record("SELECT * FROM t_order", 2, 30L, TimeUnit.MILLISECONDS.toNanos(8L));
+        Collection<LocalDataQueryResultRow> actual = new ShowExecutionStatisticsExecutor().getRows(new ShowExecutionStatisticsStatement());
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("SELECT * FROM t_order"));
+        assertThat(row.getCell(2), is(2L));
+        assertThat(row.getCell(3), is(2L));
+        assertThat(row.getCell(4), is(10L));
+        assertThat(row.getCell(5), is(15L));
+        assertThat(row.getCell(6), is(6L));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+/**
+ * Packet batch writer.
+ *
+ * <p>Packets are encoded into a pooled buffer directly, the buffer is written and flushed as a whole once its bytes reach {@code proxy-frontend-write-batch-bytes},
+ * so that large result set is written with less syscalls and intermediate objects.
+ * Packets are written one by one and flushed every {@code proxy-frontend-flush-threshold} packets if batch bytes is not positive.</p>
+ */
+public final class PacketBatchWriter implements AutoCloseable {
+    
+    private final ChannelHandlerContext context;
+    
+    private final BackendConnection backendConnection;
+    
+    @SuppressWarnings("rawtypes")
+    private final DatabasePacketCodecEngine codecEngine;
+    
+    private final int batchBytes;
+    
+    private final int flushThreshold;
+    
+    private ByteBuf batch;
+    
+    private int unflushedCount;
+    
+    public PacketBatchWriter(final ChannelHandlerContext context, final BackendConnection backendConnection, final DatabasePacketCodecEngine<?> codecEngine) {
+        this.context = context;
+        this.backendConnection = backendConnection;
+        this.codecEngine = codecEngine;
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        batchBytes = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES);
+        flushThreshold = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+    }
+    
+    /**
+     * Write packet.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final DatabasePacket<?> packet) {
+        if (batchBytes > 0) {
+            writeInBatch(packet);
+        } else {
+            writeDirectly(packet);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void writeInBatch(final DatabasePacket<?> packet) {
+        if (null == batch) {
+            awaitWritable();
+            batch = context.alloc().ioBuffer(batchBytes);
+        }
+        codecEngine.encodeInBatch(context, packet, batch);
+        if (batch.readableBytes() >= batchBytes) {
+            writeBatch();
+            context.flush();
+        }
+    }
+    
+    private void writeDirectly(final DatabasePacket<?> packet) {
+        awaitWritable();
+        context.write(packet);
+        if (++unflushedCount == flushThreshold) {
+            context.flush();
+            unflushedCount = 0;
+        }
+    }
+    
+    private void awaitWritable() {
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            context.flush();
+            backendConnection.getResourceLock().doAwait();
+        }
+    }
+    
+    private void writeBatch() {
+        if (batch.isReadable()) {
+            context.write(new DatabasePacketBatch(batch));
+        } else {
+            batch.release();
+        }
+        batch = null;
+    }
+    
+    /**
+     * Write packets remained in batch without flush.
+     */
+    @Override
+    public void close() {
+        if (null != batch) {
+            writeBatch();
+        }
+    }
+}
@@ -19,13 +19,19 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.FrontendConnectionExecutorType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Connection thread executor group.
@@ -33,15 +39,21 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread of each connection can be a virtual thread, which does not occupy platform thread while the connection is idle.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
+    private static final Optional<ThreadFactory> VIRTUAL_THREAD_FACTORY = ExecutorThreadFactoryBuilder.buildVirtual();
+    
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final AtomicBoolean virtualThreadUnsupportedWarned = new AtomicBoolean();
+    
     /**
      * Get connection thread executor group.
      *
@@ -51,17 +63,48 @@ public final class ConnectionThreadExecutorGroup {
         return INSTANCE;
     }
     
+    /**
+     * Judge whether virtual thread is available in current JVM.
+     *
+     * @return virtual thread is available or not
+     */
+    public boolean isVirtualThreadAvailable() {
+        return VIRTUAL_THREAD_FACTORY.isPresent();
+    }
+    
     /**
      * Register connection.
      *
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, FrontendConnectionExecutorType.PLATFORM_THREAD);
+    }
+    
+    /**
+     * Register connection with executor type.
+     *
+     * @param connectionId connection id
+     * @param executorType executor type
+     */
+    public void register(final int connectionId, final FrontendConnectionExecutorType executorType) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, executorType));
+    }
+    
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final FrontendConnectionExecutorType executorType) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), getThreadFactory(connectionId, executorType));
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    private ThreadFactory getThreadFactory(final int connectionId, final FrontendConnectionExecutorType executorType) {
+        if (FrontendConnectionExecutorType.VIRTUAL_THREAD == executorType) {
+            if (VIRTUAL_THREAD_FACTORY.isPresent()) {
+                return VIRTUAL_THREAD_FACTORY.get();
+            }
+            if (virtualThreadUnsupportedWarned.compareAndSet(false, true)) {
+                log.warn("Virtual thread is unsupported by current JVM, connection executor falls back to platform thread.");
+            }
+        }
+        return runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId));
     }
     
     /**
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.state.impl;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.infra.config.props.BackendExecutorType;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.FrontendConnectionExecutorType;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
@@ -45,7 +46,7 @@ public final class OKProxyState implements ProxyState {
     
     private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
                                                              final ConnectionSession connectionSession) {
-        if (requireOccupyThreadForConnection(connectionSession)) {
+        if (requireOccupyThreadForConnection(connectionSession) || isVirtualThreadForConnection()) {
             return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
         }
         if (isPreferNettyEventLoop()) {
@@ -62,6 +63,11 @@ public final class OKProxyState implements ProxyState {
                 || TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
     }
     
+    private boolean isVirtualThreadForConnection() {
+        return FrontendConnectionExecutorType.VIRTUAL_THREAD == ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<FrontendConnectionExecutorType>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE) && ConnectionThreadExecutorGroup.getInstance().isVirtualThreadAvailable();
+    }
+    
     private boolean isPreferNettyEventLoop() {
         return BackendExecutorType.OLTP == ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE);
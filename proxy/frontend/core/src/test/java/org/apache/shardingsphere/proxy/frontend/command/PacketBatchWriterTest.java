@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.ProxyContextRestorer;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PacketBatchWriterTest extends ProxyContextRestorer {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private DatabasePacketCodecEngine<DatabasePacket<?>> codecEngine;
+    
+    @Mock
+    private DatabasePacket<?> packet;
+    
+    @Before
+    public void setUp() {
+        ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        when(context.channel().isWritable()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertWriteInBatch() {
+        mockProps(4);
+        mockEncodeInBatch();
+        try (PacketBatchWriter packetBatchWriter = new PacketBatchWriter(context, backendConnection, codecEngine)) {
+            packetBatchWriter.write(packet);
+            verify(context, never()).write(any());
+            packetBatchWriter.write(packet);
+            verify(context).write(isA(DatabasePacketBatch.class));
+            verify(context).flush();
+        }
+    }
+    
+    @Test
+    public void assertWriteRemainedInBatchWhenClose() {
+        mockProps(4);
+        mockEncodeInBatch();
+        try (PacketBatchWriter packetBatchWriter = new PacketBatchWriter(context, backendConnection, codecEngine)) {
+            packetBatchWriter.write(packet);
+        }
+        verify(context).write(isA(DatabasePacketBatch.class));
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    public void assertWriteDirectly() {
+        mockProps(0);
+        try (PacketBatchWriter packetBatchWriter = new PacketBatchWriter(context, backendConnection, codecEngine)) {
+            packetBatchWriter.write(packet);
+            packetBatchWriter.write(packet);
+            packetBatchWriter.write(packet);
+        }
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+    }
+    
+    private void mockProps(final int batchBytes) {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES.getKey(), String.valueOf(batchBytes)),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2")));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+    }
+    
+    private void mockEncodeInBatch() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        doAnswer(invocation -> ((ByteBuf) invocation.getArgument(2)).writeMedium(0)).when(codecEngine).encodeInBatch(any(), any(), any());
+    }
+}
@@ -23,6 +23,8 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.FrontendConnectionExecutorType;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -81,6 +83,8 @@ public final class FrontendChannelInboundHandlerTest {
             mocked.when(ProxyContext::getInstance).thenReturn(mockedProxyContext);
             when(mockedProxyContext.getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData())
                     .thenReturn(new ShardingSphereRuleMetaData(Collections.singleton(mock(TransactionRule.class))));
+            when(mockedProxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()
+                    .<FrontendConnectionExecutorType>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE)).thenReturn(FrontendConnectionExecutorType.PLATFORM_THREAD);
             frontendChannelInboundHandler = new FrontendChannelInboundHandler(frontendEngine, channel);
         }
         channel.pipeline().addLast(frontendChannelInboundHandler);
@@ -22,6 +22,7 @@ import io.netty.util.concurrent.EventExecutor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.BackendExecutorType;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.FrontendConnectionExecutorType;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -42,6 +43,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -86,9 +89,37 @@ public final class OKProxyStateTest extends ProxyContextRestorer {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
+    @Test
+    public void assertExecuteWithVirtualThreadForConnection() {
+        assumeTrue(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadAvailable());
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<FrontendConnectionExecutorType>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE)).thenReturn(FrontendConnectionExecutorType.VIRTUAL_THREAD);
+        ExecutorService executorService = registerMockExecutorService(1);
+        new OKProxyState().execute(context, null, frontendEngine, connectionSession);
+        verify(executorService).execute(any(CommandExecutorTask.class));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
+    }
+    
+    @Test
+    public void assertExecuteWithVirtualThreadUnavailableForConnection() {
+        assumeFalse(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadAvailable());
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<FrontendConnectionExecutorType>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE)).thenReturn(FrontendConnectionExecutorType.VIRTUAL_THREAD);
+        when(ProxyContext.getInstance().getContextManager()
+                .getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)).thenReturn(BackendExecutorType.OLTP);
+        EventExecutor eventExecutor = mock(EventExecutor.class);
+        when(context.executor()).thenReturn(eventExecutor);
+        new OKProxyState().execute(context, null, frontendEngine, connectionSession);
+        verify(eventExecutor).execute(any(CommandExecutorTask.class));
+    }
+    
     @Test
     public void assertExecuteWithProxyBackendExecutorSuitableForOLTP() {
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<FrontendConnectionExecutorType>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE)).thenReturn(FrontendConnectionExecutorType.PLATFORM_THREAD);
         when(ProxyContext.getInstance().getContextManager()
                 .getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)).thenReturn(BackendExecutorType.OLTP);
         EventExecutor eventExecutor = mock(EventExecutor.class);
@@ -100,6 +131,8 @@ public final class OKProxyStateTest extends ProxyContextRestorer {
     @Test
     public void assertExecuteWithProxyBackendExecutorSuitableForOLAPAndRequiredSameThreadForConnection() {
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<FrontendConnectionExecutorType>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_EXECUTOR_TYPE)).thenReturn(FrontendConnectionExecutorType.PLATFORM_THREAD);
         when(ProxyContext.getInstance().getContextManager()
                 .getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)).thenReturn(BackendExecutorType.OLAP);
         when(frontendEngine.getFrontendContext().isRequiredSameThreadForConnection(null)).thenReturn(true);
@@ -47,10 +47,10 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     
     private final AuthenticationEngine authenticationEngine = new MySQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
-    
     private final DatabasePacketCodecEngine<MySQLPacket> codecEngine = new MySQLPacketCodecEngine();
     
+    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine(codecEngine);
+    
     public MySQLFrontendEngine() {
         MySQLServerInfo.setDefaultMysqlVersion(ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION));
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.dialect.mysql.vendor.MySQLVendorError;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
@@ -66,7 +67,11 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     public int handshake(final ChannelHandlerContext context) {
         int result = ConnectionIdGenerator.getInstance().nextId();
         connectionPhase = MySQLConnectionPhase.AUTH_PHASE_FAST_PATH;
-        context.writeAndFlush(new MySQLHandshakePacket(result, authenticationHandler.getAuthPluginData()));
+        MySQLHandshakePacket handshakePacket = new MySQLHandshakePacket(result, authenticationHandler.getAuthPluginData());
+        if (ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_MYSQL_LOCAL_INFILE_ENABLED)) {
+            handshakePacket.enableLocalInfile();
+        }
+        context.writeAndFlush(handshakePacket);
         MySQLStatementIDGenerator.getInstance().registerConnection(result);
         return result;
     }
@@ -97,6 +102,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         MySQLCharacterSet characterSet = MySQLCharacterSet.findById(packet.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(characterSet.getCharset());
         context.channel().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).set(characterSet);
+        context.channel().attr(MySQLConstants.MYSQL_CLIENT_CAPABILITY_FLAGS).set(packet.getCapabilityFlags());
         if (!Strings.isNullOrEmpty(packet.getDatabase()) && !ProxyContext.getInstance().databaseExists(packet.getDatabase())) {
             context.writeAndFlush(new MySQLErrPacket(MySQLVendorError.ER_BAD_DB_ERROR, packet.getDatabase()));
             context.close();
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileRequestPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handler for MySQL load data local infile.
+ *
+ * <p>File is requested from client and received packet by packet. Each row is routed by kernel, and rows of same actual table are forwarded to the data source
+ * as multi-row insert statements, so that memory is bounded by one packet and one pending batch of each actual table.</p>
+ */
+public final class MySQLLoadDataLocalHandler implements ProxyBackendHandler {
+    
+    private static final int MAX_BATCH_ROWS = 1000;
+    
+    private static final int MAX_BATCH_PARAMETERS = 65535;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final MySQLLoadDataStatement loadDataStatement;
+    
+    private final Map<String, InsertBatch> batches = new LinkedHashMap<>();
+    
+    private final Map<String, Connection> localTransactionConnections = new LinkedHashMap<>();
+    
+    private long records;
+    
+    private int affectedRows;
+    
+    @Getter
+    private int warnings;
+    
+    public MySQLLoadDataLocalHandler(final ConnectionSession connectionSession, final MySQLLoadDataStatement loadDataStatement) {
+        this.connectionSession = connectionSession;
+        this.loadDataStatement = loadDataStatement;
+    }
+    
+    @Override
+    public ResponseHeader execute() throws SQLException {
+        Channel channel = (Channel) connectionSession.getAttributeMap();
+        checkSupported(channel);
+        MySQLLoadDataRowRouter router = new MySQLLoadDataRowRouter(connectionSession, loadDataStatement);
+        MySQLLoadDataRowDecoder decoder = new MySQLLoadDataRowDecoder(loadDataStatement, channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        MySQLLocalInfileInboundHandler inboundHandler = new MySQLLocalInfileInboundHandler();
+        try {
+            inboundHandler.install(channel);
+            channel.writeAndFlush(new MySQLLocalInfileRequestPacket(loadDataStatement.getFileName()));
+            load(inboundHandler, decoder, router);
+            warnings += router.getWarnings();
+        } finally {
+            decoder.release();
+            inboundHandler.uninstall();
+        }
+        return new UpdateResponseHeader(loadDataStatement, Collections.singletonList(new UpdateResult(affectedRows, 0L)));
+    }
+    
+    private void checkSupported(final Channel channel) {
+        boolean localInfileEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_MYSQL_LOCAL_INFILE_ENABLED);
+        ShardingSpherePreconditions.checkState(localInfileEnabled, () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE when proxy-mysql-local-infile-enabled is false"));
+        Integer clientCapabilityFlags = channel.attr(MySQLConstants.MYSQL_CLIENT_CAPABILITY_FLAGS).get();
+        ShardingSpherePreconditions.checkState(null != clientCapabilityFlags && 0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue()),
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE when client does not enable local infile capability"));
+        ShardingSpherePreconditions.checkState(!channel.eventLoop().inEventLoop(),
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE can not be executed in event loop, please use OLAP backend executor"));
+        ShardingSpherePreconditions.checkState(!loadDataStatement.getSetAssignment().isPresent(), () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with SET clause"));
+        ShardingSpherePreconditions.checkState(!loadDataStatement.getFieldsTerminatedBy().isEmpty() && !loadDataStatement.getLinesTerminatedBy().isEmpty(),
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with fixed-row format"));
+    }
+    
+    private void load(final MySQLLocalInfileInboundHandler inboundHandler, final MySQLLoadDataRowDecoder decoder, final MySQLLoadDataRowRouter router) throws SQLException {
+        Exception failure;
+        try {
+            failure = receive(inboundHandler, decoder, router);
+            if (null == failure) {
+                loadRows(decoder.finish(), router);
+                for (InsertBatch each : batches.values()) {
+                    flush(each);
+                }
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            failure = ex;
+        }
+        finishLocalTransactions(failure);
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (null != failure) {
+            throw (RuntimeException) failure;
+        }
+    }
+    
+    private Exception receive(final MySQLLocalInfileInboundHandler inboundHandler, final MySQLLoadDataRowDecoder decoder, final MySQLLoadDataRowRouter router) throws SQLException {
+        Exception result = null;
+        ByteBuf packet = inboundHandler.take();
+        while (packet.isReadable()) {
+            try {
+                if (null == result) {
+                    loadRows(decoder.decode(packet), router);
+                }
+            } catch (final SQLException | RuntimeException ex) {
+                // Client sends whole file before reading response, so the rest of file is drained after failure.
+                result = ex;
+            } finally {
+                packet.release();
+            }
+            packet = inboundHandler.take();
+        }
+        packet.release();
+        return result;
+    }
+    
+    private void loadRows(final Iterable<List<String>> rows, final MySQLLoadDataRowRouter router) throws SQLException {
+        for (List<String> each : rows) {
+            records++;
+            for (ExecutionUnit eachExecutionUnit : router.route(each)) {
+                InsertBatch batch = getBatch(eachExecutionUnit);
+                batch.add(eachExecutionUnit.getSqlUnit().getParameters());
+                if (batch.rows >= MAX_BATCH_ROWS || batch.parameters.size() + eachExecutionUnit.getSqlUnit().getParameters().size() > MAX_BATCH_PARAMETERS) {
+                    flush(batch);
+                }
+            }
+        }
+    }
+    
+    private InsertBatch getBatch(final ExecutionUnit executionUnit) {
+        String sql = executionUnit.getSqlUnit().getSql();
+        return batches.computeIfAbsent(executionUnit.getDataSourceName() + "." + sql,
+                unused -> new InsertBatch(executionUnit.getDataSourceName(), MySQLLoadDataRowRouter.getInsertPrefix(sql), MySQLLoadDataRowRouter.getRowValues(sql)));
+    }
+    
+    private void flush(final InsertBatch batch) throws SQLException {
+        if (0 == batch.rows) {
+            return;
+        }
+        try (PreparedStatement preparedStatement = getConnection(batch.dataSourceName).prepareStatement(batch.getSQL())) {
+            for (int i = 0; i < batch.parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, batch.parameters.get(i));
+            }
+            affectedRows += preparedStatement.executeUpdate();
+            for (SQLWarning each = preparedStatement.getWarnings(); null != each; each = each.getNextWarning()) {
+                warnings++;
+            }
+        }
+        batch.clear();
+    }
+    
+    private Connection getConnection(final String dataSourceName) throws SQLException {
+        Connection result = localTransactionConnections.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        result = connectionSession.getBackendConnection().getConnections(dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        if (!connectionSession.getTransactionStatus().isInTransaction()) {
+            result.setAutoCommit(false);
+            localTransactionConnections.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
+    private void finishLocalTransactions(final Exception failure) throws SQLException {
+        SQLException commitFailure = null;
+        for (Connection each : localTransactionConnections.values()) {
+            try {
+                if (null == failure) {
+                    each.commit();
+                } else {
+                    each.rollback();
+                }
+                each.setAutoCommit(true);
+            } catch (final SQLException ex) {
+                if (null != failure) {
+                    failure.addSuppressed(ex);
+                } else if (null == commitFailure) {
+                    commitFailure = ex;
+                } else {
+                    commitFailure.setNextException(ex);
+                }
+            }
+        }
+        localTransactionConnections.clear();
+        if (null != commitFailure) {
+            throw commitFailure;
+        }
+    }
+    
+    /**
+     * Get info of OK packet.
+     *
+     * @return info of OK packet
+     */
+    public String getInfo() {
+        long skipped = loadDataStatement.isIgnore() ? Math.max(0L, records - affectedRows) : 0L;
+        return String.format("Records: %d  Deleted: 0  Skipped: %d  Warnings: %d", records, skipped, warnings);
+    }
+    
+    private static final class InsertBatch {
+        
+        private final String dataSourceName;
+        
+        private final String insertPrefix;
+        
+        private final String rowValues;
+        
+        private final List<Object> parameters = new ArrayList<>();
+        
+        private int rows;
+        
+        InsertBatch(final String dataSourceName, final String insertPrefix, final String rowValues) {
+            this.dataSourceName = dataSourceName;
+            this.insertPrefix = insertPrefix;
+            this.rowValues = rowValues;
+        }
+        
+        void add(final List<Object> rowParameters) {
+            parameters.addAll(rowParameters);
+            rows++;
+        }
+        
+        String getSQL() {
+            return insertPrefix + String.join(", ", Collections.nCopies(rows, rowValues));
+        }
+        
+        void clear() {
+            parameters.clear();
+            rows = 0;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Row decoder of MySQL load data local infile.
+ *
+ * <p>File content is streamed in packets whose boundaries are not aligned with rows, so bytes of incomplete field are kept until the terminator arrives.
+ * Terminators are matched on encoded bytes, which is safe for ASCII terminators in ASCII compatible charsets.</p>
+ */
+public final class MySQLLoadDataRowDecoder {
+    
+    private static final int NONE = -1;
+    
+    private static final String NULL_WORD = "NULL";
+    
+    private final byte[] fieldTerminator;
+    
+    private final byte[] lineTerminator;
+    
+    private final byte[] lineStarting;
+    
+    private final int enclosingByte;
+    
+    private final int escapeByte;
+    
+    private final long ignoredLines;
+    
+    private final Charset charset;
+    
+    private final ByteBuf fieldBuffer = Unpooled.buffer();
+    
+    private final ByteBuf lineStartingBuffer = Unpooled.buffer();
+    
+    private final List<String> values = new ArrayList<>();
+    
+    private long skippedLines;
+    
+    private int protectedIndex;
+    
+    private boolean lineStarted;
+    
+    private boolean enclosed;
+    
+    private boolean enclosedField;
+    
+    private boolean closingEnclosure;
+    
+    private boolean escaped;
+    
+    private boolean escapedNull;
+    
+    public MySQLLoadDataRowDecoder(final MySQLLoadDataStatement loadDataStatement, final Charset charset) {
+        fieldTerminator = loadDataStatement.getFieldsTerminatedBy().getBytes(charset);
+        lineTerminator = loadDataStatement.getLinesTerminatedBy().getBytes(charset);
+        lineStarting = loadDataStatement.getLinesStartingBy().getBytes(charset);
+        enclosingByte = getSingleByte(loadDataStatement.getFieldsEnclosedBy(), charset);
+        escapeByte = getSingleByte(loadDataStatement.getFieldsEscapedBy(), charset);
+        ignoredLines = loadDataStatement.getIgnoredLines();
+        this.charset = charset;
+        lineStarted = 0 == lineStarting.length;
+    }
+    
+    private int getSingleByte(final String value, final Charset charset) {
+        return value.isEmpty() ? NONE : value.getBytes(charset)[0];
+    }
+    
+    /**
+     * Decode complete rows of file content.
+     *
+     * @param in file content
+     * @return values of decoded rows, null value represents SQL null
+     */
+    public Collection<List<String>> decode(final ByteBuf in) {
+        Collection<List<String>> result = new LinkedList<>();
+        while (in.isReadable()) {
+            decodeByte(in.readByte(), result);
+        }
+        return result;
+    }
+    
+    private void decodeByte(final byte value, final Collection<List<String>> rows) {
+        if (!lineStarted) {
+            seekLineStarting(value);
+            return;
+        }
+        if (closingEnclosure) {
+            closingEnclosure = false;
+            if (enclosingByte == value) {
+                writeProtectedByte(value);
+                return;
+            }
+            enclosed = false;
+        }
+        if (escaped) {
+            escaped = false;
+            escapedNull = 'N' == value && 0 == fieldBuffer.writerIndex() && !enclosedField;
+            writeProtectedByte(getEscapedByte(value));
+            return;
+        }
+        if (escapeByte == value) {
+            escaped = true;
+            return;
+        }
+        if (enclosed) {
+            if (enclosingByte == value) {
+                closingEnclosure = true;
+            } else {
+                writeProtectedByte(value);
+            }
+            return;
+        }
+        if (enclosingByte == value && isFieldStart()) {
+            enclosed = true;
+            enclosedField = true;
+            return;
+        }
+        fieldBuffer.writeByte(value);
+        if (endsWith(fieldBuffer, lineTerminator, protectedIndex)) {
+            fieldBuffer.writerIndex(fieldBuffer.writerIndex() - lineTerminator.length);
+            endField();
+            endLine(rows);
+        } else if (endsWith(fieldBuffer, fieldTerminator, protectedIndex)) {
+            fieldBuffer.writerIndex(fieldBuffer.writerIndex() - fieldTerminator.length);
+            endField();
+        }
+    }
+    
+    private void seekLineStarting(final byte value) {
+        lineStartingBuffer.writeByte(value);
+        if (endsWith(lineStartingBuffer, lineStarting, lineStartingBuffer.readerIndex())) {
+            lineStarted = true;
+            lineStartingBuffer.clear();
+        } else if (endsWith(lineStartingBuffer, lineTerminator, lineStartingBuffer.readerIndex())) {
+            lineStartingBuffer.clear();
+        } else if (lineStartingBuffer.readableBytes() > Math.max(lineStarting.length, lineTerminator.length)) {
+            lineStartingBuffer.skipBytes(1).discardSomeReadBytes();
+        }
+    }
+    
+    private void writeProtectedByte(final byte value) {
+        fieldBuffer.writeByte(value);
+        protectedIndex = fieldBuffer.writerIndex();
+    }
+    
+    private byte getEscapedByte(final byte value) {
+        switch (value) {
+            case '0':
+                return 0;
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return 0x1A;
+            default:
+                return value;
+        }
+    }
+    
+    private boolean isFieldStart() {
+        return 0 == fieldBuffer.writerIndex() && !enclosedField && !escapedNull;
+    }
+    
+    private boolean endsWith(final ByteBuf buffer, final byte[] suffix, final int fromIndex) {
+        int start = buffer.writerIndex() - suffix.length;
+        if (0 == suffix.length || start < fromIndex) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length; i++) {
+            if (suffix[i] != buffer.getByte(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void endField() {
+        values.add(getFieldValue());
+        fieldBuffer.clear();
+        protectedIndex = 0;
+        enclosedField = false;
+        escapedNull = false;
+    }
+    
+    private String getFieldValue() {
+        if (escapedNull && 1 == fieldBuffer.writerIndex()) {
+            return null;
+        }
+        String result = fieldBuffer.toString(charset);
+        return NONE != enclosingByte && !enclosedField && NULL_WORD.equals(result) ? null : result;
+    }
+    
+    private void endLine(final Collection<List<String>> rows) {
+        if (skippedLines < ignoredLines) {
+            skippedLines++;
+        } else {
+            rows.add(new ArrayList<>(values));
+        }
+        values.clear();
+        lineStarted = 0 == lineStarting.length;
+    }
+    
+    /**
+     * Decode the last row which is not terminated by line terminator.
+     *
+     * @return values of the last row, null value represents SQL null
+     */
+    public Collection<List<String>> finish() {
+        Collection<List<String>> result = new LinkedList<>();
+        if (escaped) {
+            escaped = false;
+            writeProtectedByte((byte) escapeByte);
+        }
+        closingEnclosure = false;
+        enclosed = false;
+        if (lineStarted && (fieldBuffer.isReadable() || !values.isEmpty() || enclosedField || escapedNull)) {
+            endField();
+            endLine(result);
+        }
+        return result;
+    }
+    
+    /**
+     * Release buffered bytes.
+     */
+    public void release() {
+        fieldBuffer.release();
+        lineStartingBuffer.release();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.Getter;
+import org.apache.shardingsphere.dialect.SQLExceptionTransformEngine;
+import org.apache.shardingsphere.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.proxy.backend.communication.AbstractInsertRowRouter;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Row router of MySQL load data local infile.
+ */
+public final class MySQLLoadDataRowRouter extends AbstractInsertRowRouter {
+    
+    private static final String VALUES = " VALUES ";
+    
+    @Getter
+    private int warnings;
+    
+    public MySQLLoadDataRowRouter(final ConnectionSession connectionSession, final MySQLLoadDataStatement loadDataStatement) throws SQLException {
+        super(connectionSession, getInsertKeyword(loadDataStatement), loadDataStatement.getTableSegment(), loadDataStatement.getColumns());
+    }
+    
+    private static String getInsertKeyword(final MySQLLoadDataStatement loadDataStatement) {
+        if (loadDataStatement.isReplace()) {
+            return "REPLACE INTO";
+        }
+        return loadDataStatement.isIgnore() ? "INSERT IGNORE INTO" : "INSERT INTO";
+    }
+    
+    /**
+     * Route row.
+     *
+     * <p>Missing values are loaded as null and extra values are discarded with warnings, as MySQL does for local infile.</p>
+     *
+     * @param values text values of row, null value represents SQL null
+     * @return execution units of row
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public Collection<ExecutionUnit> route(final List<String> values) throws SQLException {
+        if (values.size() != getColumnCount()) {
+            warnings++;
+        }
+        return super.route(values);
+    }
+    
+    @Override
+    protected SQLException newNoSuchTableException(final String tableName) {
+        return SQLExceptionTransformEngine.toSQLException(new NoSuchTableException(tableName), "MySQL");
+    }
+    
+    @Override
+    protected SQLException newNoSuchColumnException(final String tableName, final String columnName) {
+        return new SQLException(String.format("Unknown column '%s' in 'field list'", columnName), "42S22", 1054);
+    }
+    
+    @Override
+    protected SQLException newInvalidNumericValueException(final String value) {
+        return new SQLException(String.format("Incorrect numeric value: '%s'", value), "HY000", 1366);
+    }
+    
+    /**
+     * Get values clause of one row from rewritten insert SQL.
+     *
+     * @param rewrittenInsertSQL rewritten insert SQL of execution unit
+     * @return values clause of one row
+     */
+    public static String getRowValues(final String rewrittenInsertSQL) {
+        return rewrittenInsertSQL.substring(rewrittenInsertSQL.lastIndexOf(VALUES) + VALUES.length());
+    }
+    
+    /**
+     * Get insert prefix before values clause from rewritten insert SQL.
+     *
+     * @param rewrittenInsertSQL rewritten insert SQL of execution unit
+     * @return insert prefix before values clause
+     */
+    public static String getInsertPrefix(final String rewrittenInsertSQL) {
+        return rewrittenInsertSQL.substring(0, rewrittenInsertSQL.lastIndexOf(VALUES) + VALUES.length());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.flow.FlowControlHandler;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Inbound handler of MySQL local infile packets.
+ *
+ * <p>File packets are taken over from command handling until the empty packet which ends the file arrives.
+ * Channel reads one packet for each take, so that file content which is not written to backend yet is bounded by one packet.</p>
+ */
+public final class MySQLLocalInfileInboundHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final String FLOW_CONTROL_HANDLER_NAME = "localInfileFlowControl";
+    
+    private static final String HANDLER_NAME = "localInfile";
+    
+    private static final Object CHANNEL_INACTIVE = new Object();
+    
+    private final BlockingQueue<Object> packets = new LinkedBlockingQueue<>();
+    
+    private Channel channel;
+    
+    /**
+     * Install handler into channel pipeline.
+     *
+     * @param channel channel
+     */
+    public void install(final Channel channel) {
+        this.channel = channel;
+        channel.config().setAutoRead(false);
+        String codecName = channel.pipeline().context(PacketCodec.class).name();
+        channel.pipeline().addAfter(codecName, FLOW_CONTROL_HANDLER_NAME, new FlowControlHandler());
+        channel.pipeline().addAfter(FLOW_CONTROL_HANDLER_NAME, HANDLER_NAME, this);
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object message) {
+        packets.offer(message);
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        packets.offer(CHANNEL_INACTIVE);
+        context.fireChannelInactive();
+    }
+    
+    /**
+     * Take next packet of file.
+     *
+     * @return next packet of file, empty packet represents end of file
+     * @throws SQLException SQL exception
+     */
+    public ByteBuf take() throws SQLException {
+        channel.read();
+        Object result;
+        try {
+            result = packets.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while reading local infile.", ex);
+        }
+        if (CHANNEL_INACTIVE == result) {
+            throw new SQLException("Connection was closed while reading local infile.", "08S01");
+        }
+        return (ByteBuf) result;
+    }
+    
+    /**
+     * Uninstall handler from channel pipeline.
+     */
+    public void uninstall() {
+        if (null == channel) {
+            return;
+        }
+        if (null != channel.pipeline().get(HANDLER_NAME)) {
+            channel.pipeline().remove(HANDLER_NAME);
+        }
+        if (null != channel.pipeline().get(FLOW_CONTROL_HANDLER_NAME)) {
+            channel.pipeline().remove(FLOW_CONTROL_HANDLER_NAME);
+        }
+        Object each;
+        while (null != (each = packets.poll())) {
+            ReferenceCountUtil.release(each);
+        }
+        channel.config().setAutoRead(true);
+    }
+}
@@ -23,8 +23,12 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -39,14 +43,22 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataLocalHandler;
+import org.apache.shardingsphere.sql.parser.core.database.normalizer.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.sql.common.extractor.TableExtractor;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -65,19 +77,69 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
-        SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
-                : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession, packet.getHintValueContext());
+        Optional<ProxyBackendHandler> normalizedBackendHandler = createNormalizedBackendHandler(packet, databaseType);
+        if (normalizedBackendHandler.isPresent()) {
+            proxyBackendHandler = normalizedBackendHandler.get();
+        } else {
+            SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
+            proxyBackendHandler = createBackendHandler(packet, connectionSession, sqlStatement, databaseType);
+        }
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
+    private Optional<ProxyBackendHandler> createNormalizedBackendHandler(final MySQLComQueryPacket packet, final DatabaseType databaseType) throws SQLException {
+        if (SQLUtil.trimComment(packet.getSql()).isEmpty()) {
+            return Optional.empty();
+        }
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_MYSQL_LITERAL_NORMALIZATION_ENABLED) || isSystemSchema(connectionSession.getDefaultDatabaseName(), databaseType)) {
+            return Optional.empty();
+        }
+        ShardingSphereSQLParserEngine sqlParserEngine = getSQLParserEngine(databaseType);
+        NormalizedSQL normalizedSQL = sqlParserEngine.normalize(packet.getSql());
+        if (!normalizedSQL.isNormalized()) {
+            return Optional.empty();
+        }
+        SQLStatement sqlStatement = sqlParserEngine.parse(normalizedSQL.getSql(), true);
+        if (!isNormalizable(sqlStatement, databaseType)) {
+            return Optional.empty();
+        }
+        return Optional.of(ProxyBackendHandlerFactory.newInstance(databaseType, normalizedSQL.getSql(), normalizedSQL.getParameters(), sqlStatement, connectionSession, packet.getHintValueContext()));
+    }
+    
+    private boolean isNormalizable(final SQLStatement sqlStatement, final DatabaseType databaseType) {
+        if (!(sqlStatement instanceof DMLStatement) || sqlStatement instanceof SelectStatement && null == ((SelectStatement) sqlStatement).getFrom()) {
+            return false;
+        }
+        TableExtractor tableExtractor = new TableExtractor();
+        tableExtractor.extractTablesFromSQLStatement(sqlStatement);
+        return tableExtractor.getRewriteTables().stream().noneMatch(each -> each.getOwner().isPresent() && isSystemSchema(each.getOwner().get().getIdentifier().getValue(), databaseType));
+    }
+    
+    private boolean isSystemSchema(final String schemaName, final DatabaseType databaseType) {
+        return null == schemaName || databaseType.getSystemSchemas().contains(schemaName.toLowerCase());
+    }
+    
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
         if (SQLUtil.trimComment(sql).isEmpty()) {
             return new EmptyStatement();
         }
+        return getSQLParserEngine(databaseType).parse(sql, false);
+    }
+    
+    private ShardingSphereSQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        return sqlParserRule.getSQLParserEngine(databaseType.getType()).parse(sql, false);
+        return sqlParserRule.getSQLParserEngine(databaseType.getType());
+    }
+    
+    private ProxyBackendHandler createBackendHandler(final MySQLComQueryPacket packet, final ConnectionSession connectionSession,
+                                                     final SQLStatement sqlStatement, final DatabaseType databaseType) throws SQLException {
+        if (sqlStatement instanceof MySQLLoadDataStatement && ((MySQLLoadDataStatement) sqlStatement).isLocal()) {
+            return new MySQLLoadDataLocalHandler(connectionSession, (MySQLLoadDataStatement) sqlStatement);
+        }
+        return areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
+                : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession, packet.getHintValueContext());
     }
     
     private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
@@ -103,6 +165,11 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     }
     
     private Collection<DatabasePacket<?>> processUpdate(final UpdateResponseHeader updateResponseHeader) {
+        if (proxyBackendHandler instanceof MySQLLoadDataLocalHandler) {
+            MySQLLoadDataLocalHandler loadDataLocalHandler = (MySQLLoadDataLocalHandler) proxyBackendHandler;
+            return Collections.singletonList(new MySQLOKPacket(updateResponseHeader.getUpdateCount(), 0L, ServerStatusFlagCalculator.calculateFor(connectionSession),
+                    loadDataLocalHandler.getWarnings(), loadDataLocalHandler.getInfo()));
+        }
         return ResponsePacketBuilder.buildUpdateResponsePackets(updateResponseHeader, ServerStatusFlagCalculator.calculateFor(connectionSession));
     }
     
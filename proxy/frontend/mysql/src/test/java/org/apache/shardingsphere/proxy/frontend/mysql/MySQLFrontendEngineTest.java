@@ -99,6 +99,7 @@ public final class MySQLFrontendEngineTest extends ProxyContextRestorer {
         when(context.channel()).thenReturn(channel);
         when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         when(channel.attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        when(channel.attr(MySQLConstants.MYSQL_CLIENT_CAPABILITY_FLAGS)).thenReturn(mock(Attribute.class));
         when(channel.attr(MySQLConstants.MYSQL_SEQUENCE_ID)).thenReturn(mock(Attribute.class));
     }
     
@@ -116,6 +117,7 @@ public final class MySQLFrontendEngineTest extends ProxyContextRestorer {
     
     @Test
     public void assertHandshake() {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         assertTrue(mysqlFrontendEngine.getAuthenticationEngine().handshake(context) > 0);
         verify(context).writeAndFlush(isA(MySQLHandshakePacket.class));
     }
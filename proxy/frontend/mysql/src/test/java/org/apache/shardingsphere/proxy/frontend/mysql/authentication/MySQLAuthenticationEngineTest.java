@@ -32,6 +32,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.dialect.mysql.vendor.MySQLVendorError;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -44,6 +45,7 @@ import org.apache.shardingsphere.proxy.frontend.mysql.ProxyContextRestorer;
 import org.apache.shardingsphere.proxy.frontend.mysql.authentication.authenticator.MySQLNativePasswordAuthenticator;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentMatcher;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.net.InetSocketAddress;
@@ -58,6 +60,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -85,8 +88,19 @@ public final class MySQLAuthenticationEngineTest extends ProxyContextRestorer {
     @Test
     public void assertHandshake() {
         ChannelHandlerContext context = getContext();
+        setMetaDataContexts();
+        assertTrue(authenticationEngine.handshake(context) > 0);
+        verify(context).writeAndFlush(argThat((ArgumentMatcher<MySQLHandshakePacket>) argument -> 0 == (argument.getCapabilityFlagsLower() & MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue())));
+    }
+    
+    @Test
+    public void assertHandshakeWithLocalInfileEnabled() {
+        ChannelHandlerContext context = getContext();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_MYSQL_LOCAL_INFILE_ENABLED.getKey(), Boolean.TRUE.toString());
+        setMetaDataContexts(props);
         assertTrue(authenticationEngine.handshake(context) > 0);
-        verify(context).writeAndFlush(any(MySQLHandshakePacket.class));
+        verify(context).writeAndFlush(argThat((ArgumentMatcher<MySQLHandshakePacket>) argument -> 0 != (argument.getCapabilityFlagsLower() & MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue())));
     }
     
     @SuppressWarnings("unchecked")
@@ -100,13 +114,17 @@ public final class MySQLAuthenticationEngineTest extends ProxyContextRestorer {
         when(channel.remoteAddress()).thenReturn(new InetSocketAddress("localhost", 3307));
         when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         when(channel.attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        Attribute<Integer> clientCapabilityFlagsAttribute = mock(Attribute.class);
+        when(channel.attr(MySQLConstants.MYSQL_CLIENT_CAPABILITY_FLAGS)).thenReturn(clientCapabilityFlagsAttribute);
         when(channelHandlerContext.channel()).thenReturn(channel);
         when(payload.readInt1()).thenReturn(1);
-        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
+        int clientCapabilityFlags = MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue() | MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue();
+        when(payload.readInt4()).thenReturn(clientCapabilityFlags);
         when(payload.readStringNul()).thenReturn("root");
         when(authenticationHandler.getAuthenticator(any())).thenReturn(new MySQLNativePasswordAuthenticator(mock(MySQLAuthPluginData.class)));
         authenticationEngine.authenticate(channelHandlerContext, payload);
         assertThat(getConnectionPhase(), is(MySQLConnectionPhase.AUTHENTICATION_METHOD_MISMATCH));
+        verify(clientCapabilityFlagsAttribute).set(clientCapabilityFlags);
     }
     
     @Test
@@ -171,11 +189,15 @@ public final class MySQLAuthenticationEngineTest extends ProxyContextRestorer {
     }
     
     private void setMetaDataContexts() {
+        setMetaDataContexts(new Properties());
+    }
+    
+    private void setMetaDataContexts(final Properties props) {
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         Map<String, ShardingSphereDatabase> databases = new LinkedHashMap<>(1, 1);
         databases.put("sharding_db", mock(ShardingSphereDatabase.class));
         MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData(databases, mock(ShardingSphereRuleMetaData.class),
-                new ConfigurationProperties(new Properties())));
+                new ConfigurationProperties(props)));
         when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
         ProxyContext.init(contextManager);
     }
@@ -201,6 +223,7 @@ public final class MySQLAuthenticationEngineTest extends ProxyContextRestorer {
         doReturn(getRemoteAddress()).when(result).remoteAddress();
         when(result.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         when(result.attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        when(result.attr(MySQLConstants.MYSQL_CLIENT_CAPABILITY_FLAGS)).thenReturn(mock(Attribute.class));
         when(result.attr(MySQLConstants.MYSQL_SEQUENCE_ID)).thenReturn(mock(Attribute.class));
         return result;
     }
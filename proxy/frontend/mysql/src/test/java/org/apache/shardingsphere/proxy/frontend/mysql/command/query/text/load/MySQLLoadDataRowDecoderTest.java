@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLLoadDataRowDecoderTest {
+    
+    @Test
+    public void assertDecodeWithDefaultFormat() {
+        List<List<String>> actual = decode(new MySQLLoadDataStatement(), "1\tfoo\n2\t\\N\n3\tb\\tar\n");
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(Arrays.asList("1", "foo")));
+        assertThat(actual.get(1), is(Arrays.asList("2", null)));
+        assertThat(actual.get(2), is(Arrays.asList("3", "b\tar")));
+    }
+    
+    @Test
+    public void assertDecodeRowsAcrossPackets() {
+        MySQLLoadDataRowDecoder decoder = new MySQLLoadDataRowDecoder(new MySQLLoadDataStatement(), StandardCharsets.UTF_8);
+        try {
+            assertThat(decoder.decode(Unpooled.wrappedBuffer("1\tf".getBytes(StandardCharsets.UTF_8))).size(), is(0));
+            Collection<List<String>> actual = decoder.decode(Unpooled.wrappedBuffer("oo\n2\tbar".getBytes(StandardCharsets.UTF_8)));
+            assertThat(actual, is(Collections.singletonList(Arrays.asList("1", "foo"))));
+            assertThat(decoder.finish(), is(Collections.singletonList(Arrays.asList("2", "bar"))));
+        } finally {
+            decoder.release();
+        }
+    }
+    
+    @Test
+    public void assertDecodeWithCSVFormat() {
+        MySQLLoadDataStatement loadDataStatement = new MySQLLoadDataStatement();
+        loadDataStatement.setFieldsTerminatedBy(",");
+        loadDataStatement.setFieldsEnclosedBy("\"");
+        loadDataStatement.setLinesTerminatedBy("\r\n");
+        loadDataStatement.setIgnoredLines(1L);
+        List<List<String>> actual = decode(loadDataStatement, "id,name\r\n1,\"a,\"\"b\"\"\r\nc\"\r\n2,NULL\r\n");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.asList("1", "a,\"b\"\r\nc")));
+        assertThat(actual.get(1), is(Arrays.asList("2", null)));
+    }
+    
+    @Test
+    public void assertDecodeWithLinesStartingBy() {
+        MySQLLoadDataStatement loadDataStatement = new MySQLLoadDataStatement();
+        loadDataStatement.setFieldsTerminatedBy(",");
+        loadDataStatement.setLinesStartingBy("xxx");
+        List<List<String>> actual = decode(loadDataStatement, "xxx1,foo\nskipped\nabcxxx2,bar\n");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.asList("1", "foo")));
+        assertThat(actual.get(1), is(Arrays.asList("2", "bar")));
+    }
+    
+    @Test
+    public void assertDecodeEscapedTerminator() {
+        MySQLLoadDataStatement loadDataStatement = new MySQLLoadDataStatement();
+        loadDataStatement.setFieldsTerminatedBy(",");
+        List<List<String>> actual = decode(loadDataStatement, "1,a\\,b\\\nc");
+        assertThat(actual, is(Collections.singletonList(Arrays.asList("1", "a,b\nc"))));
+    }
+    
+    private List<List<String>> decode(final MySQLLoadDataStatement loadDataStatement, final String content) {
+        MySQLLoadDataRowDecoder decoder = new MySQLLoadDataRowDecoder(loadDataStatement, StandardCharsets.UTF_8);
+        try {
+            List<List<String>> result = new ArrayList<>(decoder.decode(Unpooled.wrappedBuffer(content.getBytes(StandardCharsets.UTF_8))));
+            result.addAll(decoder.finish());
+            return result;
+        } finally {
+            decoder.release();
+        }
+    }
+}
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.proxy.frontend.opengauss.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
@@ -44,7 +46,11 @@ import java.util.Optional;
  */
 public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine {
     
-    private final PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+    private final PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine;
+    
+    public OpenGaussCommandExecuteEngine(final DatabasePacketCodecEngine<PostgreSQLPacket> codecEngine) {
+        postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine(codecEngine);
+    }
     
     @Override
     public CommandPacketType getCommandPacketType(final PacketPayload payload) {
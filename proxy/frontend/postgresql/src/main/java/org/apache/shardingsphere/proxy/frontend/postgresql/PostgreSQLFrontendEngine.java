@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLServerInfo;
@@ -30,22 +31,28 @@ import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInSessionRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.sql.SQLException;
+import java.util.Optional;
+
 /**
  * Frontend engine for PostgreSQL.
  */
 @Getter
+@Slf4j
 public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendEngine {
     
     private final FrontendContext frontendContext = new PostgreSQLFrontendContext();
     
     private final AuthenticationEngine authenticationEngine = new PostgreSQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
-    
     private final DatabasePacketCodecEngine<PostgreSQLPacket> codecEngine = new PostgreSQLPacketCodecEngine();
     
+    private final CommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(codecEngine);
+    
     @Override
     public void setDatabaseVersion(final String databaseName, final String databaseVersion) {
         PostgreSQLServerInfo.setServerVersion(databaseVersion);
@@ -54,6 +61,14 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     @Override
     public void release(final ConnectionSession connectionSession) {
         PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        Optional<PostgreSQLCopyInSession> copyInSession = PostgreSQLCopyInSessionRegistry.getInstance().remove(connectionSession.getConnectionId());
+        if (copyInSession.isPresent()) {
+            try {
+                copyInSession.get().abort();
+            } catch (final SQLException ex) {
+                log.warn("Abort copy in session failed: ", ex);
+            }
+        }
     }
     
     @Override
@@ -55,6 +55,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropViewSta
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.MoveStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.TruncateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CallStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DoStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
@@ -89,6 +90,7 @@ public enum PostgreSQLCommand {
     DELETE(DeleteStatement.class),
     CALL(CallStatement.class),
     DO(DoStatement.class),
+    COPY(CopyStatement.class),
     ANALYZE(AnalyzeTableStatement.class),
     VACUUM(VacuumStatement.class),
     ALTER_FUNCTION(AlterFunctionStatement.class),
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyRowDecoder;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Copy from stdin executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyFromExecutor implements CommandExecutor {
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        ShardingSpherePreconditions.checkState(TransactionType.BASE != connectionSession.getTransactionStatus().getTransactionType(),
+                () -> new UnsupportedSQLOperationException("COPY FROM STDIN in BASE transaction"));
+        ShardingSpherePreconditions.checkState(!"binary".equalsIgnoreCase(copyStatement.getOptions().get("FORMAT")), () -> new UnsupportedSQLOperationException("COPY FROM STDIN with binary format"));
+        PostgreSQLCopyRowRouter router = new PostgreSQLCopyRowRouter(connectionSession, copyStatement);
+        Charset charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        PostgreSQLCopyInSession copyInSession = new PostgreSQLCopyInSession(connectionSession, new PostgreSQLCopyRowDecoder(PostgreSQLCopyFormat.newInstance(copyStatement.getOptions()), charset), router);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(connectionSession.getConnectionId(), copyInSession);
+        copyInSession.start();
+        return Collections.singletonList(new PostgreSQLCopyInResponsePacket(router.getColumnCount()));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.flow.FlowControlHandler;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyRowDecoder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * PostgreSQL copy in session.
+ *
+ * <p>Channel reads one message at a time while copying. Rows are buffered for each actual table and copied in chunks on the backend connection of session,
+ * so that each data source uses one connection. Copy runs in transaction of session if there is one, otherwise in an implicit transaction
+ * which is committed when copy finishes and rolled back when copy aborts, so that copy is all or nothing.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInSession {
+    
+    private static final String FLOW_CONTROL_HANDLER_NAME = "copyInFlowControl";
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyRowDecoder decoder;
+    
+    private final PostgreSQLCopyRowRouter router;
+    
+    private final Map<String, Map<String, PostgreSQLCopyInSink>> sinks = new LinkedHashMap<>();
+    
+    private long copiedRows;
+    
+    private boolean implicitTransaction;
+    
+    private boolean released;
+    
+    /**
+     * Start copy.
+     */
+    public void start() {
+        if (!connectionSession.getTransactionStatus().isInTransaction()) {
+            new BackendTransactionManager(connectionSession.getBackendConnection()).begin();
+            implicitTransaction = true;
+        }
+        getChannel().ifPresent(optional -> {
+            optional.config().setAutoRead(false);
+            ChannelHandlerContext codecContext = optional.pipeline().context(PacketCodec.class);
+            if (null != codecContext) {
+                optional.pipeline().addAfter(codecContext.name(), FLOW_CONTROL_HANDLER_NAME, new FlowControlHandler());
+            }
+            optional.read();
+        });
+    }
+    
+    /**
+     * Process copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void process(final ByteBuf data) throws SQLException {
+        for (List<String> each : decoder.decode(data)) {
+            writeRow(each);
+        }
+        getChannel().ifPresent(Channel::read);
+    }
+    
+    private void writeRow(final List<String> values) throws SQLException {
+        for (ExecutionUnit each : router.route(values)) {
+            PostgreSQLCopyInSink sink = getSink(each);
+            if (sink.write(each.getSqlUnit().getParameters())) {
+                sink.flush(getConnection(each.getDataSourceName()));
+            }
+        }
+        copiedRows++;
+    }
+    
+    private PostgreSQLCopyInSink getSink(final ExecutionUnit executionUnit) {
+        String copySQL = PostgreSQLCopyRowRouter.getBackendCopySQL(executionUnit.getSqlUnit().getSql());
+        return sinks.computeIfAbsent(executionUnit.getDataSourceName(), key -> new LinkedHashMap<>()).computeIfAbsent(copySQL, PostgreSQLCopyInSink::new);
+    }
+    
+    private Connection getConnection(final String dataSourceName) throws SQLException {
+        return connectionSession.getBackendConnection().getConnections(dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+    }
+    
+    /**
+     * Finish copy.
+     *
+     * @return copied rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        try {
+            for (List<String> each : decoder.finish()) {
+                writeRow(each);
+            }
+            for (Entry<String, Map<String, PostgreSQLCopyInSink>> entry : sinks.entrySet()) {
+                for (PostgreSQLCopyInSink each : entry.getValue().values()) {
+                    each.flush(getConnection(entry.getKey()));
+                }
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            try {
+                abort();
+            } catch (final SQLException abortException) {
+                ex.addSuppressed(abortException);
+            }
+            throw ex;
+        }
+        try {
+            if (implicitTransaction) {
+                new BackendTransactionManager(connectionSession.getBackendConnection()).commit();
+            }
+        } finally {
+            release();
+        }
+        return copiedRows;
+    }
+    
+    /**
+     * Abort copy.
+     *
+     * <p>Implicit transaction of copy is rolled back. Transaction of session is left to client, which is failed by the error of copy.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public void abort() throws SQLException {
+        if (released) {
+            return;
+        }
+        try {
+            if (implicitTransaction) {
+                new BackendTransactionManager(connectionSession.getBackendConnection()).rollback();
+            }
+        } finally {
+            release();
+        }
+    }
+    
+    private void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        decoder.release();
+        sinks.values().forEach(each -> each.values().forEach(PostgreSQLCopyInSink::release));
+        sinks.clear();
+        getChannel().ifPresent(optional -> {
+            if (null != optional.pipeline().get(FLOW_CONTROL_HANDLER_NAME)) {
+                optional.pipeline().remove(FLOW_CONTROL_HANDLER_NAME);
+            }
+            optional.config().setAutoRead(true);
+        });
+    }
+    
+    private Optional<Channel> getChannel() {
+        return connectionSession.getAttributeMap() instanceof Channel ? Optional.of((Channel) connectionSession.getAttributeMap()) : Optional.empty();
+    }
+}
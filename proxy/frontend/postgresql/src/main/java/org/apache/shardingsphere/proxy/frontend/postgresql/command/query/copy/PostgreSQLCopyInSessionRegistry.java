@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * PostgreSQL copy in session registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyInSessionRegistry {
+    
+    private static final PostgreSQLCopyInSessionRegistry INSTANCE = new PostgreSQLCopyInSessionRegistry();
+    
+    private final ConcurrentMap<Integer, PostgreSQLCopyInSession> copyInSessions = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of PostgreSQL copy in session registry.
+     *
+     * @return instance of PostgreSQL copy in session registry
+     */
+    public static PostgreSQLCopyInSessionRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register PostgreSQL copy in session.
+     *
+     * @param connectionId connection id
+     * @param copyInSession PostgreSQL copy in session
+     */
+    public void register(final int connectionId, final PostgreSQLCopyInSession copyInSession) {
+        copyInSessions.put(connectionId, copyInSession);
+    }
+    
+    /**
+     * Get PostgreSQL copy in session.
+     *
+     * @param connectionId connection id
+     * @return PostgreSQL copy in session
+     */
+    public Optional<PostgreSQLCopyInSession> get(final int connectionId) {
+        return Optional.ofNullable(copyInSessions.get(connectionId));
+    }
+    
+    /**
+     * Remove PostgreSQL copy in session.
+     *
+     * @param connectionId connection id
+     * @return removed PostgreSQL copy in session
+     */
+    public Optional<PostgreSQLCopyInSession> remove(final int connectionId) {
+        return Optional.ofNullable(copyInSessions.remove(connectionId));
+    }
+}
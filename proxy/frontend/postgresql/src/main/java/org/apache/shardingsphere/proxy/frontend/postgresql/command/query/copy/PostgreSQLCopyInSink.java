@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyFormat;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Sink of PostgreSQL copy from stdin, which buffers rows of one actual table and copies them into the table in chunks.
+ */
+public final class PostgreSQLCopyInSink {
+    
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    
+    private final String copySQL;
+    
+    private final ByteBuf buffer = Unpooled.buffer(FLUSH_THRESHOLD);
+    
+    public PostgreSQLCopyInSink(final String copySQL) {
+        this.copySQL = copySQL;
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param values values of row
+     * @return whether buffered rows need to be flushed
+     */
+    public boolean write(final List<Object> values) {
+        PostgreSQLCopyFormat.TEXT.encodeRow(values, buffer, StandardCharsets.UTF_8);
+        return buffer.readableBytes() >= FLUSH_THRESHOLD;
+    }
+    
+    /**
+     * Flush buffered rows into actual table by one copy on the connection.
+     *
+     * @param connection connection of data source which actual table belongs to
+     * @throws SQLException SQL exception
+     */
+    public void flush(final Connection connection) throws SQLException {
+        if (!buffer.isReadable()) {
+            return;
+        }
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySQL);
+        try {
+            copyIn.writeToCopy(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            buffer.clear();
+        }
+    }
+    
+    /**
+     * Release buffer.
+     */
+    public void release() {
+        if (0 != buffer.refCnt()) {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.proxy.backend.communication.AbstractInsertRowRouter;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Row router of PostgreSQL copy from stdin.
+ *
+ * <p>Each row is routed and rewritten by kernel as parameters of an equivalent insert statement, so that sharding, key generation and encryption apply to copied rows.
+ * Column names omitted by copy statement are quoted with the quote character of PostgreSQL, so that backend copy statement keeps their case.</p>
+ */
+public final class PostgreSQLCopyRowRouter extends AbstractInsertRowRouter {
+    
+    private static final String INSERT_INTO = "INSERT INTO ";
+    
+    private static final String VALUES = ") VALUES (";
+    
+    public PostgreSQLCopyRowRouter(final ConnectionSession connectionSession, final PostgreSQLCopyStatement copyStatement) throws SQLException {
+        super(connectionSession, INSERT_INTO.trim(), copyStatement.getTableSegment(), copyStatement.getColumns());
+    }
+    
+    @Override
+    public Collection<ExecutionUnit> route(final List<String> values) throws SQLException {
+        if (values.size() != getColumnCount()) {
+            throw new SQLException(values.size() < getColumnCount() ? "missing data for column" : "extra data after last expected column", "22P04");
+        }
+        return super.route(values);
+    }
+    
+    @Override
+    protected SQLException newNoSuchTableException(final String tableName) {
+        return new SQLException(String.format("relation \"%s\" does not exist", tableName), "42P01");
+    }
+    
+    @Override
+    protected SQLException newNoSuchColumnException(final String tableName, final String columnName) {
+        return new SQLException(String.format("column \"%s\" of relation \"%s\" does not exist", columnName, tableName), "42703");
+    }
+    
+    @Override
+    protected SQLException newInvalidNumericValueException(final String value) {
+        return new SQLException(String.format("invalid input syntax for type numeric: \"%s\"", value), "22P02");
+    }
+    
+    /**
+     * Get copy SQL of backend from rewritten insert SQL.
+     *
+     * @param rewrittenInsertSQL rewritten insert SQL of execution unit
+     * @return copy SQL of backend
+     */
+    public static String getBackendCopySQL(final String rewrittenInsertSQL) {
+        return "COPY " + rewrittenInsertSQL.substring(INSERT_INTO.length(), rewrittenInsertSQL.lastIndexOf(VALUES) + 1) + " FROM STDIN";
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.prepare.PrepareStatementQuerySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Copy to stdout executor for PostgreSQL.
+ *
+ * <p>Rows are queried through backend handler, so that they are merged from shards and decrypted before being encoded as copy data.</p>
+ */
+public final class PostgreSQLCopyToExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final ProxyBackendHandler proxyBackendHandler;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.QUERY;
+    
+    public PostgreSQLCopyToExecutor(final PostgreSQLCopyStatement copyStatement, final String sql, final ConnectionSession connectionSession) throws SQLException {
+        ShardingSpherePreconditions.checkState(!"binary".equalsIgnoreCase(copyStatement.getOptions().get("FORMAT")), () -> new UnsupportedSQLOperationException("COPY TO STDOUT with binary format"));
+        format = PostgreSQLCopyFormat.newInstance(copyStatement.getOptions());
+        proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), getQuerySQL(copyStatement, sql), connectionSession);
+    }
+    
+    private String getQuerySQL(final PostgreSQLCopyStatement copyStatement, final String sql) {
+        Optional<PrepareStatementQuerySegment> querySegment = copyStatement.getPrepareStatementQuerySegment();
+        if (querySegment.isPresent()) {
+            return sql.substring(querySegment.get().getStartIndex(), querySegment.get().getStopIndex() + 1);
+        }
+        StringBuilder result = new StringBuilder("SELECT ");
+        result.append(copyStatement.getColumns().isEmpty() ? "*" : copyStatement.getColumns().stream().map(each -> each.getIdentifier().getValueWithQuoteCharacters()).collect(Collectors.joining(", ")));
+        SimpleTableSegment tableSegment = copyStatement.getTableSegment();
+        result.append(" FROM ");
+        tableSegment.getOwner().ifPresent(optional -> result.append(optional.getIdentifier().getValueWithQuoteCharacters()).append('.'));
+        return result.append(tableSegment.getTableName().getIdentifier().getValueWithQuoteCharacters()).toString();
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        ResponseHeader responseHeader = proxyBackendHandler.execute();
+        ShardingSpherePreconditions.checkState(responseHeader instanceof QueryResponseHeader, () -> new UnsupportedSQLOperationException("COPY TO STDOUT without query result"));
+        List<QueryHeader> queryHeaders = ((QueryResponseHeader) responseHeader).getQueryHeaders();
+        Collection<DatabasePacket<?>> result = new ArrayList<>(2);
+        result.add(new PostgreSQLCopyOutResponsePacket(queryHeaders.size()));
+        if (format.isHeader()) {
+            result.add(new PostgreSQLCopyDataPacket(format, queryHeaders.stream().map(QueryHeader::getColumnLabel).collect(Collectors.toList())));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return proxyBackendHandler.next();
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() throws SQLException {
+        return new PostgreSQLCopyDataPacket(format, proxyBackendHandler.getRowData().getData());
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        proxyBackendHandler.close();
+    }
+}
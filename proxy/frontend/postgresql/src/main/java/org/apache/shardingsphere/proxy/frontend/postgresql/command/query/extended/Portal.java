@@ -170,12 +170,11 @@ public final class Portal {
     }
     
     private List<Object> getData(final QueryResponseRow queryResponseRow) {
-        Collection<QueryResponseCell> cells = queryResponseRow.getCells();
+        List<QueryResponseCell> cells = queryResponseRow.getCells();
         List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
+        for (int i = 0; i < cells.size(); i++) {
             PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : columns.get(i).getData());
+            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(cells.get(i)) : cells.get(i).getData());
         }
         return result;
     }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCopyDoneExecutorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Test
+    public void assertExecuteWithoutCopyInSession() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(1);
+        assertTrue(new PostgreSQLComCopyDoneExecutor(connectionSession).execute().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteWithCopyInSession() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(2);
+        PostgreSQLCopyInSession copyInSession = mock(PostgreSQLCopyInSession.class);
+        when(copyInSession.finish()).thenReturn(10L);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(2, copyInSession);
+        Collection<DatabasePacket<?>> actual = new PostgreSQLComCopyDoneExecutor(connectionSession).execute();
+        assertThat(actual.size(), is(2));
+        Iterator<DatabasePacket<?>> iterator = actual.iterator();
+        assertThat(iterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(iterator.next(), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        assertFalse(PostgreSQLCopyInSessionRegistry.getInstance().get(2).isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithCopyInSessionInTransaction() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(5);
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        PostgreSQLCopyInSession copyInSession = mock(PostgreSQLCopyInSession.class);
+        when(copyInSession.finish()).thenReturn(10L);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(5, copyInSession);
+        Collection<DatabasePacket<?>> actual = new PostgreSQLComCopyDoneExecutor(connectionSession).execute();
+        Iterator<DatabasePacket<?>> iterator = actual.iterator();
+        assertThat(iterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(iterator.next(), is(PostgreSQLReadyForQueryPacket.IN_TRANSACTION));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComCopyFailExecutorTest {
+    
+    @Mock
+    private PostgreSQLComCopyFailPacket packet;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Test
+    public void assertExecuteWithoutCopyInSession() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(3);
+        assertTrue(new PostgreSQLComCopyFailExecutor(packet, connectionSession).execute().isEmpty());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteWithCopyInSession() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(4);
+        when(packet.getErrorMessage()).thenReturn("canceled by user");
+        PostgreSQLCopyInSession copyInSession = mock(PostgreSQLCopyInSession.class);
+        PostgreSQLCopyInSessionRegistry.getInstance().register(4, copyInSession);
+        try {
+            new PostgreSQLComCopyFailExecutor(packet, connectionSession).execute();
+        } finally {
+            verify(copyInSession).abort();
+            assertFalse(PostgreSQLCopyInSessionRegistry.getInstance().get(4).isPresent());
+        }
+    }
+}
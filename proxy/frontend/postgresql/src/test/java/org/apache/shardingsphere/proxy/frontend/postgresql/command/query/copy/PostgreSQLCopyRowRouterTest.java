@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PostgreSQLCopyRowRouterTest {
+    
+    @Test
+    public void assertGetBackendCopySQL() {
+        assertThat(PostgreSQLCopyRowRouter.getBackendCopySQL("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, ?)"),
+                is("COPY t_order_0 (order_id, user_id, status) FROM STDIN"));
+    }
+    
+    @Test
+    public void assertGetBackendCopySQLWithDefaultColumns() {
+        assertThat(PostgreSQLCopyRowRouter.getBackendCopySQL("INSERT INTO t_order_0 (\"order_id\", \"user_id\", \"Status\") VALUES (?, ?, ?)"),
+                is("COPY t_order_0 (\"order_id\", \"user_id\", \"Status\") FROM STDIN"));
+    }
+    
+    @Test
+    public void assertGetBackendCopySQLWithGeneratedKeyAndEncryptColumns() {
+        assertThat(PostgreSQLCopyRowRouter.getBackendCopySQL("INSERT INTO public.t_user_1 (user_id, pwd_cipher, pwd_assisted) VALUES (?, ?, ?)"),
+                is("COPY public.t_user_1 (user_id, pwd_cipher, pwd_assisted) FROM STDIN"));
+    }
+}
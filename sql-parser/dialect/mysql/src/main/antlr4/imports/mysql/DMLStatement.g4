@@ -205,7 +205,7 @@ loadDataStatement
       (REPLACE | IGNORE)?
       INTO TABLE tableName partitionNames?
       (CHARACTER SET identifier)?
-      (COLUMNS selectFieldsInto+ )?
+      ((FIELDS | COLUMNS) selectFieldsInto+ )?
       ( LINES selectLinesInto+ )?
       ( IGNORE numberLiterals (LINES | ROWS) )?
       fieldOrVarSpec?
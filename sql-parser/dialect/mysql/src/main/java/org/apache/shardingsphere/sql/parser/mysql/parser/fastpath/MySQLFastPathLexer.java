@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Lexer of MySQL fast path.
+ *
+ * <p>Only plain words, back quoted identifiers, parameter markers, unsigned integer and decimal numbers, single quoted strings without escapes
+ * and few symbols are tokenized. Other input, such as comments, double quoted text and operators, is not tokenized, so that SQL falls back to ANTLR parser.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLFastPathLexer {
+    
+    private static final String SYMBOL_SUFFIX = "_SYMBOL";
+    
+    private static final Collection<String> KEYWORDS = createKeywords();
+    
+    private static Collection<String> createKeywords() {
+        Vocabulary vocabulary = MySQLLexer.VOCABULARY;
+        Collection<String> result = new HashSet<>();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(i);
+            if (null == symbolicName || symbolicName.endsWith("_")) {
+                continue;
+            }
+            result.add(symbolicName.endsWith(SYMBOL_SUFFIX) ? symbolicName.substring(0, symbolicName.length() - SYMBOL_SUFFIX.length()) : symbolicName);
+        }
+        return result;
+    }
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @return tokens, empty if SQL contains input which is not supported by fast path
+     */
+    public static Optional<List<MySQLFastPathToken>> tokenize(final String sql) {
+        List<MySQLFastPathToken> result = new ArrayList<>();
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (' ' == current || '\t' == current || '\r' == current || '\n' == current) {
+                index++;
+                continue;
+            }
+            int stopIndex = findStopIndex(sql, index);
+            if (stopIndex < index) {
+                return Optional.empty();
+            }
+            result.add(createToken(sql, index, stopIndex));
+            index = stopIndex + 1;
+        }
+        return Optional.of(result);
+    }
+    
+    private static int findStopIndex(final String sql, final int startIndex) {
+        char current = sql.charAt(startIndex);
+        if (isLetter(current)) {
+            return findWordStopIndex(sql, startIndex);
+        }
+        if (isDigit(current)) {
+            return findNumberStopIndex(sql, startIndex);
+        }
+        if ('\'' == current) {
+            return findQuotedStopIndex(sql, startIndex, '\'');
+        }
+        if ('`' == current) {
+            return findQuotedStopIndex(sql, startIndex, '`');
+        }
+        return null == getSymbolType(current) ? -1 : startIndex;
+    }
+    
+    private static int findWordStopIndex(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isWordPart(sql.charAt(result + 1))) {
+            result++;
+        }
+        return result + 1 < sql.length() && isAmbiguousWordPart(sql.charAt(result + 1)) ? -1 : result;
+    }
+    
+    private static int findNumberStopIndex(final String sql, final int startIndex) {
+        int result = findDigitsStopIndex(sql, startIndex);
+        if (result + 2 < sql.length() && '.' == sql.charAt(result + 1) && isDigit(sql.charAt(result + 2))) {
+            result = findDigitsStopIndex(sql, result + 2);
+        }
+        return result + 1 < sql.length() && (isWordPart(sql.charAt(result + 1)) || isAmbiguousWordPart(sql.charAt(result + 1)) || '.' == sql.charAt(result + 1)) ? -1 : result;
+    }
+    
+    private static int findDigitsStopIndex(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isDigit(sql.charAt(result + 1))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int findQuotedStopIndex(final String sql, final int startIndex, final char quote) {
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if ('\\' == current) {
+                return -1;
+            }
+            if (quote == current) {
+                boolean doubled = result + 1 < sql.length() && quote == sql.charAt(result + 1);
+                return doubled || result == startIndex + 1 ? -1 : result;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private static MySQLFastPathToken createToken(final String sql, final int startIndex, final int stopIndex) {
+        String text = sql.substring(startIndex, stopIndex + 1);
+        char first = sql.charAt(startIndex);
+        if (isLetter(first)) {
+            return new MySQLFastPathToken(KEYWORDS.contains(text.toUpperCase(Locale.ENGLISH)) ? MySQLFastPathTokenType.KEYWORD : MySQLFastPathTokenType.IDENTIFIER, text, startIndex, stopIndex);
+        }
+        if (isDigit(first)) {
+            return new MySQLFastPathToken(MySQLFastPathTokenType.NUMBER, text, startIndex, stopIndex);
+        }
+        if ('\'' == first) {
+            return new MySQLFastPathToken(MySQLFastPathTokenType.STRING, text, startIndex, stopIndex);
+        }
+        if ('`' == first) {
+            return new MySQLFastPathToken(MySQLFastPathTokenType.IDENTIFIER, text, startIndex, stopIndex);
+        }
+        return new MySQLFastPathToken(getSymbolType(first), text, startIndex, stopIndex);
+    }
+    
+    private static MySQLFastPathTokenType getSymbolType(final char symbol) {
+        switch (symbol) {
+            case '?':
+                return MySQLFastPathTokenType.PARAMETER_MARKER;
+            case '=':
+                return MySQLFastPathTokenType.EQ;
+            case ',':
+                return MySQLFastPathTokenType.COMMA;
+            case '(':
+                return MySQLFastPathTokenType.LP;
+            case ')':
+                return MySQLFastPathTokenType.RP;
+            case '.':
+                return MySQLFastPathTokenType.DOT;
+            case '*':
+                return MySQLFastPathTokenType.ASTERISK;
+            case ';':
+                return MySQLFastPathTokenType.SEMI;
+            default:
+                return null;
+        }
+    }
+    
+    private static boolean isLetter(final char value) {
+        return value >= 'a' && value <= 'z' || value >= 'A' && value <= 'Z';
+    }
+    
+    private static boolean isDigit(final char value) {
+        return value >= '0' && value <= '9';
+    }
+    
+    private static boolean isWordPart(final char value) {
+        return isLetter(value) || isDigit(value) || '_' == value;
+    }
+    
+    private static boolean isAmbiguousWordPart(final char value) {
+        return '$' == value || '\'' == value || value >= '\u0080';
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Recognizer of MySQL fast path.
+ *
+ * <p>Recognizer builds same segments with same indexes as MySQL statement visitor for following statements, and recognizes nothing else:</p>
+ * <ul>
+ *     <li>{@code SELECT * | column [, column ...] FROM table [WHERE column = value [AND column = value ...]]}</li>
+ *     <li>{@code INSERT INTO table [(column [, column ...])] VALUES | VALUE (value [, value ...]) [, (value [, value ...]) ...]}</li>
+ *     <li>{@code UPDATE table SET column = value [, column = value ...] [WHERE column = value [AND column = value ...]]}</li>
+ *     <li>{@code DELETE FROM table [WHERE column = value [AND column = value ...]]}</li>
+ * </ul>
+ *
+ * <p>Value is parameter marker, number or string, and statement may end with semicolon.</p>
+ */
+public final class MySQLFastPathRecognizer {
+    
+    private final String sql;
+    
+    private final List<MySQLFastPathToken> tokens;
+    
+    private final Collection<ParameterMarkerExpressionSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private int position;
+    
+    public MySQLFastPathRecognizer(final String sql, final List<MySQLFastPathToken> tokens) {
+        this.sql = sql;
+        this.tokens = tokens;
+    }
+    
+    /**
+     * Recognize SQL statement.
+     *
+     * @return SQL statement, empty if tokens are not recognized
+     */
+    public Optional<SQLStatement> recognize() {
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+        AbstractSQLStatement result = recognizeStatement();
+        if (null == result || !isEnd()) {
+            return Optional.empty();
+        }
+        result.getParameterMarkerSegments().addAll(parameterMarkerSegments);
+        return Optional.of(result);
+    }
+    
+    private AbstractSQLStatement recognizeStatement() {
+        MySQLFastPathToken first = tokens.get(0);
+        if (first.isKeyword("SELECT")) {
+            return recognizeSelect();
+        }
+        if (first.isKeyword("INSERT")) {
+            return recognizeInsert();
+        }
+        if (first.isKeyword("UPDATE")) {
+            return recognizeUpdate();
+        }
+        if (first.isKeyword("DELETE")) {
+            return recognizeDelete();
+        }
+        return null;
+    }
+    
+    private boolean isEnd() {
+        if (position < tokens.size() && MySQLFastPathTokenType.SEMI == tokens.get(position).getType()) {
+            position++;
+        }
+        return position == tokens.size();
+    }
+    
+    private MySQLSelectStatement recognizeSelect() {
+        position++;
+        ProjectionsSegment projections = recognizeProjections();
+        if (null == projections || null == nextKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = recognizeWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ProjectionsSegment recognizeProjections() {
+        List<ProjectionSegment> projections = new LinkedList<>();
+        MySQLFastPathToken asterisk = next(MySQLFastPathTokenType.ASTERISK);
+        if (null != asterisk) {
+            projections.add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+        } else {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+        }
+        while (null != next(MySQLFastPathTokenType.COMMA)) {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+        }
+        ProjectionsSegment result = new ProjectionsSegment(projections.get(0).getStartIndex(), projections.get(projections.size() - 1).getStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private MySQLInsertStatement recognizeInsert() {
+        position++;
+        if (null == nextKeyword("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = recognizeInsertColumns();
+        if (null == insertColumns) {
+            return null;
+        }
+        Collection<InsertValuesSegment> values = recognizeInsertValues();
+        if (null == values) {
+            return null;
+        }
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setInsertColumns(insertColumns);
+        result.getValues().addAll(values);
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertColumnsSegment recognizeInsertColumns() {
+        MySQLFastPathToken leftParen = next(MySQLFastPathTokenType.LP);
+        if (null == leftParen) {
+            return isKeyword("VALUES") || isKeyword("VALUE")
+                    ? new InsertColumnsSegment(tokens.get(position).getStartIndex() - 1, tokens.get(position).getStartIndex() - 1, Collections.emptyList())
+                    : null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (null != next(MySQLFastPathTokenType.COMMA));
+        MySQLFastPathToken rightParen = next(MySQLFastPathTokenType.RP);
+        return null == rightParen ? null : new InsertColumnsSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), columns);
+    }
+    
+    private Collection<InsertValuesSegment> recognizeInsertValues() {
+        if (null == nextKeyword("VALUES") && null == nextKeyword("VALUE")) {
+            return null;
+        }
+        Collection<InsertValuesSegment> result = new LinkedList<>();
+        do {
+            MySQLFastPathToken leftParen = next(MySQLFastPathTokenType.LP);
+            if (null == leftParen) {
+                return null;
+            }
+            List<ExpressionSegment> values = new LinkedList<>();
+            do {
+                ExpressionSegment value = recognizeValue();
+                if (null == value) {
+                    return null;
+                }
+                values.add(value);
+            } while (null != next(MySQLFastPathTokenType.COMMA));
+            MySQLFastPathToken rightParen = next(MySQLFastPathTokenType.RP);
+            if (null == rightParen) {
+                return null;
+            }
+            result.add(new InsertValuesSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), values));
+        } while (null != next(MySQLFastPathTokenType.COMMA));
+        return result;
+    }
+    
+    private MySQLUpdateStatement recognizeUpdate() {
+        position++;
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        SetAssignmentSegment setAssignment = recognizeSetAssignment();
+        if (null == setAssignment) {
+            return null;
+        }
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTable(table);
+        result.setSetAssignment(setAssignment);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = recognizeWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private SetAssignmentSegment recognizeSetAssignment() {
+        MySQLFastPathToken set = nextKeyword("SET");
+        if (null == set) {
+            return null;
+        }
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        AssignmentSegment assignment;
+        do {
+            ColumnSegment column = recognizeColumn();
+            if (null == column || null == next(MySQLFastPathTokenType.EQ)) {
+                return null;
+            }
+            ExpressionSegment value = recognizeValue();
+            if (null == value) {
+                return null;
+            }
+            List<ColumnSegment> columns = new LinkedList<>();
+            columns.add(column);
+            assignment = new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+            assignments.add(assignment);
+        } while (null != next(MySQLFastPathTokenType.COMMA));
+        return new SetAssignmentSegment(set.getStartIndex(), assignment.getStopIndex(), assignments);
+    }
+    
+    private MySQLDeleteStatement recognizeDelete() {
+        position++;
+        if (null == nextKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTable(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = recognizeWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private WhereSegment recognizeWhere() {
+        MySQLFastPathToken where = nextKeyword("WHERE");
+        ExpressionSegment result = recognizeEqualCondition();
+        while (null != result && isKeyword("AND")) {
+            String operator = tokens.get(position++).getText();
+            ExpressionSegment right = recognizeEqualCondition();
+            result = null == right ? null : createBinaryOperationExpression(result, right, operator);
+        }
+        return null == result ? null : new WhereSegment(where.getStartIndex(), result.getStopIndex(), result);
+    }
+    
+    private ExpressionSegment recognizeEqualCondition() {
+        ColumnSegment column = recognizeColumn();
+        if (null == column) {
+            return null;
+        }
+        MySQLFastPathToken operator = next(MySQLFastPathTokenType.EQ);
+        if (null == operator) {
+            return null;
+        }
+        ExpressionSegment value = recognizeValue();
+        return null == value ? null : createBinaryOperationExpression(column, value, operator.getText());
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        String text = sql.substring(left.getStartIndex(), right.getStopIndex() + 1);
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, text);
+    }
+    
+    private ExpressionSegment recognizeValue() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        MySQLFastPathToken token = tokens.get(position);
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                position++;
+                return createParameterMarker(token);
+            case NUMBER:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                return null;
+        }
+    }
+    
+    private ParameterMarkerExpressionSegment createParameterMarker(final MySQLFastPathToken token) {
+        ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterMarkerSegments.size(), ParameterMarkerType.QUESTION);
+        parameterMarkerSegments.add(result);
+        return result;
+    }
+    
+    private SimpleTableSegment recognizeTable() {
+        MySQLFastPathToken first = next(MySQLFastPathTokenType.IDENTIFIER);
+        if (null == first) {
+            return null;
+        }
+        if (null == next(MySQLFastPathTokenType.DOT)) {
+            return new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        MySQLFastPathToken name = next(MySQLFastPathTokenType.IDENTIFIER);
+        if (null == name) {
+            return null;
+        }
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(name.getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment recognizeColumn() {
+        List<MySQLFastPathToken> identifiers = new LinkedList<>();
+        do {
+            MySQLFastPathToken identifier = next(MySQLFastPathTokenType.IDENTIFIER);
+            if (null == identifier) {
+                return null;
+            }
+            identifiers.add(identifier);
+        } while (identifiers.size() < 3 && null != next(MySQLFastPathTokenType.DOT));
+        MySQLFastPathToken name = identifiers.get(identifiers.size() - 1);
+        ColumnSegment result = new ColumnSegment(identifiers.get(0).getStartIndex(), name.getStopIndex(), new IdentifierValue(name.getText()));
+        if (2 == identifiers.size()) {
+            result.setOwner(createOwner(identifiers.get(0)));
+        } else if (3 == identifiers.size()) {
+            OwnerSegment owner = createOwner(identifiers.get(1));
+            owner.setOwner(createOwner(identifiers.get(0)));
+            result.setOwner(owner);
+        }
+        return result;
+    }
+    
+    private OwnerSegment createOwner(final MySQLFastPathToken identifier) {
+        return new OwnerSegment(identifier.getStartIndex(), identifier.getStopIndex(), new IdentifierValue(identifier.getText()));
+    }
+    
+    private boolean isKeyword(final String keyword) {
+        return position < tokens.size() && tokens.get(position).isKeyword(keyword);
+    }
+    
+    private MySQLFastPathToken nextKeyword(final String keyword) {
+        return isKeyword(keyword) ? tokens.get(position++) : null;
+    }
+    
+    private MySQLFastPathToken next(final MySQLFastPathTokenType type) {
+        return position < tokens.size() && type == tokens.get(position).getType() ? tokens.get(position++) : null;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser.fastpath;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Token of MySQL fast path.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLFastPathToken {
+    
+    private final MySQLFastPathTokenType type;
+    
+    private final String text;
+    
+    private final int startIndex;
+    
+    private final int stopIndex;
+    
+    /**
+     * Judge whether token is keyword.
+     *
+     * @param keyword keyword in upper case
+     * @return is keyword or not
+     */
+    public boolean isKeyword(final String keyword) {
+        return MySQLFastPathTokenType.KEYWORD == type && keyword.equalsIgnoreCase(text);
+    }
+}
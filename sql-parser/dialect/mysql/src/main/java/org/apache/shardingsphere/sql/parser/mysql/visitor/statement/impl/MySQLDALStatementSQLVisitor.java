@@ -44,10 +44,12 @@ import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.FlushCo
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.FromSchemaContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.FromTableContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.HelpContext;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.IdentifierContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.IndexNameContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.InstallComponentContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.InstallPluginContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.KillContext;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.LoadDataStatementContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.LoadIndexInfoContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.LoadTableIndexListContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.OptimizeTableContext;
@@ -62,6 +64,8 @@ import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.ResetOp
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.ResetPersistContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.ResetStatementContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.RestartContext;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.SelectFieldsIntoContext;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.SelectLinesIntoContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.SetCharacterContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.SetResourceGroupContext;
 import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.SetVariableContext;
@@ -127,6 +131,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.ShowLikeSegme
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.ddl.index.IndexSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.FunctionSegment;
@@ -210,6 +215,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQ
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLUninstallComponentStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLUninstallPluginStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLUseStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.segment.CacheTableIndexSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.segment.CloneActionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.segment.CloneInstanceSegment;
@@ -493,6 +499,86 @@ public final class MySQLDALStatementSQLVisitor extends MySQLStatementSQLVisitor
         return result;
     }
     
+    @Override
+    public ASTNode visitLoadDataStatement(final LoadDataStatementContext ctx) {
+        MySQLLoadDataStatement result = new MySQLLoadDataStatement();
+        result.setFileName(unescapeString(ctx.string_().getText()));
+        result.setLocal(null != ctx.LOCAL());
+        result.setReplace(null != ctx.REPLACE());
+        result.setIgnore(ctx.IGNORE().stream().anyMatch(each -> each.getSymbol().getTokenIndex() < ctx.INTO().getSymbol().getTokenIndex()));
+        result.setTableSegment((SimpleTableSegment) visit(ctx.tableName()));
+        for (SelectFieldsIntoContext each : ctx.selectFieldsInto()) {
+            setFieldsOption(result, each);
+        }
+        for (SelectLinesIntoContext each : ctx.selectLinesInto()) {
+            if (null == each.STARTING()) {
+                result.setLinesTerminatedBy(unescapeString(each.string_().getText()));
+            } else {
+                result.setLinesStartingBy(unescapeString(each.string_().getText()));
+            }
+        }
+        if (null != ctx.numberLiterals()) {
+            result.setIgnoredLines(((NumberLiteralValue) visit(ctx.numberLiterals())).getValue().longValue());
+        }
+        if (null != ctx.fieldOrVarSpec()) {
+            for (IdentifierContext each : ctx.fieldOrVarSpec().identifier()) {
+                result.getColumns().add(new ColumnSegment(each.getStart().getStartIndex(), each.getStop().getStopIndex(), (IdentifierValue) visit(each)));
+            }
+        }
+        if (null != ctx.setAssignmentsClause()) {
+            result.setSetAssignment((SetAssignmentSegment) visit(ctx.setAssignmentsClause()));
+        }
+        return result;
+    }
+    
+    private void setFieldsOption(final MySQLLoadDataStatement loadDataStatement, final SelectFieldsIntoContext ctx) {
+        String value = unescapeString(ctx.string_().getText());
+        if (null != ctx.TERMINATED()) {
+            loadDataStatement.setFieldsTerminatedBy(value);
+        } else if (null != ctx.ENCLOSED()) {
+            loadDataStatement.setFieldsEnclosedBy(value);
+            loadDataStatement.setFieldsOptionallyEnclosed(null != ctx.OPTIONALLY());
+        } else {
+            loadDataStatement.setFieldsEscapedBy(value);
+        }
+    }
+    
+    private String unescapeString(final String text) {
+        char quote = text.charAt(0);
+        String value = text.substring(1, text.length() - 1);
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' == each && i + 1 < value.length()) {
+                result.append(getEscapedChar(value.charAt(++i)));
+            } else if (quote == each && i + 1 < value.length() && quote == value.charAt(i + 1)) {
+                result.append(value.charAt(++i));
+            } else {
+                result.append(each);
+            }
+        }
+        return result.toString();
+    }
+    
+    private char getEscapedChar(final char escaped) {
+        switch (escaped) {
+            case '0':
+                return '\0';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return '\032';
+            default:
+                return escaped;
+        }
+    }
+    
     @Override
     public ASTNode visitLoadTableIndexList(final LoadTableIndexListContext ctx) {
         LoadTableIndexSegment result = new LoadTableIndexSegment(ctx.getStart().getStartIndex(), ctx.getStop().getStopIndex(), (SimpleTableSegment) visit(ctx.tableName()));
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.mysql.parser.fastpath.MySQLFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFastPathSQLParserTest {
+    
+    private final MySQLFastPathSQLParser parser = new MySQLFastPathSQLParser();
+    
+    @Test
+    public void assertParseSelectByPrimaryKey() {
+        Optional<SQLStatement> actual = parser.parse("SELECT * FROM t_order WHERE order_id = ? and user_id = 10;");
+        assertTrue(actual.isPresent());
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getProjections().iterator().next(), instanceOf(ShorthandProjectionSegment.class));
+        assertThat(((SimpleTableSegment) selectStatement.getFrom()).getTableName().getIdentifier().getValue(), is("t_order"));
+        assertTrue(selectStatement.getWhere().isPresent());
+        BinaryOperationExpression where = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(where.getOperator(), is("and"));
+        assertThat(where.getText(), is("order_id = ? and user_id = 10"));
+        assertThat(where.getStopIndex(), is(56));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) where.getRight()).getRight()).getLiterals(), is(10));
+        assertThat(selectStatement.getParameterMarkerSegments().size(), is(1));
+    }
+    
+    @Test
+    public void assertParseInsertWithMultipleValues() {
+        Optional<SQLStatement> actual = parser.parse("INSERT INTO sharding_db.t_order (order_id, `user_id`) VALUES (?, ?), (2, 'init')");
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertThat(insertStatement.getTable().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertTrue(insertStatement.getTable().getOwner().isPresent());
+        assertThat(insertStatement.getTable().getOwner().get().getIdentifier().getValue(), is("sharding_db"));
+        assertThat(insertStatement.getColumns().size(), is(2));
+        assertThat(insertStatement.getValues().size(), is(2));
+        Iterator<InsertValuesSegment> values = insertStatement.getValues().iterator();
+        assertThat(((ParameterMarkerExpressionSegment) values.next().getValues().get(1)).getParameterMarkerIndex(), is(1));
+        assertThat(((LiteralExpressionSegment) values.next().getValues().get(1)).getLiterals(), is("init"));
+        assertThat(insertStatement.getParameterMarkerSegments().size(), is(2));
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        Optional<SQLStatement> actual = parser.parse("UPDATE t_order SET user_id = ?, price = 1.5 WHERE order_id = ?");
+        assertTrue(actual.isPresent());
+        MySQLUpdateStatement updateStatement = (MySQLUpdateStatement) actual.get();
+        assertThat(updateStatement.getSetAssignment().getAssignments().size(), is(2));
+        ColumnAssignmentSegment assignment = (ColumnAssignmentSegment) updateStatement.getSetAssignment().getAssignments().iterator().next();
+        assertThat(assignment.getColumns().get(0).getIdentifier().getValue(), is("user_id"));
+        assertThat(((ParameterMarkerExpressionSegment) ((BinaryOperationExpression) updateStatement.getWhere().get().getExpr()).getRight()).getParameterMarkerIndex(), is(1));
+    }
+    
+    @Test
+    public void assertParseDelete() {
+        Optional<SQLStatement> actual = parser.parse("DELETE FROM t_order WHERE t_order.order_id = ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(MySQLDeleteStatement.class));
+        assertThat(actual.get().getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertNotParseUnsupportedSQL() {
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id = ? ORDER BY order_id").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order o WHERE o.order_id = ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id > ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE status = ?").isPresent());
+        assertFalse(parser.parse("/* comment */ SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE remark = 'it\\'s'").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id = 0x1F").isPresent());
+        assertFalse(parser.parse("UPDATE t_order SET user_id = ? WHERE order_id = ?; DELETE FROM t_order").isPresent());
+        assertFalse(parser.parse("INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = ?").isPresent());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.core.database.normalizer.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.core.database.normalizer.SQLLiteralNormalizer;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLLiteralNormalizerTest {
+    
+    private final SQLLiteralNormalizer normalizer = new SQLLiteralNormalizer("MySQL");
+    
+    @Test
+    public void assertNormalizeSelectWithPredicates() {
+        NormalizedSQL actual = normalizer.normalize("SELECT * FROM t_order WHERE order_id = 1 AND status IN ('init', 'paid') AND amount BETWEEN 10.5 AND 20 LIMIT 5, 10");
+        assertTrue(actual.isNormalized());
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status IN (?, ?) AND amount BETWEEN ? AND ? LIMIT ?, ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, "init", "paid", new BigDecimal("10.5"), 20, 5, 10)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertValues() {
+        NormalizedSQL actual = normalizer.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'it''s'), (2, 'paid')");
+        assertThat(actual.getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, "it's", 2, "paid")));
+    }
+    
+    @Test
+    public void assertNormalizeUpdateWithComment() {
+        NormalizedSQL actual = normalizer.normalize("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ UPDATE t_order SET status = 'paid' WHERE order_id = 1");
+        assertThat(actual.getSql(), is("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ UPDATE t_order SET status = ? WHERE order_id = ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList("paid", 1)));
+    }
+    
+    @Test
+    public void assertNotNormalizeProjectionAndOrderBy() {
+        NormalizedSQL actual = normalizer.normalize("SELECT 1, status = 'paid' AS paid FROM t_order WHERE user_id = -1 ORDER BY 1");
+        assertFalse(actual.isNormalized());
+        assertThat(actual.getSql(), is("SELECT 1, status = 'paid' AS paid FROM t_order WHERE user_id = -1 ORDER BY 1"));
+    }
+    
+    @Test
+    public void assertNotNormalizeFunctionArguments() {
+        NormalizedSQL actual = normalizer.normalize("SELECT * FROM t_order WHERE DATE_FORMAT(create_time, '%Y') = '2023' AND price = CAST('1.5' AS DECIMAL(10, 2))");
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE DATE_FORMAT(create_time, '%Y') = ? AND price = CAST('1.5' AS DECIMAL(10, 2))"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList("2023")));
+    }
+    
+    @Test
+    public void assertNotNormalizeWithParameterMarker() {
+        assertFalse(normalizer.normalize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isNormalized());
+    }
+    
+    @Test
+    public void assertNotNormalizeMultiStatements() {
+        assertFalse(normalizer.normalize("UPDATE t_order SET status = 'paid' WHERE order_id = 1; UPDATE t_order SET status = 'paid' WHERE order_id = 2").isNormalized());
+    }
+    
+    @Test
+    public void assertNotNormalizeNonDMLStatement() {
+        assertFalse(normalizer.normalize("SHOW TABLES LIKE 't_order'").isNormalized());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+import org.apache.shardingsphere.sql.parser.mysql.visitor.statement.impl.MySQLDALStatementSQLVisitor;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLLoadDataVisitorTest {
+    
+    @Test
+    public void assertLoadDataLocalWithOptions() {
+        MySQLLoadDataStatement actual = parse("LOAD DATA LOCAL INFILE '/tmp/t_order.csv' IGNORE INTO TABLE t_order FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' "
+                + "LINES STARTING BY 'x' TERMINATED BY '\\r\\n' IGNORE 1 LINES (order_id, user_id)");
+        assertThat(actual.getFileName(), is("/tmp/t_order.csv"));
+        assertTrue(actual.isLocal());
+        assertTrue(actual.isIgnore());
+        assertFalse(actual.isReplace());
+        assertThat(actual.getTableSegment().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(actual.getFieldsTerminatedBy(), is(","));
+        assertThat(actual.getFieldsEnclosedBy(), is("\""));
+        assertTrue(actual.isFieldsOptionallyEnclosed());
+        assertThat(actual.getFieldsEscapedBy(), is("\\"));
+        assertThat(actual.getLinesStartingBy(), is("x"));
+        assertThat(actual.getLinesTerminatedBy(), is("\r\n"));
+        assertThat(actual.getIgnoredLines(), is(1L));
+        assertThat(actual.getColumns().stream().map(each -> each.getIdentifier().getValue()).collect(Collectors.toList()), is(Arrays.asList("order_id", "user_id")));
+    }
+    
+    @Test
+    public void assertLoadDataWithDefaultOptions() {
+        MySQLLoadDataStatement actual = parse("LOAD DATA INFILE 'data.txt' REPLACE INTO TABLE t_order");
+        assertFalse(actual.isLocal());
+        assertFalse(actual.isIgnore());
+        assertTrue(actual.isReplace());
+        assertThat(actual.getFieldsTerminatedBy(), is("\t"));
+        assertThat(actual.getFieldsEnclosedBy(), is(""));
+        assertThat(actual.getLinesTerminatedBy(), is("\n"));
+        assertThat(actual.getIgnoredLines(), is(0L));
+        assertTrue(actual.getColumns().isEmpty());
+        assertFalse(actual.getSetAssignment().isPresent());
+    }
+    
+    private MySQLLoadDataStatement parse(final String sql) {
+        CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
+        MySQLLexer lexer = new MySQLLexer(CodePointCharStream.fromBuffer(buffer));
+        MySQLStatementParser parser = new MySQLStatementParser(new CommonTokenStream(lexer));
+        MySQLLoadDataStatement result = (MySQLLoadDataStatement) new MySQLDALStatementSQLVisitor().visit(parser.loadStatement());
+        assertThat("parse error", parser.getNumberOfSyntaxErrors(), is(0));
+        return result;
+    }
+}
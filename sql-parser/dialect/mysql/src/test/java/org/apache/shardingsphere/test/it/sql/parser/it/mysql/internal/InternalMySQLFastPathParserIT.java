@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.sql.parser.it.mysql.internal;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.mysql.parser.fastpath.MySQLFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.it.sql.parser.internal.InternalSQLParserTestParameter;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAssertContext;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.statement.SQLStatementAssert;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.SQLParserTestCases;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.SQLParserTestCase;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.registry.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.SQLCases;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.registry.SQLCasesRegistry;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.type.SQLCaseType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public final class InternalMySQLFastPathParserIT {
+    
+    private static final SQLCases SQL_CASES = SQLCasesRegistry.getInstance().getCases();
+    
+    private static final SQLParserTestCases SQL_PARSER_TEST_CASES = SQLParserTestCasesRegistry.getInstance().getCases();
+    
+    private final String sqlCaseId;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    public InternalMySQLFastPathParserIT(final InternalSQLParserTestParameter testParam) {
+        sqlCaseId = testParam.getSqlCaseId();
+        sqlCaseType = testParam.getSqlCaseType();
+    }
+    
+    @Parameters(name = "{0}")
+    public static Collection<InternalSQLParserTestParameter> getTestParameters() {
+        Collection<InternalSQLParserTestParameter> result = new LinkedList<>();
+        for (InternalSQLParserTestParameter each : SQL_CASES.generateTestParameters(Collections.singleton("MySQL"))) {
+            if (SQLCaseType.Literal == each.getSqlCaseType() || !SQL_PARSER_TEST_CASES.get(each.getSqlCaseId()).getParameters().isEmpty()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertSameAsANTLRParser() {
+        SQLParserTestCase expected = SQL_PARSER_TEST_CASES.get(sqlCaseId);
+        String sql = SQL_CASES.getSQL(sqlCaseId, sqlCaseType, expected.getParameters());
+        Optional<SQLStatement> actual = new MySQLFastPathSQLParser().parse(sql);
+        if (!actual.isPresent()) {
+            return;
+        }
+        SQLStatement antlrStatement = new SQLVisitorEngine("MySQL", "STATEMENT", true, new Properties()).visit(new SQLParserEngine("MySQL", new CacheOption(128, 1024L)).parse(sql, false));
+        assertThat(actual.get(), instanceOf(antlrStatement.getClass()));
+        assertParameterMarkers(((AbstractSQLStatement) actual.get()).getParameterMarkerSegments(), ((AbstractSQLStatement) antlrStatement).getParameterMarkerSegments());
+        SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sql, expected.getParameters(), sqlCaseType), actual.get(), expected);
+    }
+    
+    private void assertParameterMarkers(final Collection<ParameterMarkerSegment> actual, final Collection<ParameterMarkerSegment> expected) {
+        assertThat(actual.size(), is(expected.size()));
+        Iterator<ParameterMarkerSegment> expectedIterator = expected.iterator();
+        for (ParameterMarkerSegment each : actual) {
+            ParameterMarkerSegment expectedSegment = expectedIterator.next();
+            assertThat(each.getParameterIndex(), is(expectedSegment.getParameterIndex()));
+            assertThat(each.getStartIndex(), is(expectedSegment.getStartIndex()));
+            assertThat(each.getStopIndex(), is(expectedSegment.getStopIndex()));
+        }
+    }
+}
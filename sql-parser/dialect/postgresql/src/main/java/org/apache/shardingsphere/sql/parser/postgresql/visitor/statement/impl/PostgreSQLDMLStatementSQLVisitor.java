@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.sql.parser.postgresql.visitor.statement.impl;
 
 import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.operation.SQLStatementVisitor;
 import org.apache.shardingsphere.sql.parser.api.visitor.type.DMLSQLVisitor;
@@ -26,12 +29,15 @@ import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.Ca
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CheckpointContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionListContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableBinaryContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryBinaryCsvContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.DoStatementContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.PreparableStmtContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.ReturningClauseContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.ReturningSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -115,9 +121,104 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        setCopyTarget(result, null != ctx.FROM(), null != ctx.STDIN() || null != ctx.STDOUT());
+        if (null != ctx.copyOptionList()) {
+            setCopyOptions(result, ctx.copyOptionList());
+        }
         return result;
     }
     
+    private void setCopyTarget(final PostgreSQLCopyStatement copyStatement, final boolean copyIn, final boolean standardStream) {
+        copyStatement.setCopyIn(copyIn);
+        copyStatement.setStandardStream(standardStream);
+    }
+    
+    private void setCopyOptions(final PostgreSQLCopyStatement copyStatement, final CopyOptionListContext ctx) {
+        for (CopyOptionContext each : ctx.copyOption()) {
+            String optionName = each.getChild(0).getText().toUpperCase();
+            if (1 == each.getChildCount()) {
+                copyStatement.getOptions().put(optionName, Boolean.TRUE.toString());
+            } else {
+                copyStatement.getOptions().put(optionName, null == each.STRING_() ? each.getChild(1).getText() : getCopyOptionStringValue(each.STRING_().getText()));
+            }
+        }
+    }
+    
+    private void setLegacyCopyOptions(final PostgreSQLCopyStatement copyStatement, final ParserRuleContext ctx) {
+        String optionName = null;
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            ParseTree child = ctx.getChild(i);
+            if (!(child instanceof TerminalNode)) {
+                continue;
+            }
+            if (PostgreSQLStatementParser.STRING_ == ((TerminalNode) child).getSymbol().getType()) {
+                if (null != optionName) {
+                    copyStatement.getOptions().put(optionName, getCopyOptionStringValue(child.getText()));
+                    optionName = null;
+                }
+                continue;
+            }
+            String keyword = child.getText().toUpperCase();
+            switch (keyword) {
+                case "BINARY":
+                case "CSV":
+                    copyStatement.getOptions().put("FORMAT", keyword.toLowerCase());
+                    break;
+                case "HEADER":
+                    copyStatement.getOptions().put(keyword, Boolean.TRUE.toString());
+                    break;
+                case "DELIMITER":
+                case "DELIMITERS":
+                    optionName = "DELIMITER";
+                    break;
+                case "NULL":
+                case "QUOTE":
+                case "ESCAPE":
+                    optionName = keyword;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+    
+    private String getCopyOptionStringValue(final String text) {
+        boolean escapeString = 'E' == Character.toUpperCase(text.charAt(0));
+        String value = text.substring(escapeString ? 2 : 1, text.length() - 1);
+        if (!escapeString) {
+            return value.replace("''", "'");
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' == each && i + 1 < value.length()) {
+                result.append(getEscapedChar(value.charAt(++i)));
+            } else if ('\'' == each && i + 1 < value.length() && '\'' == value.charAt(i + 1)) {
+                result.append(value.charAt(++i));
+            } else {
+                result.append(each);
+            }
+        }
+        return result.toString();
+    }
+    
+    private char getEscapedChar(final char escaped) {
+        switch (escaped) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            default:
+                return escaped;
+        }
+    }
+    
     private PrepareStatementQuerySegment extractPrepareStatementQuerySegmentFromPreparableStmt(final PreparableStmtContext ctx) {
         PrepareStatementQuerySegment result = new PrepareStatementQuerySegment(ctx.start.getStartIndex(), ctx.stop.getStopIndex());
         if (null != ctx.select()) {
@@ -144,6 +245,8 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        setCopyTarget(result, null != ctx.FROM(), null != ctx.STDIN() || null != ctx.STDOUT());
+        setLegacyCopyOptions(result, ctx);
         return result;
     }
     
@@ -153,6 +256,8 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
         if (null != ctx.qualifiedName()) {
             result.setTableSegment((SimpleTableSegment) visit(ctx.qualifiedName()));
         }
+        setCopyTarget(result, null != ctx.FROM(), null != ctx.STDIN() || null != ctx.STDOUT());
+        setLegacyCopyOptions(result, ctx);
         return result;
     }
     
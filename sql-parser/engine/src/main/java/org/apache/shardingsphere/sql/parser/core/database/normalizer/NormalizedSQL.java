@@ -15,34 +15,30 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+package org.apache.shardingsphere.sql.parser.core.database.normalizer;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigInteger;
 import java.util.List;
 
 /**
- * BIT_XOR aggregation unit.
+ * Normalized SQL.
  */
 @RequiredArgsConstructor
-public final class BitXorAggregationUnit implements AggregationUnit {
+@Getter
+public final class NormalizedSQL {
     
-    private BigInteger result;
+    private final String sql;
     
-    @Override
-    public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
-            return;
-        }
-        if (null == result) {
-            result = BigInteger.ZERO;
-        }
-        result = result.xor(new BigInteger(values.get(0).toString()));
-    }
+    private final List<Object> parameters;
     
-    @Override
-    public Comparable<?> getResult() {
-        return result;
+    /**
+     * Judge whether any literal has been replaced by parameter marker.
+     *
+     * @return any literal has been replaced by parameter marker or not
+     */
+    public boolean isNormalized() {
+        return !parameters.isEmpty();
     }
 }
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.normalizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL literal normalizer.
+ *
+ * <p>Literals of DML statements are replaced by parameter markers, so that statements only differ in constants share same normalized SQL,
+ * which can be used as key of SQL statement cache, and extracted literals are returned as parameters in order.</p>
+ *
+ * <p>Only literals which are safe to bind are replaced: operands of comparison, {@code LIKE} and {@code BETWEEN} predicates in
+ * {@code WHERE}, {@code HAVING}, {@code ON} and {@code SET} clauses, elements of {@code IN} lists and {@code VALUES} rows, and row count of {@code LIMIT}.
+ * Literals of projections, {@code ORDER BY} and {@code GROUP BY} are kept because parameters would change their meaning.
+ * SQL which already contains parameter marker or contains more than one statement is kept as it is.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLLiteralNormalizer {
+    
+    private static final Collection<String> STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> PREDICATE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "HAVING", "ON", "SET", "UPDATE"));
+    
+    private static final Collection<String> LIMIT_KEYWORDS = new HashSet<>(Arrays.asList("LIMIT", "OFFSET"));
+    
+    private static final Collection<String> VALUES_KEYWORDS = new HashSet<>(Arrays.asList("VALUES", "VALUE"));
+    
+    private static final Collection<String> OTHER_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "SELECT", "INSERT", "DELETE", "INTO", "FROM", "JOIN", "ORDER", "GROUP", "WINDOW", "PARTITION", "UNION", "RETURNING", "FETCH"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("EQ_", "NEQ_", "LT_", "LTE_", "GT_", "GTE_", "LIKE"));
+    
+    private static final Collection<String> STRING_LITERALS = new HashSet<>(Arrays.asList("STRING_", "SINGLE_QUOTED_TEXT"));
+    
+    private static final String NUMBER_LITERAL = "NUMBER_";
+    
+    private static final Collection<String> SIGN_OPERATORS = new HashSet<>(Arrays.asList("MINUS_", "PLUS_"));
+    
+    private static final Collection<String> LITERAL_SUFFIXES = new HashSet<>(Arrays.asList("COLLATE", "TYPE_CAST_"));
+    
+    private final String databaseType;
+    
+    /**
+     * Normalize SQL.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public NormalizedSQL normalize(final String sql) {
+        Lexer lexer = createLexer(sql);
+        Vocabulary vocabulary = lexer.getVocabulary();
+        List<Token> tokens = getDefaultChannelTokens(lexer);
+        if (!isNormalizable(tokens, vocabulary)) {
+            return new NormalizedSQL(sql, Collections.emptyList());
+        }
+        StringBuilder normalizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new LinkedList<>();
+        LinkedList<Scope> scopes = new LinkedList<>();
+        scopes.push(new Scope(Clause.OTHER));
+        int lastStopIndex = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            String name = getName(token, vocabulary);
+            String previousName = i > 0 ? getName(tokens.get(i - 1), vocabulary) : "";
+            String nextName = i < tokens.size() - 1 ? getName(tokens.get(i + 1), vocabulary) : "";
+            Scope scope = scopes.peek();
+            if (isLiteral(name) && isParameterizable(scope, previousName, nextName)) {
+                Object parameter = getParameter(name, token.getText());
+                if (null != parameter) {
+                    normalizedSQL.append(sql, lastStopIndex, token.getStartIndex()).append('?');
+                    lastStopIndex = token.getStopIndex() + 1;
+                    parameters.add(parameter);
+                }
+                continue;
+            }
+            if ("LP_".equals(name)) {
+                scopes.push(new Scope(scope.clause, "IN".equals(previousName) || scope.valuesList && (VALUES_KEYWORDS.contains(previousName) || "COMMA_".equals(previousName))));
+            } else if ("RP_".equals(name)) {
+                if (scopes.size() > 1) {
+                    scopes.pop();
+                }
+            } else {
+                updateScope(scope, name);
+            }
+        }
+        if (parameters.isEmpty()) {
+            return new NormalizedSQL(sql, Collections.emptyList());
+        }
+        normalizedSQL.append(sql, lastStopIndex, sql.length());
+        return new NormalizedSQL(normalizedSQL.toString(), new ArrayList<>(parameters));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Lexer createLexer(final String sql) {
+        DatabaseTypedSQLParserFacade sqlParserFacade = TypedSPILoader.getService(DatabaseTypedSQLParserFacade.class, databaseType);
+        Lexer result = (Lexer) sqlParserFacade.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
+        result.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        return result;
+    }
+    
+    private List<Token> getDefaultChannelTokens(final Lexer lexer) {
+        List<Token> result = new ArrayList<>();
+        for (Token each = lexer.nextToken(); Token.EOF != each.getType(); each = lexer.nextToken()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isNormalizable(final List<Token> tokens, final Vocabulary vocabulary) {
+        if (tokens.isEmpty() || !STATEMENT_KEYWORDS.contains(getName(tokens.get(0), vocabulary))) {
+            return false;
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            String name = getName(tokens.get(i), vocabulary);
+            if ("QUESTION_".equals(name) || "SEMI_".equals(name) && i < tokens.size() - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String getName(final Token token, final Vocabulary vocabulary) {
+        String result = vocabulary.getSymbolicName(token.getType());
+        return null == result ? "" : result;
+    }
+    
+    private boolean isLiteral(final String name) {
+        return STRING_LITERALS.contains(name) || NUMBER_LITERAL.equals(name);
+    }
+    
+    private boolean isParameterizable(final Scope scope, final String previousName, final String nextName) {
+        if (SIGN_OPERATORS.contains(previousName) || LITERAL_SUFFIXES.contains(nextName) || isLiteral(previousName) || isLiteral(nextName)) {
+            return false;
+        }
+        if (scope.literalList && ("LP_".equals(previousName) || "COMMA_".equals(previousName))) {
+            return "RP_".equals(nextName) || "COMMA_".equals(nextName);
+        }
+        switch (scope.clause) {
+            case PREDICATE:
+                return COMPARISON_OPERATORS.contains(previousName) || "BETWEEN".equals(previousName) || "AND".equals(previousName) && scope.betweenAnd;
+            case LIMIT:
+                return LIMIT_KEYWORDS.contains(previousName) || "COMMA_".equals(previousName);
+            default:
+                return false;
+        }
+    }
+    
+    private Object getParameter(final String name, final String text) {
+        if (NUMBER_LITERAL.equals(name)) {
+            return text.indexOf('e') >= 0 || text.indexOf('E') >= 0 ? null : new NumberLiteralValue(text).getValue();
+        }
+        if ('\'' != text.charAt(0) || text.indexOf('\\') >= 0) {
+            return null;
+        }
+        return text.substring(1, text.length() - 1).replace("''", "'");
+    }
+    
+    private void updateScope(final Scope scope, final String name) {
+        if ("BETWEEN".equals(name)) {
+            scope.betweenPending = true;
+            return;
+        }
+        if ("AND".equals(name)) {
+            scope.betweenAnd = scope.betweenPending;
+            scope.betweenPending = false;
+            return;
+        }
+        if (PREDICATE_KEYWORDS.contains(name)) {
+            scope.changeClause(Clause.PREDICATE);
+        } else if (LIMIT_KEYWORDS.contains(name)) {
+            scope.changeClause(Clause.LIMIT);
+        } else if (VALUES_KEYWORDS.contains(name)) {
+            scope.changeClause(Clause.OTHER);
+            scope.valuesList = true;
+        } else if (OTHER_CLAUSE_KEYWORDS.contains(name)) {
+            scope.changeClause(Clause.OTHER);
+        }
+    }
+    
+    private enum Clause {
+        
+        PREDICATE, LIMIT, OTHER
+    }
+    
+    private static final class Scope {
+        
+        private Clause clause;
+        
+        private final boolean literalList;
+        
+        private boolean valuesList;
+        
+        private boolean betweenPending;
+        
+        private boolean betweenAnd;
+        
+        Scope(final Clause clause) {
+            this(clause, false);
+        }
+        
+        Scope(final Clause clause, final boolean literalList) {
+            this.clause = clause;
+            this.literalList = literalList;
+        }
+        
+        private void changeClause(final Clause clause) {
+            this.clause = clause;
+            valuesList = false;
+        }
+    }
+}
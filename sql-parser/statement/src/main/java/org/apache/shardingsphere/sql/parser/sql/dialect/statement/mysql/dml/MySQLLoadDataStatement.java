@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.LoadDataStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.MySQLStatement;
+
+import java.util.Optional;
+
+/**
+ * MySQL load data statement.
+ */
+@Getter
+@Setter
+public final class MySQLLoadDataStatement extends LoadDataStatement implements MySQLStatement {
+    
+    private String fileName;
+    
+    private boolean local;
+    
+    private boolean replace;
+    
+    private boolean ignore;
+    
+    private String fieldsTerminatedBy = "\t";
+    
+    private String fieldsEnclosedBy = "";
+    
+    private boolean fieldsOptionallyEnclosed;
+    
+    private String fieldsEscapedBy = "\\";
+    
+    private String linesStartingBy = "";
+    
+    private String linesTerminatedBy = "\n";
+    
+    private long ignoredLines;
+    
+    private SetAssignmentSegment setAssignment;
+    
+    /**
+     * Get set assignment segment.
+     *
+     * @return set assignment segment
+     */
+    public Optional<SetAssignmentSegment> getSetAssignment() {
+        return Optional.ofNullable(setAssignment);
+    }
+}